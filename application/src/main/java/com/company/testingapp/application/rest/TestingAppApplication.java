@@ -2,6 +2,7 @@ package com.company.testingapp.application.rest;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
@@ -10,7 +11,19 @@ import org.springframework.context.annotation.ComponentScan;
 })
 
 public class TestingAppApplication {
+
+    /**
+     * Startup steps kept for the startup report and {@code /actuator/startup}.
+     */
+    static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(TestingAppApplication.class, args);
+        application().run(args);
+    }
+
+    static SpringApplication application() {
+        SpringApplication application = new SpringApplication(TestingAppApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        return application;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,194 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.infrastructure.compression.CompressedPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Weighs the bytes gzip saves against the CPU it costs per request, for compressing every
+ * response the way {@code server.compression} does and for serving a
+ * {@link CompressedPayload} that was compressed once.
+ *
+ * <p>The payloads are the OpenAPI document as JSON, the Swagger UI stylesheet and bundle
+ * from the springdoc webjar, and the health response, which is below the 2 KB
+ * {@code min-response-size} and therefore sent uncompressed by the server. Tomcat
+ * compresses at the {@code Deflater} default level 6; level 1 is shown for comparison. The
+ * {@code precompressed} scenario writes the cached gzip copy into a discarding response, and its
+ * one-time column is the CPU spent compressing it at level 9 when it was cached. CPU is
+ * thread CPU time from {@code java.lang.management.ThreadMXBean}.</p>
+ *
+ * <p>Usage: {@code CompressionHarness [seconds]}, defaulting to 2 seconds per scenario
+ * after an equally long warmup. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class CompressionHarness {
+
+    private static volatile long sink;
+
+    private CompressionHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 2);
+
+        System.out.printf("%-22s %-16s %12s %8s %14s %14s%n",
+                "payload", "scenario", "bytes", "saved", "cpu us/req", "one-time ms");
+        for (Payload payload : payloads()) {
+            for (Scenario scenario : Scenario.values()) {
+                run(scenario, payload, duration);
+                run(scenario, payload, duration).print(payload, scenario);
+            }
+        }
+    }
+
+    private static Result run(Scenario scenario, Payload payload, Duration duration) throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long oneTimeStarted = threads.getCurrentThreadCpuTime();
+        CompressedPayload cached = CompressedPayload.of(payload.contentType(), payload.body(), 0);
+        long oneTime = scenario == Scenario.PRECOMPRESSED ? threads.getCurrentThreadCpuTime() - oneTimeStarted : 0;
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/docs/api/");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        long cpuStarted = threads.getCurrentThreadCpuTime();
+        long ops = 0;
+        int size = 0;
+        while (System.nanoTime() < deadline) {
+            size = scenario.serve(payload.body(), cached, request);
+            sink += size;
+            ops++;
+        }
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStarted;
+        return new Result(size, 1 - (double) size / payload.body().length, cpu / 1_000d / ops, oneTime / 1e6);
+    }
+
+    private static List<Payload> payloads() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<Payload> payloads = new ArrayList<>();
+        byte[] yaml = read(resolver.getResource("classpath:openapi/openapi.yml"));
+        payloads.add(new Payload("openapi.json", "application/json",
+                new ObjectMapper().writeValueAsBytes(new ObjectMapper(new YAMLFactory()).readTree(yaml))));
+        for (String name : List.of("swagger-ui.css", "swagger-ui-bundle.js")) {
+            Resource[] resources = resolver.getResources("classpath*:META-INF/resources/webjars/swagger-ui/*/" + name);
+            if (resources.length > 0) {
+                payloads.add(new Payload(name, "text/plain", read(resources[0])));
+            }
+        }
+        HealthResponse health = new HealthResponse("UP", "Testing App", "1.0.0",
+                "development", "2h 30m 45s", "All systems operational");
+        payloads.add(new Payload("healthcheck.json", "application/json",
+                Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(health)));
+        return payloads;
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private enum Scenario {
+        IDENTITY {
+            @Override
+            int serve(byte[] body, CompressedPayload cached, MockHttpServletRequest request) {
+                return body.length;
+            }
+        },
+        GZIP_1_PER_REQUEST {
+            @Override
+            int serve(byte[] body, CompressedPayload cached, MockHttpServletRequest request) throws IOException {
+                return gzip(body, Deflater.BEST_SPEED);
+            }
+        },
+        GZIP_6_PER_REQUEST {
+            @Override
+            int serve(byte[] body, CompressedPayload cached, MockHttpServletRequest request) throws IOException {
+                return gzip(body, Deflater.DEFAULT_COMPRESSION);
+            }
+        },
+        PRECOMPRESSED {
+            @Override
+            int serve(byte[] body, CompressedPayload cached, MockHttpServletRequest request) throws IOException {
+                DiscardingResponse response = new DiscardingResponse();
+                cached.writeTo(request, response);
+                return response.getContentLength();
+            }
+        };
+
+        abstract int serve(byte[] body, CompressedPayload cached, MockHttpServletRequest request) throws IOException;
+
+        static int gzip(byte[] body, int level) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 3 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                gzip.write(body);
+            }
+            return out.size();
+        }
+    }
+
+    /**
+     * A response whose body goes nowhere, so that serving is not measured as copying into
+     * the mock's growing buffer.
+     */
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream discard = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return discard;
+        }
+    }
+
+    private record Payload(String name, String contentType, byte[] body) {
+    }
+
+    private record Result(int bytes, double saved, double cpuMicrosPerRequest, double oneTimeMillis) {
+
+        void print(Payload payload, Scenario scenario) {
+            System.out.printf("%-22s %-16s %12d %7.1f%% %14.1f %14.2f%n", payload.name(),
+                    scenario.name().toLowerCase().replace("_per_request", "").replace('_', '-'),
+                    bytes, saved * 100, cpuMicrosPerRequest, oneTimeMillis);
+        }
+    }
+}
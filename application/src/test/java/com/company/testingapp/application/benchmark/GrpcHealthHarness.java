@@ -0,0 +1,245 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.application.rest.TestingAppApplication;
+import com.company.testingapp.grpc.GrpcServerLifecycle;
+import io.grpc.ManagedChannel;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares probe throughput, latency and server CPU of {@code GET /v1/healthcheck} over
+ * HTTP/1.1 with {@code grpc.health.v1.Health/Check} on the gRPC port.
+ *
+ * <p>The application is started in-process. Each client thread sends one probe at a time:
+ * REST clients on a kept-alive connection of their own, gRPC clients on a single shared
+ * HTTP/2 channel. Server CPU is the CPU time of Tomcat's {@code http-*} threads (acceptor,
+ * poller and {@code http-exec-*} workers) or of the {@code grpc-server-*} event loops over
+ * the run, divided by the probes answered; process CPU includes the clients and everything
+ * else in the JVM.</p>
+ *
+ * <p>Usage: {@code GrpcHealthHarness [seconds] [threads]}, defaulting to 5 seconds per
+ * scenario after an equally long warmup, and 8 client threads. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class GrpcHealthHarness {
+
+    private static final String HEALTHCHECK = "/api/v1/healthcheck";
+
+    private GrpcHealthHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        // DevTools would restart main with the application arguments below
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = SpringApplication.run(TestingAppApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=ERROR",
+                "--app.runtime-config.enabled=false",
+                "--app.health-history.directory=target/health-history",
+                "--app.grpc.enabled=true",
+                "--app.grpc.port=0");
+        int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+        int grpcPort = context.getBean(GrpcServerLifecycle.class).getPort();
+        ManagedChannel channel = NettyChannelBuilder.forAddress("127.0.0.1", grpcPort).usePlaintext().build();
+        try {
+            System.out.printf("%-14s %8s %12s %10s %10s %16s %16s%n", "scenario", "threads", "ops/s",
+                    "p50 us", "p99 us", "server cpu us/op", "process cpu us/op");
+            for (Scenario scenario : Scenario.values()) {
+                run(scenario, threads, duration, httpPort, channel);
+                run(scenario, threads, duration, httpPort, channel).print(scenario, threads);
+            }
+        } finally {
+            channel.shutdownNow();
+            context.close();
+        }
+    }
+
+    private static Result run(Scenario scenario, int threads, Duration duration, int httpPort, ManagedChannel channel)
+            throws Exception {
+        long[][] latencies = new long[threads][];
+        int[] counts = new int[threads];
+        CountDownLatch done = new CountDownLatch(threads);
+        long serverCpuBefore = serverCpu(scenario);
+        long processCpuBefore = processCpu();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int client = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    Client probe = scenario == Scenario.REST_HTTP1
+                            ? new RestClient(httpPort) : new GrpcClient(channel);
+                    long[] own = new long[1 << 16];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        probe.probe();
+                        if (count == own.length) {
+                            own = Arrays.copyOf(own, count * 2);
+                        }
+                        own[count++] = System.nanoTime() - begin;
+                    }
+                    probe.close();
+                    latencies[client] = own;
+                    counts[client] = count;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            }, "harness-client-" + t);
+            thread.start();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - started;
+        long serverCpu = serverCpu(scenario) - serverCpuBefore;
+        long processCpu = processCpu() - processCpuBefore;
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, offset, counts[t]);
+            offset += counts[t];
+        }
+        Arrays.sort(all);
+        return new Result(total * 1_000_000_000d / elapsed, all[total / 2] / 1000d,
+                all[(int) (total * 0.99)] / 1000d, serverCpu / 1000d / total, processCpu / 1000d / total);
+    }
+
+    private static long serverCpu(Scenario scenario) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long cpu = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith(scenario.serverThreadPrefix)) {
+                cpu += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return cpu;
+    }
+
+    private static long processCpu() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private enum Scenario {
+        REST_HTTP1("http-"),
+        GRPC_CHECK("grpc-server-");
+
+        private final String serverThreadPrefix;
+
+        Scenario(String serverThreadPrefix) {
+            this.serverThreadPrefix = serverThreadPrefix;
+        }
+    }
+
+    private interface Client {
+
+        void probe() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private static final class GrpcClient implements Client {
+
+        private static final HealthCheckRequest REQUEST = HealthCheckRequest.getDefaultInstance();
+
+        private final HealthGrpc.HealthBlockingStub stub;
+
+        GrpcClient(ManagedChannel channel) {
+            this.stub = HealthGrpc.newBlockingStub(channel);
+        }
+
+        @Override
+        public void probe() {
+            stub.check(REQUEST);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A kept-alive HTTP/1.1 connection that reconnects when Tomcat closes it after
+     * {@code max-keep-alive-requests}.
+     */
+    private static final class RestClient implements Client {
+
+        private final InetSocketAddress address;
+        private final ByteBuffer request = ByteBuffer.wrap(("GET " + HEALTHCHECK
+                + " HTTP/1.1\r\nHost: localhost\r\nAccept: application/json\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        private final ByteBuffer response = ByteBuffer.allocate(16 * 1024);
+        private SocketChannel channel;
+
+        RestClient(int port) throws IOException {
+            this.address = new InetSocketAddress("127.0.0.1", port);
+            this.channel = SocketChannel.open(address);
+        }
+
+        @Override
+        public void probe() throws IOException {
+            channel.write(request.rewind());
+            response.clear();
+            while (channel.read(response) >= 0) {
+                String received = new String(response.array(), 0, response.position(), StandardCharsets.ISO_8859_1);
+                int headerEnd = received.indexOf("\r\n\r\n");
+                if (headerEnd >= 0 && complete(received, headerEnd)) {
+                    if (received.substring(0, headerEnd).toLowerCase().contains("\r\nconnection: close")) {
+                        break;
+                    }
+                    return;
+                }
+            }
+            channel.close();
+            channel = SocketChannel.open(address);
+        }
+
+        private static boolean complete(String received, int headerEnd) {
+            String headers = received.substring(0, headerEnd).toLowerCase();
+            int length = headers.indexOf("content-length: ");
+            if (length < 0) {
+                return received.endsWith("0\r\n\r\n");
+            }
+            int end = headers.indexOf('\r', length);
+            int declared = Integer.parseInt(headers.substring(length + 16, end < 0 ? headers.length() : end).trim());
+            return received.length() >= headerEnd + 4 + declared;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private record Result(double opsPerSecond, double p50Micros, double p99Micros, double serverCpuMicrosPerOp,
+                          double processCpuMicrosPerOp) {
+
+        void print(Scenario scenario, int threads) {
+            System.out.printf("%-14s %8d %12.0f %10.1f %10.1f %16.1f %16.1f%n",
+                    scenario.name().toLowerCase().replace('_', '-'), threads, opsPerSecond, p50Micros, p99Micros,
+                    serverCpuMicrosPerOp, processCpuMicrosPerOp);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.domain.dto.HealthRecord;
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * Compares serializing the health payload through the application's Jackson setup with
+ * the compile-time generated {@link HealthRecordJsonWriter}.
+ *
+ * <p>Each scenario writes the detailed health response into a reused stream, the way the
+ * message converter writes into the servlet output stream, and reports throughput and the
+ * bytes allocated per operation (from {@code com.sun.management.ThreadMXBean}).</p>
+ *
+ * <p>Usage: {@code HealthSerializationHarness [seconds]}, defaulting to 5 seconds per
+ * scenario after an equally long warmup. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class HealthSerializationHarness {
+
+    private static final ObjectMapper JACKSON = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static volatile long sink;
+
+    private HealthSerializationHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        HealthResponse response = new HealthResponse("UP", "Testing App", "1.0.0",
+                "development", "2h 30m 45s", "All systems operational");
+
+        System.out.printf("%-22s %14s %14s%n", "scenario", "ops/s", "bytes/op");
+        for (Scenario scenario : Scenario.values()) {
+            run(scenario, response, duration);
+            run(scenario, response, duration).print(scenario);
+        }
+    }
+
+    private static Result run(Scenario scenario, HealthResponse response, Duration duration) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        long ops = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1000; i++) {
+                out.reset();
+                scenario.write(response, out);
+            }
+            ops += 1000;
+            sink += out.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(ops * 1_000_000_000d / elapsed, (double) allocated / ops);
+    }
+
+    private enum Scenario {
+        JACKSON_BEAN {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                JACKSON.writeValue(out, response);
+            }
+        },
+        GENERATED_FROM_BEAN {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                HealthRecordJsonWriter.writeTo(HealthRecord.from(response), out);
+            }
+        };
+
+        abstract void write(HealthResponse response, OutputStream out) throws IOException;
+    }
+
+    private record Result(double opsPerSecond, double bytesPerOp) {
+
+        void print(Scenario scenario) {
+            System.out.printf("%-22s %14.0f %14.1f%n", scenario.name().toLowerCase(), opsPerSecond, bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.company.testingapp.application.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import com.company.testingapp.infrastructure.logging.JsonLogEncoder;
+import com.company.testingapp.infrastructure.logging.JsonRollingFileAppender;
+import com.company.testingapp.infrastructure.logging.LockFreeAsyncAppender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares the file logging configuration {@code logback-spring.xml} had before with
+ * {@link JsonLogEncoder} and {@link LockFreeAsyncAppender}.
+ *
+ * <p>The encoder scenarios encode the same request log event, with request_id, route and
+ * latency_ms in the MDC, on the calling thread: the previous {@code FILE_LOG_PATTERN}
+ * through a {@code PatternLayoutEncoder}, {@code JsonLogEncoder.encode} (which has to
+ * return a fresh array) and {@code JsonLogEncoder.encodeTo} into a stream. The pattern runs
+ * without Spring Boot's color and whitespace-throwable converters, which make no difference
+ * without an exception.</p>
+ *
+ * <p>The appender scenarios log from several threads into a file under
+ * {@code java.io.tmpdir}: logback's {@code AsyncAppender} with the previous queue of 512 and
+ * no discarding, which blocks callers while the file falls behind, against the lock-free
+ * ring of 8192 in front of {@link JsonRollingFileAppender} as FILE is configured now, which
+ * drops and counts instead. Events/s is how fast the logging threads get through their calls,
+ * written/s how many of those events reach the file appender. When the logging threads
+ * outnumber the cores they compete with the worker that drains the ring, so written/s is the
+ * number to compare on small machines. Bytes/event is allocation on the logging threads, from
+ * {@code com.sun.management.ThreadMXBean}.</p>
+ *
+ * <p>Usage: {@code JsonLogEncoderHarness [seconds] [threads]}, defaulting to 5 seconds per
+ * scenario after an equally long warmup and 4 logging threads. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class JsonLogEncoderHarness {
+
+    private static final String FILE_LOG_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p 4242 --- [%t] %-40.40logger{39} : %m%n";
+    private static final String LOGGER = "com.company.testingapp.infrastructure.config.WebConfig";
+
+    private static volatile long sink;
+
+    private JsonLogEncoderHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        System.out.printf("%-24s %14s %14s %14s %10s%n", "scenario", "events/s", "written/s", "bytes/event", "dropped");
+        for (EncoderScenario scenario : EncoderScenario.values()) {
+            LoggerContext context = context();
+            Encoder<ILoggingEvent> encoder = scenario.encoder(context);
+            LoggingEvent event = event(context);
+            encode(scenario, encoder, event, duration);
+            encode(scenario, encoder, event, duration).print(scenario.name());
+            encoder.stop();
+        }
+        for (AppenderScenario scenario : AppenderScenario.values()) {
+            Path file = Files.createTempFile("json-log-harness", ".log");
+            try {
+                append(scenario, file, threads, duration);
+                append(scenario, file, threads, duration).print(scenario.name());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static Result encode(EncoderScenario scenario, Encoder<ILoggingEvent> encoder, LoggingEvent event,
+                                 Duration duration) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        long ops = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1000; i++) {
+                sink += scenario.encode(encoder, event);
+            }
+            ops += 1000;
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        double opsPerSecond = ops * 1_000_000_000d / elapsed;
+        return new Result(opsPerSecond, opsPerSecond, (double) allocated / ops, 0);
+    }
+
+    private static Result append(AppenderScenario scenario, Path file, int threads, Duration duration)
+            throws Exception {
+        LoggerContext context = context();
+        Appender<ILoggingEvent> appender = scenario.appender(context, file.toString());
+        Logger logger = context.getLogger(LOGGER);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        List<Future<long[]>> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String requestId = "REQ-" + t;
+            producers.add(executor.submit((Callable<long[]>) () -> {
+                com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                long threadId = Thread.currentThread().threadId();
+                context.getMDCAdapter().put("request_id", requestId);
+                context.getMDCAdapter().put("route", "/v1/healthcheck");
+                context.getMDCAdapter().put("latency_ms", "3");
+                long allocatedBefore = mx.getThreadAllocatedBytes(threadId);
+                long events = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 100; i++) {
+                        logger.info("Request handled in {}ms", i);
+                    }
+                    events += 100;
+                }
+                return new long[]{events, mx.getThreadAllocatedBytes(threadId) - allocatedBefore};
+            }));
+        }
+        long events = 0;
+        long allocated = 0;
+        for (Future<long[]> producer : producers) {
+            long[] counts = producer.get();
+            events += counts[0];
+            allocated += counts[1];
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        long dropped = appender instanceof LockFreeAsyncAppender lockFree ? lockFree.getDroppedCount() : 0;
+        context.stop();
+        return new Result(events * 1_000_000_000d / elapsed, (events - dropped) * 1_000_000_000d / elapsed,
+                (double) allocated / events, (double) dropped / events);
+    }
+
+    private static LoggerContext context() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        return context;
+    }
+
+    private static LoggingEvent event(LoggerContext context) {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), context.getLogger(LOGGER), Level.INFO,
+                "Request handled in {}ms", null, new Object[]{3});
+        event.setMDCPropertyMap(Map.of(
+                "request_id", "REQ-1", "route", "/v1/healthcheck", "latency_ms", "3"));
+        return event;
+    }
+
+    private static PatternLayoutEncoder patternEncoder(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(FILE_LOG_PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private static JsonLogEncoder jsonEncoder(LoggerContext context) {
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    private static FileAppender<ILoggingEvent> file(LoggerContext context, String file, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName("FILE");
+        appender.setFile(file);
+        appender.setAppend(false);
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * The FILE appender as {@code logback-spring.xml} configures it behind ASYNC_FILE: encoding
+     * through {@code encodeTo} and flushed by the async worker once per batch.
+     */
+    private static JsonRollingFileAppender rolling(LoggerContext context, String file, JsonLogEncoder encoder) {
+        JsonRollingFileAppender appender = new JsonRollingFileAppender();
+        appender.setContext(context);
+        appender.setName("FILE");
+        appender.setFile(file);
+        appender.setAppend(false);
+        appender.setImmediateFlush(false);
+        appender.setEncoder(encoder);
+        TimeBasedRollingPolicy<ILoggingEvent> policy = new TimeBasedRollingPolicy<>();
+        policy.setContext(context);
+        policy.setParent(appender);
+        policy.setFileNamePattern(file + ".%d{yyyy-MM-dd}");
+        policy.start();
+        appender.setRollingPolicy(policy);
+        appender.start();
+        return appender;
+    }
+
+    private enum EncoderScenario {
+        PATTERN_ENCODE {
+            @Override
+            Encoder<ILoggingEvent> encoder(LoggerContext context) {
+                return patternEncoder(context);
+            }
+        },
+        JSON_ENCODE {
+            @Override
+            Encoder<ILoggingEvent> encoder(LoggerContext context) {
+                return jsonEncoder(context);
+            }
+        },
+        JSON_ENCODE_TO {
+            @Override
+            Encoder<ILoggingEvent> encoder(LoggerContext context) {
+                return jsonEncoder(context);
+            }
+
+            @Override
+            long encode(Encoder<ILoggingEvent> encoder, LoggingEvent event) throws IOException {
+                ((JsonLogEncoder) encoder).encodeTo(event, DISCARD);
+                return 1;
+            }
+        };
+
+        private static final OutputStream DISCARD = OutputStream.nullOutputStream();
+
+        abstract Encoder<ILoggingEvent> encoder(LoggerContext context);
+
+        long encode(Encoder<ILoggingEvent> encoder, LoggingEvent event) throws IOException {
+            return encoder.encode(event).length;
+        }
+    }
+
+    private enum AppenderScenario {
+        ASYNC_512_PATTERN {
+            @Override
+            Appender<ILoggingEvent> appender(LoggerContext context, String file) {
+                AsyncAppender appender = new AsyncAppender();
+                appender.setContext(context);
+                appender.setName("ASYNC_FILE");
+                appender.setQueueSize(512);
+                appender.setDiscardingThreshold(0);
+                appender.setIncludeCallerData(false);
+                appender.addAppender(file(context, file, patternEncoder(context)));
+                appender.start();
+                return appender;
+            }
+        },
+        LOCK_FREE_8192_JSON {
+            @Override
+            Appender<ILoggingEvent> appender(LoggerContext context, String file) {
+                LockFreeAsyncAppender appender = new LockFreeAsyncAppender();
+                appender.setContext(context);
+                appender.setName("ASYNC_FILE");
+                appender.setQueueSize(8192);
+                appender.addAppender(rolling(context, file, jsonEncoder(context)));
+                appender.start();
+                return appender;
+            }
+        };
+
+        abstract Appender<ILoggingEvent> appender(LoggerContext context, String file);
+    }
+
+    private record Result(double eventsPerSecond, double writtenPerSecond, double bytesPerEvent, double droppedRatio) {
+
+        void print(String scenario) {
+            System.out.printf("%-24s %14.0f %14.0f %14.1f %9.1f%%%n", scenario.toLowerCase(),
+                    eventsPerSecond, writtenPerSecond, bytesPerEvent, droppedRatio * 100);
+        }
+    }
+}
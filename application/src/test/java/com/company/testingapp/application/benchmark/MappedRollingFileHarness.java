@@ -0,0 +1,175 @@
+package com.company.testingapp.application.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import com.company.testingapp.infrastructure.logging.JsonLogEncoder;
+import com.company.testingapp.infrastructure.logging.MappedRollingFileAppender;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compares the throughput of the {@code FILE} appender of {@code logback-spring.xml}, a
+ * {@code RollingFileAppender} with a {@code SizeAndTimeBasedRollingPolicy}, with the
+ * {@link MappedRollingFileAppender} the dev profile uses, both writing
+ * {@link JsonLogEncoder} output.
+ *
+ * <p>Events are appended on the calling thread, as the async appender's worker does, into
+ * a fresh directory under {@code java.io.tmpdir} per scenario. {@code rolling} flushes every
+ * event like the configured appender; {@code rolling-buffered} turns {@code immediateFlush}
+ * off for reference, which loses buffered events on a crash. Segments roll at
+ * {@code maxFileSize}; the mapped appender gzips closed segments on its background thread,
+ * which competes for the same cores. The rolling policy only checks the file size every 60
+ * seconds, so in shorter runs it keeps writing a single growing file. Bytes/event is
+ * allocation on the appending thread, from
+ * {@code com.sun.management.ThreadMXBean}.</p>
+ *
+ * <p>Usage: {@code MappedRollingFileHarness [seconds] [maxFileSizeMB]}, defaulting to 5
+ * seconds per scenario after an equally long warmup and 100 MB segments. Run it from the
+ * IDE or with {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class MappedRollingFileHarness {
+
+    private MappedRollingFileHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        FileSize maxFileSize = FileSize.valueOf((args.length > 1 ? args[1] : "100") + "MB");
+
+        System.out.printf("%-18s %14s %10s %14s %10s%n", "scenario", "events/s", "MB/s", "bytes/event", "segments");
+        for (Scenario scenario : Scenario.values()) {
+            run(scenario, maxFileSize, duration);
+            run(scenario, maxFileSize, duration).print(scenario);
+        }
+    }
+
+    private static Result run(Scenario scenario, FileSize maxFileSize, Duration duration) throws IOException {
+        Path directory = Files.createTempDirectory("mapped-rolling-harness");
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), context.getLogger("harness"), Level.INFO,
+                "Request handled in {}ms", null, new Object[]{3});
+        event.setMDCPropertyMap(Map.of("request_id", "REQ-1", "route", "/v1/healthcheck", "latency_ms", "3"));
+        int eventBytes = encoder.encode(event).length;
+        Appender<ILoggingEvent> appender = scenario.appender(context, encoder,
+                directory.resolve("testing-app.log").toString(),
+                directory.resolve("testing-app.%d{yyyy-MM-dd}.%i.log").toString(), maxFileSize);
+        try {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long deadline = System.nanoTime() + duration.toNanos();
+            long started = System.nanoTime();
+            long ops = 0;
+            while (System.nanoTime() < deadline) {
+                for (int i = 0; i < 1000; i++) {
+                    appender.doAppend(event);
+                }
+                ops += 1000;
+            }
+            long elapsed = System.nanoTime() - started;
+            long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            appender.stop();
+            long segments;
+            try (Stream<Path> files = Files.list(directory)) {
+                segments = files.count();
+            }
+            return new Result(ops * 1_000_000_000d / elapsed, ops * eventBytes * 1_000d / elapsed,
+                    (double) allocated / ops, segments);
+        } finally {
+            appender.stop();
+            context.stop();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private enum Scenario {
+        ROLLING {
+            @Override
+            Appender<ILoggingEvent> appender(LoggerContext context, JsonLogEncoder encoder, String file,
+                                             String fileNamePattern, FileSize maxFileSize) {
+                return rolling(context, encoder, file, fileNamePattern, maxFileSize, true);
+            }
+        },
+        ROLLING_BUFFERED {
+            @Override
+            Appender<ILoggingEvent> appender(LoggerContext context, JsonLogEncoder encoder, String file,
+                                             String fileNamePattern, FileSize maxFileSize) {
+                return rolling(context, encoder, file, fileNamePattern, maxFileSize, false);
+            }
+        },
+        MAPPED {
+            @Override
+            Appender<ILoggingEvent> appender(LoggerContext context, JsonLogEncoder encoder, String file,
+                                             String fileNamePattern, FileSize maxFileSize) {
+                MappedRollingFileAppender appender = new MappedRollingFileAppender();
+                appender.setContext(context);
+                appender.setName("MAPPED_FILE");
+                appender.setFile(file);
+                appender.setFileNamePattern(fileNamePattern);
+                appender.setMaxFileSize(maxFileSize);
+                appender.setMaxSegments(300);
+                appender.setTotalSizeCap(FileSize.valueOf("3GB"));
+                appender.setCompress(true);
+                appender.setEncoder(encoder);
+                appender.start();
+                return appender;
+            }
+        };
+
+        abstract Appender<ILoggingEvent> appender(LoggerContext context, JsonLogEncoder encoder, String file,
+                                                  String fileNamePattern, FileSize maxFileSize);
+
+        static Appender<ILoggingEvent> rolling(LoggerContext context, JsonLogEncoder encoder, String file,
+                                               String fileNamePattern, FileSize maxFileSize, boolean immediateFlush) {
+            RollingFileAppender<ILoggingEvent> appender = new RollingFileAppender<>();
+            appender.setContext(context);
+            appender.setName("FILE");
+            appender.setFile(file);
+            appender.setEncoder(encoder);
+            appender.setImmediateFlush(immediateFlush);
+            SizeAndTimeBasedRollingPolicy<ILoggingEvent> policy = new SizeAndTimeBasedRollingPolicy<>();
+            policy.setContext(context);
+            policy.setParent(appender);
+            policy.setFileNamePattern(fileNamePattern);
+            policy.setMaxFileSize(maxFileSize);
+            policy.setMaxHistory(30);
+            policy.setTotalSizeCap(FileSize.valueOf("3GB"));
+            policy.start();
+            appender.setRollingPolicy(policy);
+            appender.setTriggeringPolicy(policy);
+            appender.start();
+            return appender;
+        }
+    }
+
+    private record Result(double eventsPerSecond, double megabytesPerSecond, double bytesPerEvent, long segments) {
+
+        void print(Scenario scenario) {
+            System.out.printf("%-18s %14.0f %10.1f %14.1f %10d%n", scenario.name().toLowerCase().replace('_', '-'),
+                    eventsPerSecond, megabytesPerSecond, bytesPerEvent, segments);
+        }
+    }
+}
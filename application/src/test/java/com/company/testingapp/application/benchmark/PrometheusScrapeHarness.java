@@ -0,0 +1,174 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache;
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache.Format;
+import com.company.testingapp.infrastructure.metrics.ScrapeCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.exporter.common.TextFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares a scrape as Spring Boot's {@code PrometheusScrapeEndpoint} and Tomcat's response
+ * compression produce it with the same scrape served by {@link PrometheusScrapeCache}.
+ *
+ * <p>The registry holds 10,000 meters by default: counters and timers spread over 100
+ * meter names with 50 routes each. Before every scrape 1% of the meters are updated, so
+ * the cache has to re-encode the families they belong to. Each scenario reports scrape
+ * latency percentiles and the bytes allocated per scrape (from
+ * {@code com.sun.management.ThreadMXBean}). The cache runs with a zero window so every
+ * scrape is a real encoding.</p>
+ *
+ * <p>Usage: {@code PrometheusScrapeHarness [meters] [scrapes]}, defaulting to 10000 meters
+ * and 300 measured scrapes per scenario after 100 warmup scrapes. Run it from the IDE or
+ * with {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class PrometheusScrapeHarness {
+
+    private static final int ROUTES_PER_NAME = 50;
+
+    private static volatile long sink;
+
+    private PrometheusScrapeHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int meters = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int scrapes = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        List<Counter> counters = new ArrayList<>();
+        List<Timer> timers = new ArrayList<>();
+        for (int i = 0; i < meters / 2; i++) {
+            String name = "app.meter." + (i / ROUTES_PER_NAME);
+            String route = "/v1/resource/" + (i % ROUTES_PER_NAME);
+            counters.add(registry.counter(name + ".count", "route", route, "method", "GET"));
+            timers.add(registry.timer(name + ".time", "route", route, "method", "GET"));
+        }
+        ScrapeCacheProperties properties = new ScrapeCacheProperties();
+        properties.setWindow(Duration.ZERO);
+        PrometheusScrapeCache cache = new PrometheusScrapeCache(registry.getPrometheusRegistry(), properties);
+        Runnable churn = () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < meters / 100; i++) {
+                if (random.nextBoolean()) {
+                    counters.get(random.nextInt(counters.size())).increment();
+                } else {
+                    timers.get(random.nextInt(timers.size())).record(Duration.ofMillis(random.nextInt(100)));
+                }
+            }
+        };
+
+        System.out.printf("%d meters, %d scrapes per scenario%n", registry.getMeters().size(), scrapes);
+        System.out.printf("%-20s %10s %10s %10s %14s%n", "scenario", "p50 ms", "p99 ms", "KiB", "KiB alloc/op");
+        for (Scenario scenario : Scenario.values()) {
+            run(scenario, registry, cache, churn, 100);
+            run(scenario, registry, cache, churn, scrapes).print(scenario);
+        }
+    }
+
+    private static Result run(Scenario scenario, PrometheusMeterRegistry registry, PrometheusScrapeCache cache,
+                              Runnable churn, int scrapes) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long[] latencies = new long[scrapes];
+        long allocated = 0;
+        int size = 0;
+        for (int i = 0; i < scrapes; i++) {
+            churn.run();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long started = System.nanoTime();
+            byte[] body = scenario.scrape(registry, cache);
+            latencies[i] = System.nanoTime() - started;
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            size = body.length;
+            sink += body.length;
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies[scrapes / 2] / 1e6, latencies[(int) (scrapes * 0.99)] / 1e6,
+                size / 1024.0, allocated / 1024.0 / scrapes);
+    }
+
+    private enum Scenario {
+        COLLECT_ONLY {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) {
+                Enumeration<MetricFamilySamples> families = registry.getPrometheusRegistry().metricFamilySamples();
+                int count = 0;
+                while (families.hasMoreElements()) {
+                    count += families.nextElement().samples.size();
+                }
+                return new byte[count & 1];
+            }
+        },
+        ENDPOINT_TEXT {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) throws IOException {
+                return endpoint(registry);
+            }
+        },
+        ENDPOINT_TEXT_GZIP {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) throws IOException {
+                byte[] text = endpoint(registry);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(text.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(text);
+                }
+                return out.toByteArray();
+            }
+        },
+        CACHE_TEXT {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) {
+                return cache.scrape(Format.TEXT_004, null).identity();
+            }
+        },
+        CACHE_TEXT_GZIP {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) {
+                return cache.scrape(Format.TEXT_004, null).gzip();
+            }
+        },
+        CACHE_OPENMETRICS_GZIP {
+            @Override
+            byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) {
+                return cache.scrape(Format.OPENMETRICS_100, null).gzip();
+            }
+        };
+
+        abstract byte[] scrape(PrometheusMeterRegistry registry, PrometheusScrapeCache cache) throws IOException;
+
+        /**
+         * What {@code PrometheusScrapeEndpoint} does: format into a String, then encode it.
+         */
+        static byte[] endpoint(PrometheusMeterRegistry registry) throws IOException {
+            StringWriter writer = new StringWriter();
+            TextFormat.write004(writer, registry.getPrometheusRegistry().metricFamilySamples());
+            return writer.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private record Result(double p50Millis, double p99Millis, double sizeKiB, double allocatedKiBPerOp) {
+
+        void print(Scenario scenario) {
+            System.out.printf("%-22s %8.2f %10.2f %10.0f %14.0f%n", scenario.name().toLowerCase(),
+                    p50Millis, p99Millis, sizeKiB, allocatedKiBPerOp);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.domain.dto.HealthRecord;
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.infrastructure.serialization.HealthFieldset;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Compares payload size, throughput and allocation of the health response written in full,
+ * with a {@code fields=} selection and with {@code Prefer: return=minimal}.
+ *
+ * <p>The sparse scenarios parse the field list (from the mask cache after the first call)
+ * and write through the generated writer, the way the controller and message converter do.
+ * {@code jackson-tree-filter} is the alternative the field masks avoid: serializing the
+ * full response to a tree, removing the unselected properties and writing what is left.
+ * Bytes/op is allocation on the writing thread, from {@code com.sun.management.ThreadMXBean}.</p>
+ *
+ * <p>Usage: {@code SparseFieldsetHarness [seconds]}, defaulting to 5 seconds per scenario
+ * after an equally long warmup. Run it from the IDE or with {@code java -cp target/test-classes};
+ * it is not part of the build.</p>
+ */
+public final class SparseFieldsetHarness {
+
+    private static final ObjectMapper JACKSON = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private static final String SELECTION = "status,version";
+    private static final List<String> SELECTED_NAMES = List.of(SELECTION.split(","));
+
+    private static volatile long sink;
+
+    private SparseFieldsetHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        HealthResponse response = new HealthResponse("UP", "Testing App", "1.0.0",
+                "development", "2h 30m 45s", "All systems operational");
+
+        System.out.printf("%-20s %14s %14s %14s%n", "scenario", "payload bytes", "ops/s", "bytes/op");
+        for (Scenario scenario : Scenario.values()) {
+            run(scenario, response, duration);
+            run(scenario, response, duration).print(scenario);
+        }
+    }
+
+    private static Result run(Scenario scenario, HealthResponse response, Duration duration) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        scenario.write(response, out);
+        int payload = out.size();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        long ops = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1000; i++) {
+                out.reset();
+                scenario.write(response, out);
+            }
+            ops += 1000;
+            sink += out.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(payload, ops * 1_000_000_000d / elapsed, (double) allocated / ops);
+    }
+
+    private enum Scenario {
+        FULL {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                HealthRecordJsonWriter.writeTo(HealthRecord.from(response), out);
+            }
+        },
+        FIELDS {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                HealthRecordJsonWriter.writeTo(HealthRecord.from(response), HealthFieldset.parse(SELECTION), out);
+            }
+        },
+        MINIMAL {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                HealthRecordJsonWriter.writeTo(HealthRecord.from(response), HealthFieldset.MINIMAL, out);
+            }
+        },
+        JACKSON_TREE_FILTER {
+            @Override
+            void write(HealthResponse response, OutputStream out) throws IOException {
+                ObjectNode tree = JACKSON.valueToTree(response);
+                tree.retain(SELECTED_NAMES);
+                JACKSON.writeValue(out, tree);
+            }
+        };
+
+        abstract void write(HealthResponse response, OutputStream out) throws IOException;
+    }
+
+    private record Result(int payloadBytes, double opsPerSecond, double bytesPerOp) {
+
+        void print(Scenario scenario) {
+            System.out.printf("%-20s %14d %14.0f %14.1f%n", scenario.name().toLowerCase().replace('_', '-'),
+                    payloadBytes, opsPerSecond, bytesPerOp);
+        }
+    }
+}
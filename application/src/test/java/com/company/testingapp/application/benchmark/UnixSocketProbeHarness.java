@@ -0,0 +1,171 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.application.rest.TestingAppApplication;
+import com.company.testingapp.infrastructure.probe.UnixSocketProbeServer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Compares readiness and liveness probes answered by Tomcat over TCP with the same probes
+ * answered by {@link UnixSocketProbeServer}.
+ *
+ * <p>The application is started in-process with the socket listener enabled. A single
+ * client thread sends one probe at a time, either on a new connection per probe, as the
+ * kubelet does, or on one kept-alive connection, and records the latency of each probe
+ * from connect to the last byte of the response.</p>
+ *
+ * <p>Both transports answer from cached results, so the difference is the transport and
+ * the request path: the socket refreshes its checks every {@code cache-ttl} in the
+ * background, and the actuator health endpoint caches its response for the same time. The
+ * health check body is left out, because Tomcat computes it on every request while the
+ * socket serves a cached encoding.</p>
+ *
+ * <p>Usage: {@code UnixSocketProbeHarness [seconds]}, defaulting to 5 seconds per scenario
+ * after an equally long warmup. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class UnixSocketProbeHarness {
+
+    private static final String READINESS = "/api/actuator/health/readiness";
+    private static final String LIVENESS = "/api/actuator/health/liveness";
+    private static final String CACHE_TTL = "1s";
+
+    private UnixSocketProbeHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        Path socket = Files.createTempDirectory("probe").resolve("probe.sock");
+        // DevTools would restart main with the application arguments below
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = SpringApplication.run(TestingAppApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.mvc.servlet.load-on-startup=1",
+                "--logging.level.root=ERROR",
+                "--app.runtime-config.enabled=false",
+                "--app.health-history.directory=target/health-history",
+                "--management.endpoint.health.cache.time-to-live=" + CACHE_TTL,
+                "--app.probes.unix-socket.enabled=true",
+                "--app.probes.unix-socket.cache-ttl=" + CACHE_TTL,
+                "--app.probes.unix-socket.path=" + socket);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            SocketAddress tcp = new InetSocketAddress("127.0.0.1", port);
+            SocketAddress uds = UnixDomainSocketAddress.of(socket);
+
+            System.out.printf("%-26s %12s %10s %10s %10s%n", "scenario", "ops/s", "p50 us", "p99 us", "max us");
+            for (String path : new String[]{READINESS, LIVENESS}) {
+                for (boolean keepAlive : new boolean[]{false, true}) {
+                    for (SocketAddress address : new SocketAddress[]{tcp, uds}) {
+                        run(address, path, keepAlive, duration);
+                        String name = (address == tcp ? "tcp" : "uds")
+                                + (path.equals(READINESS) ? "-readiness" : "-liveness")
+                                + (keepAlive ? "-keepalive" : "-connect");
+                        run(address, path, keepAlive, duration).print(name);
+                    }
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result run(SocketAddress address, String path, boolean keepAlive, Duration duration)
+            throws IOException {
+        byte[] request = ("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nUser-Agent: kube-probe/1.29\r\n"
+                + (keepAlive ? "" : "Connection: close\r\n") + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer response = ByteBuffer.allocate(16 * 1024);
+        long[] latencies = new long[1 << 16];
+        int count = 0;
+        SocketChannel channel = keepAlive ? open(address) : null;
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            long begin = System.nanoTime();
+            if (!keepAlive) {
+                channel = open(address);
+            }
+            channel.write(ByteBuffer.wrap(request));
+            if (!readResponse(channel, response, keepAlive) || !keepAlive) {
+                channel.close();
+                channel = keepAlive ? open(address) : null;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - begin;
+        }
+        long elapsed = System.nanoTime() - started;
+        if (channel != null) {
+            channel.close();
+        }
+        Arrays.sort(latencies, 0, count);
+        return new Result(count * 1_000_000_000d / elapsed, latencies[count / 2] / 1000d,
+                latencies[(int) (count * 0.99)] / 1000d, latencies[count - 1] / 1000d);
+    }
+
+    private static SocketChannel open(SocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address instanceof UnixDomainSocketAddress
+                ? StandardProtocolFamily.UNIX : StandardProtocolFamily.INET);
+        channel.connect(address);
+        return channel;
+    }
+
+    /**
+     * Reads until the connection closes or, on a kept-alive connection, until the
+     * headers and the declared (or chunked) body are complete.
+     *
+     * @return whether the server keeps the connection open; Tomcat closes it after
+     * {@code max-keep-alive-requests}
+     */
+    private static boolean readResponse(SocketChannel channel, ByteBuffer buffer, boolean keepAlive)
+            throws IOException {
+        buffer.clear();
+        while (channel.read(buffer) >= 0) {
+            if (keepAlive && complete(buffer)) {
+                String received = new String(buffer.array(), 0, buffer.position(), StandardCharsets.ISO_8859_1);
+                return !received.toLowerCase().contains("\r\nconnection: close\r\n");
+            }
+        }
+        return false;
+    }
+
+    private static boolean complete(ByteBuffer buffer) {
+        String received = new String(buffer.array(), 0, buffer.position(), StandardCharsets.ISO_8859_1);
+        int headerEnd = received.indexOf("\r\n\r\n");
+        if (headerEnd < 0) {
+            return false;
+        }
+        String headers = received.substring(0, headerEnd).toLowerCase();
+        int length = headers.indexOf("content-length: ");
+        if (length >= 0) {
+            int end = headers.indexOf('\r', length);
+            int declared = Integer.parseInt(headers.substring(length + 16, end < 0 ? headers.length() : end).trim());
+            return received.length() >= headerEnd + 4 + declared;
+        }
+        return received.endsWith("0\r\n\r\n");
+    }
+
+    private record Result(double opsPerSecond, double p50Micros, double p99Micros, double maxMicros) {
+
+        void print(String scenario) {
+            System.out.printf("%-26s %12.0f %10.1f %10.1f %10.1f%n", scenario, opsPerSecond, p50Micros, p99Micros,
+                    maxMicros);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.application.rest.TestingAppApplication;
+import com.company.testingapp.infrastructure.routing.UnknownRouteFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * Measures what a request for an unregistered path costs with and without the
+ * {@link UnknownRouteFilter}.
+ *
+ * <p>The application is started in-process; requests are handed straight to the
+ * dispatcher servlet, or to the filter in front of it, on the calling thread so that
+ * the bytes allocated per request (from {@code com.sun.management.ThreadMXBean}) are the
+ * server's own. Logging is turned down to errors, which leaves out the warning
+ * {@code GlobalExceptionHandler} logs for every 404 and understates the cost without the
+ * filter. {@code known-route-lookup} is the filter's overhead on a path that does match,
+ * with an empty chain behind it.</p>
+ *
+ * <p>Usage: {@code UnknownRouteHarness [seconds]}, defaulting to 5 seconds per scenario
+ * after an equally long warmup. Run it from the IDE or with
+ * {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class UnknownRouteHarness {
+
+    private static final String CONTEXT_PATH = "/api";
+    private static final String[] SCANNER_PATHS = {
+            "/wp-login.php", "/.env", "/admin/config.php", "/v1/healthcheck.bak", "/cgi-bin/luci/locale"
+    };
+
+    private static volatile long sink;
+
+    private UnknownRouteHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        // DevTools would restart main with the application arguments below
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = SpringApplication.run(TestingAppApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.mvc.servlet.load-on-startup=1",
+                "--logging.level.root=ERROR",
+                "--app.runtime-config.enabled=false",
+                "--app.health-history.directory=target/health-history");
+        try {
+            DispatcherServlet dispatcher = context.getBean(DispatcherServlet.class);
+            UnknownRouteFilter filter = context.getBean(UnknownRouteFilter.class);
+            ServletContext servletContext = ((WebApplicationContext) context).getServletContext();
+
+            System.out.printf("%-22s %14s %14s %8s%n", "scenario", "ops/s", "bytes/op", "status");
+            for (Scenario scenario : Scenario.values()) {
+                run(scenario, servletContext, dispatcher, filter, duration);
+                run(scenario, servletContext, dispatcher, filter, duration).print(scenario);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result run(Scenario scenario, ServletContext servletContext, DispatcherServlet dispatcher,
+                              UnknownRouteFilter filter, Duration duration) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        long ops = 0;
+        int status = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) {
+                String path = scenario == Scenario.KNOWN_ROUTE_LOOKUP
+                        ? "/v1/healthcheck" : SCANNER_PATHS[i % SCANNER_PATHS.length];
+                MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", CONTEXT_PATH + path);
+                request.setContextPath(CONTEXT_PATH);
+                request.setServletPath(path);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                scenario.handle(request, response, dispatcher, filter);
+                status = response.getStatus();
+            }
+            ops += 100;
+            sink += status;
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(ops * 1_000_000_000d / elapsed, (double) allocated / ops, status);
+    }
+
+    private enum Scenario {
+        DISPATCHER {
+            @Override
+            void handle(MockHttpServletRequest request, MockHttpServletResponse response,
+                        DispatcherServlet dispatcher, UnknownRouteFilter filter) throws Exception {
+                dispatcher.service(request, response);
+            }
+        },
+        ROUTE_TRIE_FILTER {
+            @Override
+            void handle(MockHttpServletRequest request, MockHttpServletResponse response,
+                        DispatcherServlet dispatcher, UnknownRouteFilter filter) throws Exception {
+                filter.doFilter(request, response, dispatcher::service);
+            }
+        },
+        KNOWN_ROUTE_LOOKUP {
+            @Override
+            void handle(MockHttpServletRequest request, MockHttpServletResponse response,
+                        DispatcherServlet dispatcher, UnknownRouteFilter filter) throws Exception {
+                filter.doFilter(request, response, EMPTY_CHAIN);
+            }
+        };
+
+        private static final FilterChain EMPTY_CHAIN = (request, response) -> {
+        };
+
+        abstract void handle(MockHttpServletRequest request, MockHttpServletResponse response,
+                             DispatcherServlet dispatcher, UnknownRouteFilter filter) throws Exception;
+    }
+
+    private record Result(double opsPerSecond, double bytesPerOp, int lastStatus) {
+
+        void print(Scenario scenario) {
+            System.out.printf("%-22s %14.0f %14.1f %8d%n", scenario.name().toLowerCase().replace('_', '-'),
+                    opsPerSecond, bytesPerOp, lastStatus);
+        }
+    }
+}
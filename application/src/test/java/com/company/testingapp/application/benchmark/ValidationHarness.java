@@ -0,0 +1,111 @@
+package com.company.testingapp.application.benchmark;
+
+import com.company.testingapp.infrastructure.validation.CachedValidator;
+import com.company.testingapp.infrastructure.validation.FailFast;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Compares validating request bodies with Boot's validator adapter, the
+ * {@link CachedValidator} and the {@code CachedValidator} in {@link FailFast} mode, over a
+ * valid body, a body with six violations, and a body type without constraints.
+ *
+ * <p>Each operation creates the binding result and validates, as Spring MVC does for a
+ * {@code @Valid @RequestBody}; reading the JSON is not included. Bytes/op is allocation on
+ * the validating thread, from {@code com.sun.management.ThreadMXBean}.</p>
+ *
+ * <p>Usage: {@code ValidationHarness [seconds]}, defaulting to 5 seconds per scenario
+ * after an equally long warmup. Run it from the IDE or with {@code java -cp target/test-classes};
+ * it is not part of the build.</p>
+ */
+public final class ValidationHarness {
+
+    private static final Object[] NO_HINTS = new Object[0];
+    private static final Object[] FAIL_FAST = {FailFast.Group.class};
+
+    private static volatile long sink;
+
+    private ValidationHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = Duration.ofSeconds(args.length > 0 ? Long.parseLong(args[0]) : 5);
+        try (LocalValidatorFactoryBean factory = new LocalValidatorFactoryBean()) {
+            factory.afterPropertiesSet();
+            SpringValidatorAdapter boot = new SpringValidatorAdapter(factory.getValidator());
+            CachedValidator cached = new CachedValidator(new StaticApplicationContext(), factory);
+            Address address = new Address("Main Street 1", "12345");
+            List<Payload> payloads = List.of(
+                    new Payload("valid", new Order("Widget", "WID-1234", 3, "buyer@example.com", address)),
+                    new Payload("invalid", new Order("", "x", 0, "not-an-email", new Address(" ", "1"))),
+                    new Payload("unconstrained", new Note("Widget", "WID-1234", 3)));
+
+            System.out.printf("%-18s %-14s %14s %14s%n", "scenario", "payload", "ops/s", "bytes/op");
+            for (Payload payload : payloads) {
+                run(boot, NO_HINTS, payload, duration);
+                run(boot, NO_HINTS, payload, duration).print("boot-adapter", payload);
+                run(cached, NO_HINTS, payload, duration);
+                run(cached, NO_HINTS, payload, duration).print("cached", payload);
+                run(cached, FAIL_FAST, payload, duration);
+                run(cached, FAIL_FAST, payload, duration).print("cached-fail-fast", payload);
+            }
+        }
+    }
+
+    private static Result run(SmartValidator validator, Object[] hints, Payload payload, Duration duration) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        long ops = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 1000; i++) {
+                BeanPropertyBindingResult errors = new BeanPropertyBindingResult(payload.body(), "order");
+                validator.validate(payload.body(), errors, hints);
+                sink += errors.getErrorCount();
+            }
+            ops += 1000;
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(ops * 1_000_000_000d / elapsed, (double) allocated / ops);
+    }
+
+    record Order(@NotBlank String name,
+                 @NotNull @Pattern(regexp = "[A-Z]{3}-\\d{4}") String code,
+                 @Min(1) int quantity,
+                 @Email String email,
+                 @Valid @NotNull Address address) {
+    }
+
+    record Address(@NotBlank @Size(max = 80) String street, @Pattern(regexp = "\\d{5}") String postalCode) {
+    }
+
+    record Note(String name, String code, int quantity) {
+    }
+
+    private record Payload(String name, Object body) {
+    }
+
+    private record Result(double opsPerSecond, double bytesPerOp) {
+
+        void print(String scenario, Payload payload) {
+            System.out.printf("%-18s %-14s %14.0f %14.1f%n", scenario, payload.name(), opsPerSecond, bytesPerOp);
+        }
+    }
+}
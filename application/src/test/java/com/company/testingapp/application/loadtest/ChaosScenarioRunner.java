@@ -0,0 +1,170 @@
+package com.company.testingapp.application.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs probe traffic against an instance started with the {@code chaos} profile under a
+ * series of fault profiles, and reports probe latency and how often the probe outcome
+ * flips between pass and fail.
+ *
+ * <p>For each scenario the fault of {@code getHealthStatus} is replaced through
+ * {@code /actuator/chaos}, then a few probers poll {@code /v1/healthcheck} on a fixed
+ * interval with a client timeout, the way an orchestrator does. A probe fails on a
+ * non-2xx status or a timeout. Faults are cleared when the run ends.</p>
+ *
+ * <p>Usage: {@code ChaosScenarioRunner [baseUrl] [probes] [timeoutMs]}, defaulting to
+ * {@code http://localhost:8080/api}, 200 probes per prober and a 1000ms timeout.
+ * Run it from the IDE or with {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class ChaosScenarioRunner {
+
+    private static final int PROBERS = 4;
+    private static final Duration PROBE_INTERVAL = Duration.ofMillis(50);
+    private static final String CHECK = "getHealthStatus";
+
+    private ChaosScenarioRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080/api";
+        int probes = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration timeout = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 1000);
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            System.out.printf("Target %s, %d probers x %d probes, timeout %dms%n%n",
+                    baseUrl, PROBERS, probes, timeout.toMillis());
+            System.out.printf("%-16s %9s %9s %9s %8s %9s %6s%n",
+                    "scenario", "p50 ms", "p99 ms", "max ms", "failed", "timeouts", "flips");
+            try {
+                for (Scenario scenario : Scenario.values()) {
+                    configure(client, baseUrl, scenario);
+                    print(scenario, run(client, baseUrl, probes, timeout));
+                }
+            } finally {
+                send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/chaos")).DELETE().build());
+            }
+        }
+    }
+
+    private static void configure(HttpClient client, String baseUrl, Scenario scenario) throws Exception {
+        URI uri = URI.create(baseUrl + "/actuator/chaos/" + CHECK);
+        HttpRequest request = scenario.fault == null
+                ? HttpRequest.newBuilder(uri).DELETE().build()
+                : HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(scenario.fault))
+                        .build();
+        int status = send(client, request);
+        if (status >= 300) {
+            throw new IllegalStateException("Configuring " + scenario.label + " returned " + status
+                    + "; is the instance running with the chaos profile?");
+        }
+    }
+
+    private static int send(HttpClient client, HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Result run(HttpClient client, String baseUrl, int probes, Duration timeout) throws Exception {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/healthcheck")).timeout(timeout).GET().build();
+        List<Future<Result>> probers = new ArrayList<>(PROBERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < PROBERS; i++) {
+                probers.add(executor.submit(() -> {
+                    long[] latencies = new long[probes];
+                    int failed = 0;
+                    int timeouts = 0;
+                    int flips = 0;
+                    Boolean previous = null;
+                    for (int n = 0; n < probes; n++) {
+                        long sent = System.nanoTime();
+                        boolean passed;
+                        try {
+                            passed = client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() < 300;
+                        } catch (HttpTimeoutException e) {
+                            timeouts++;
+                            passed = false;
+                        } catch (Exception e) {
+                            passed = false;
+                        }
+                        latencies[n] = System.nanoTime() - sent;
+                        if (!passed) {
+                            failed++;
+                        }
+                        if (previous != null && previous != passed) {
+                            flips++;
+                        }
+                        previous = passed;
+                        Thread.sleep(PROBE_INTERVAL);
+                    }
+                    return new Result(latencies, failed, timeouts, flips);
+                }));
+            }
+        }
+        long[] latencies = new long[0];
+        int failed = 0;
+        int timeouts = 0;
+        int flips = 0;
+        for (Future<Result> prober : probers) {
+            Result result = prober.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + result.latencies().length);
+            System.arraycopy(result.latencies(), 0, latencies, offset, result.latencies().length);
+            failed += result.failed();
+            timeouts += result.timeouts();
+            flips += result.flips();
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, failed, timeouts, flips);
+    }
+
+    private static void print(Scenario scenario, Result result) {
+        long[] latencies = result.latencies();
+        System.out.printf("%-16s %9.2f %9.2f %9.2f %8d %9d %6d%n",
+                scenario.label,
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                result.failed(),
+                result.timeouts(),
+                result.flips());
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private enum Scenario {
+        BASELINE("baseline", null),
+        SLOW_FIXED("slow-fixed", "{\"distribution\":\"FIXED\",\"latency\":\"200ms\"}"),
+        SLOW_TAIL("slow-tail", "{\"distribution\":\"EXPONENTIAL\",\"latency\":\"150ms\"}"),
+        FLAKY("flaky", "{\"errorRate\":0.1}"),
+        HANGING("hanging", "{\"hangRate\":0.02}"),
+        PAST_TIMEOUT("past-timeout", "{\"distribution\":\"UNIFORM\",\"latency\":\"800ms\"}");
+
+        private final String label;
+        private final String fault;
+
+        Scenario(String label, String fault) {
+            this.label = label;
+            this.fault = fault;
+        }
+    }
+
+    private record Result(long[] latencies, int failed, int timeouts, int flips) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.company.testingapp.application.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load harness comparing HTTP/1.1 and HTTP/2 against a running instance.
+ *
+ * <p>Three scenarios are run back to back with the same number of concurrent callers:</p>
+ * <ul>
+ *     <li>{@code http1-per-request}: a new client, and therefore a new connection, per
+ *     request, which is how most internal callers behave today</li>
+ *     <li>{@code http1-pooled}: one shared HTTP/1.1 client with keep-alive; at most one
+ *     connection per concurrent caller</li>
+ *     <li>{@code h2c}: one shared HTTP/2 client; a single multiplexed connection
+ *     (cleartext upgrade, or ALPN for {@code https} URLs)</li>
+ * </ul>
+ *
+ * <p>Usage: {@code HttpProtocolLoadHarness [url] [concurrency] [seconds]}, defaulting to
+ * {@code http://localhost:8080/api/v1/healthcheck}, 32 callers and 10 seconds per scenario.
+ * Run it from the IDE or with {@code java -cp target/test-classes}; it is not part of the build.</p>
+ */
+public final class HttpProtocolLoadHarness {
+
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+
+    private HttpProtocolLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/v1/healthcheck");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 10);
+
+        System.out.printf("Target %s, %d callers, %ds per scenario%n%n", uri, concurrency, duration.toSeconds());
+        System.out.printf("%-18s %10s %10s %9s %9s %8s %12s  %s%n",
+                "scenario", "requests", "req/s", "p50 ms", "p99 ms", "errors", "connections", "protocols");
+        for (Scenario scenario : Scenario.values()) {
+            run(scenario, uri, concurrency, WARMUP);
+            print(scenario, run(scenario, uri, concurrency, duration), concurrency);
+        }
+    }
+
+    private static Result run(Scenario scenario, URI uri, int concurrency, Duration duration) throws Exception {
+        HttpClient shared = scenario.shared ? client(scenario.version) : null;
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).GET().build();
+        LongAdder errors = new LongAdder();
+        LongAdder clientsCreated = new LongAdder();
+        Map<HttpClient.Version, LongAdder> protocols = new ConcurrentHashMap<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long start = System.nanoTime();
+
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpClient client = shared;
+                        if (client == null) {
+                            client = client(scenario.version);
+                            clientsCreated.increment();
+                        }
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                            protocols.computeIfAbsent(response.version(), v -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            errors.increment();
+                        } finally {
+                            if (shared == null) {
+                                client.close();
+                            }
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count << 1);
+                        }
+                        latencies[count++] = System.nanoTime() - sent;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (shared != null) {
+            shared.close();
+        }
+
+        long[] all = workers.stream().map(HttpProtocolLoadHarness::join).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, elapsed, errors.sum(), clientsCreated.sum(), protocols);
+    }
+
+    private static HttpClient client(HttpClient.Version version) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void print(Scenario scenario, Result result, int concurrency) {
+        long[] latencies = result.latencies();
+        String connections = switch (scenario) {
+            case HTTP1_PER_REQUEST -> Long.toString(result.clientsCreated());
+            case HTTP1_POOLED -> "<= " + concurrency;
+            case H2C -> "1";
+        };
+        System.out.printf("%-18s %10d %10.0f %9.2f %9.2f %8d %12s  %s%n",
+                scenario.label,
+                latencies.length,
+                latencies.length / (result.elapsedNanos() / 1e9),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                result.errors(),
+                connections,
+                result.protocols());
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private enum Scenario {
+        HTTP1_PER_REQUEST("http1-per-request", HttpClient.Version.HTTP_1_1, false),
+        HTTP1_POOLED("http1-pooled", HttpClient.Version.HTTP_1_1, true),
+        H2C("h2c", HttpClient.Version.HTTP_2, true);
+
+        private final String label;
+        private final HttpClient.Version version;
+        private final boolean shared;
+
+        Scenario(String label, HttpClient.Version version, boolean shared) {
+            this.label = label;
+            this.version = version;
+            this.shared = shared;
+        }
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, long errors, long clientsCreated,
+                          Map<HttpClient.Version, LongAdder> protocols) {
+    }
+}
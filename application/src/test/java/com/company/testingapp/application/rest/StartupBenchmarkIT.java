@@ -0,0 +1,64 @@
+package com.company.testingapp.application.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Local startup benchmark, run by failsafe during {@code mvn verify}.
+ *
+ * <p>Boots the application once cold and then {@code startup.benchmark.runs} more times
+ * in the same JVM, with the production profile, and fails the build when the cold start
+ * or the median warm start exceeds its threshold. Thresholds are milliseconds and can be
+ * tightened per machine with {@code -Dstartup.benchmark.max-cold-ms} and
+ * {@code -Dstartup.benchmark.max-warm-ms}.</p>
+ */
+class StartupBenchmarkIT {
+
+    private static final String[] ARGS = {
+            "--server.port=0",
+            "--spring.profiles.active=prod",
+            "--app.profiling.enabled=false",
+            "--app.grpc.port=0",
+            // No load balancer to wait for between runs
+            "--app.drain.propagation-delay=0s",
+            // The prod profile keeps these next to the jar; keep them out of the source tree
+            "--app.health-history.directory=target/health-history",
+            "--app.runtime-config.file=target/runtime-config/runtime.yml",
+            "--spring.main.banner-mode=off"
+    };
+
+    @Test
+    void startupShouldStayWithinThresholds() {
+        // Given
+        int runs = Integer.getInteger("startup.benchmark.runs", 3);
+        long maxColdMillis = Long.getLong("startup.benchmark.max-cold-ms", 20_000);
+        long maxWarmMillis = Long.getLong("startup.benchmark.max-warm-ms", 5_000);
+
+        // When
+        long cold = startOnce();
+        long[] warm = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            warm[i] = startOnce();
+        }
+        Arrays.sort(warm);
+        long warmMedian = warm[runs / 2];
+        System.out.printf("Startup benchmark: cold %d ms, warm median %d ms over %d runs %s%n",
+                cold, warmMedian, runs, Arrays.toString(warm));
+
+        // Then
+        assertTrue(cold <= maxColdMillis, "Cold startup took " + cold + " ms, threshold " + maxColdMillis + " ms");
+        assertTrue(warmMedian <= maxWarmMillis,
+                "Warm startup took " + warmMedian + " ms, threshold " + maxWarmMillis + " ms");
+    }
+
+    private static long startOnce() {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = TestingAppApplication.application().run(ARGS)) {
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.testingapp.domain.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations of the same key into one.
+ *
+ * <p>The first caller for a key publishes a future in a lock-free map and runs the
+ * computation on its own thread; callers arriving while it runs wait for that future
+ * instead of computing again. The entry is removed as soon as the computation finishes,
+ * so results are shared but never cached: a caller arriving afterwards starts a new
+ * computation. Failures are propagated to every waiting caller.</p>
+ *
+ * <p>All waiting callers receive the same result instance, which should therefore be
+ * treated as read-only.</p>
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Returns the result of {@code computation} for {@code key}, joining a computation
+     * already in flight for the same key when there is one.
+     */
+    public V execute(K key, Supplier<? extends V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executions.increment();
+        try {
+            V result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return number of computations actually run
+     */
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * @return number of calls served by joining a computation already in flight
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return number of keys with a computation currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.testingapp.domain.dto;
+
+import com.company.testingapp.processor.GenerateJsonWriter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable counterpart of {@link HealthResponse} with the same wire format.
+ * {@code HealthRecordJsonWriter} is generated for it at compile time, so it can be
+ * serialized without reflection.
+ */
+@GenerateJsonWriter
+public record HealthRecord(
+        @JsonProperty("status") String status,
+        @JsonProperty("timestamp")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime timestamp,
+        @JsonProperty("service") String service,
+        @JsonProperty("version") String version,
+        @JsonProperty("environment") String environment,
+        @JsonProperty("uptime") String uptime,
+        @JsonProperty("details") String details) {
+
+    /**
+     * Copies the current state of a {@link HealthResponse}.
+     */
+    public static HealthRecord from(HealthResponse response) {
+        return new HealthRecord(response.getStatus(), response.getTimestamp(), response.getService(),
+                response.getVersion(), response.getEnvironment(), response.getUptime(), response.getDetails());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link HealthRecord}. The timestamp defaults to the time
+     * {@link #build()} is called, like the {@link HealthResponse} constructors.
+     */
+    public static final class Builder {
+
+        private String status;
+        private LocalDateTime timestamp;
+        private String service;
+        private String version;
+        private String environment;
+        private String uptime;
+        private String details;
+
+        private Builder() {
+        }
+
+        public Builder status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder timestamp(LocalDateTime timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        public Builder service(String service) {
+            this.service = service;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder environment(String environment) {
+            this.environment = environment;
+            return this;
+        }
+
+        public Builder uptime(String uptime) {
+            this.uptime = uptime;
+            return this;
+        }
+
+        public Builder details(String details) {
+            this.details = details;
+            return this;
+        }
+
+        public HealthRecord build() {
+            return new HealthRecord(status, timestamp != null ? timestamp : LocalDateTime.now(),
+                    service, version, environment, uptime, details);
+        }
+    }
+}
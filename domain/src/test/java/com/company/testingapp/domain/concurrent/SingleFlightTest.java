@@ -0,0 +1,109 @@
+package com.company.testingapp.domain.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    @Test
+    @DisplayName("N simultaneous callers should trigger exactly one computation")
+    void simultaneousCallers_ShouldShareOneComputation() throws Exception {
+        // Given
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        Object result = new Object();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> callers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    return singleFlight.execute("detailed", () -> {
+                        computations.incrementAndGet();
+                        awaitCoalesced(singleFlight, CALLERS - 1);
+                        return result;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Object> caller : callers) {
+                // Then
+                assertSame(result, caller.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, computations.get());
+        assertEquals(1, singleFlight.executionCount());
+        assertEquals(CALLERS - 1, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Sequential calls should not reuse a finished computation")
+    void sequentialCalls_ShouldComputeEachTime() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        int first = singleFlight.execute("key", computations::incrementAndGet);
+        int second = singleFlight.execute("key", computations::incrementAndGet);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("A failure should reach every waiting caller and clear the key")
+    void failure_ShouldPropagateToWaitersAndClearKey() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> callers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    return singleFlight.execute("key", () -> {
+                        awaitCoalesced(singleFlight, 1);
+                        throw new IllegalStateException("check failed");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> caller : callers) {
+                // Then
+                Exception e = assertThrows(Exception.class, () -> caller.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("recovered", singleFlight.execute("key", () -> "recovered"));
+    }
+
+    private static void awaitCoalesced(SingleFlight<?, ?> singleFlight, long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
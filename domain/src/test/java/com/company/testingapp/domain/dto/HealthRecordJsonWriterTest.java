@@ -0,0 +1,90 @@
+package com.company.testingapp.domain.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Golden-file tests for the generated {@link HealthRecordJsonWriter}.
+ * The golden files hold the bytes the API returned through Jackson before the writer existed.
+ */
+@DisplayName("HealthRecordJsonWriter Golden File Tests")
+class HealthRecordJsonWriterTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 8, 18, 10, 30, 0, 123_000_000);
+
+    @Test
+    @DisplayName("Detailed health should match the golden file byte for byte")
+    void detailedHealth_ShouldMatchGoldenFile() throws IOException {
+        // Given
+        HealthRecord record = HealthRecord.builder()
+                .status("UP")
+                .timestamp(TIMESTAMP)
+                .service("Testing App")
+                .version("1.0.0")
+                .environment("development")
+                .uptime("2h 30m 45s")
+                .details("All systems operational")
+                .build();
+
+        // When
+        byte[] json = HealthRecordJsonWriter.toBytes(record);
+
+        // Then
+        assertArrayEquals(golden("health-detailed.json"), json);
+    }
+
+    @Test
+    @DisplayName("Null fields should be omitted like Jackson's NON_NULL inclusion")
+    void basicHealth_ShouldOmitNullFields() throws IOException {
+        // Given
+        HealthResponse response = new HealthResponse("UP", "Testing App", "1.0.0");
+        response.setEnvironment("development");
+        response.setTimestamp(TIMESTAMP);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HealthRecordJsonWriter.writeTo(HealthRecord.from(response), out);
+
+        // Then
+        assertArrayEquals(golden("health-basic.json"), out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Strings should be escaped like Jackson's UTF-8 generator")
+    void strings_ShouldBeEscapedLikeJackson() {
+        // Given
+        HealthRecord record = new HealthRecord("UP", null, "quote\" slash\\ tab\t nl\n bell\u0007 é € 😀", null, null, null, null);
+
+        // When
+        String json = new String(HealthRecordJsonWriter.toBytes(record), StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals("{\"status\":\"UP\",\"service\":\"quote\\\" slash\\\\ tab\\t nl\\n bell\\u0007 é € \\uD83D\\uDE00\"}", json);
+    }
+
+    @Test
+    @DisplayName("Builder should default the timestamp like HealthResponse")
+    void builder_ShouldDefaultTimestamp() {
+        // When
+        HealthRecord record = HealthRecord.builder().status("UP").build();
+
+        // Then
+        assertNotNull(record.timestamp());
+        assertNull(record.details());
+    }
+
+    private static byte[] golden(String name) throws IOException {
+        try (InputStream in = HealthRecordJsonWriterTest.class.getResourceAsStream("/golden/" + name)) {
+            assertNotNull(in, "Missing golden file " + name);
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.testingapp.grpc;
+
+import com.company.testingapp.domain.service.HealthService;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the gRPC server, which serves the standard {@code grpc.health.v1.Health}
+ * protocol on its own port from the same {@link HealthService} as the REST endpoints.
+ * The publisher polls the undecorated service, so its refreshes do not show up as
+ * requests in the health history, traces and JFR events. Off unless
+ * {@code app.grpc.enabled=true}, which the {@code prod} profile sets.
+ */
+@Configuration
+@EnableConfigurationProperties(GrpcServerProperties.class)
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled")
+public class GrpcServerConfig {
+
+    @Bean
+    public HealthStatusManager grpcHealthStatusManager() {
+        return new HealthStatusManager();
+    }
+
+    @Bean
+    public HealthStatusPublisher grpcHealthStatusPublisher(
+            @Qualifier("healthServiceImpl") HealthService healthService, ApplicationAvailability availability,
+            HealthStatusManager grpcHealthStatusManager) {
+        return new HealthStatusPublisher(healthService, availability, grpcHealthStatusManager);
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(GrpcServerProperties properties,
+                                                   HealthStatusManager grpcHealthStatusManager,
+                                                   HealthStatusPublisher grpcHealthStatusPublisher,
+                                                   MeterRegistry registry) {
+        return new GrpcServerLifecycle(properties, grpcHealthStatusManager, grpcHealthStatusPublisher, registry);
+    }
+}
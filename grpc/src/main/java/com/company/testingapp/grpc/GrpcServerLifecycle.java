@@ -0,0 +1,133 @@
+package com.company.testingapp.grpc;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server and keeps its health service up to date.
+ *
+ * <p>Calls are executed directly on the Netty event loop: the only service is the health
+ * service, which answers from memory without blocking, so handing each call to another
+ * executor would only add a thread hop. On shutdown every service is marked
+ * {@code NOT_SERVING} first, so Watch callers learn about it before the port closes.</p>
+ */
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final GrpcServerProperties properties;
+    private final HealthStatusManager statusManager;
+    private final HealthStatusPublisher publisher;
+    private final MeterRegistry registry;
+
+    private volatile Server server;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ScheduledExecutorService refresher;
+
+    public GrpcServerLifecycle(GrpcServerProperties properties, HealthStatusManager statusManager,
+                               HealthStatusPublisher publisher, MeterRegistry registry) {
+        this.properties = properties;
+        this.statusManager = statusManager;
+        this.publisher = publisher;
+        this.registry = registry;
+    }
+
+    @Override
+    public void start() {
+        publisher.refresh();
+        bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("grpc-server-boss", true));
+        workerGroup = new NioEventLoopGroup(properties.getWorkerThreads(),
+                new DefaultThreadFactory("grpc-server-worker", true));
+        Server started = NettyServerBuilder.forPort(properties.getPort())
+                .channelType(NioServerSocketChannel.class)
+                .bossEventLoopGroup(bossGroup)
+                .workerEventLoopGroup(workerGroup)
+                .directExecutor()
+                .addService(statusManager.getHealthService())
+                .intercept(new MetricCollectingServerInterceptor(registry))
+                .build();
+        try {
+            started.start();
+        } catch (IOException e) {
+            shutdownEventLoops();
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + properties.getPort(), e);
+        }
+        server = started;
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-health-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(publisher::refresh, interval, interval, TimeUnit.MILLISECONDS);
+        logger.info("gRPC server started on port {}", started.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        refresher.shutdownNow();
+        statusManager.enterTerminalState();
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(properties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                // Watch streams only end when the server cancels them
+                running.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        shutdownEventLoops();
+        server = null;
+        logger.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Starts before and stops after the web server, like the other probe listeners, so
+     * readiness is reported as {@code NOT_SERVING} for the whole drain.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    /**
+     * @return the bound port, which differs from the configured one when that is 0
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+
+    private void shutdownEventLoops() {
+        bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+}
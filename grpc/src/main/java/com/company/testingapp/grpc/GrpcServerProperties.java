@@ -0,0 +1,80 @@
+package com.company.testingapp.grpc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the gRPC server.
+ * Bound from the {@code app.grpc} prefix.
+ */
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcServerProperties {
+
+    /**
+     * Whether the gRPC server is started next to the servlet container.
+     */
+    private boolean enabled;
+
+    /**
+     * Port of the gRPC server; 0 picks a free port.
+     */
+    private int port = 9090;
+
+    /**
+     * Event-loop threads serving gRPC connections. Health checks are answered on them
+     * directly, so a couple are plenty.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * How often HealthService is consulted to update the published serving status.
+     * Availability state changes are published immediately regardless.
+     */
+    private Duration healthRefreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long in-flight calls and Watch streams get to finish on shutdown.
+     */
+    private Duration shutdownGracePeriod = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public Duration getHealthRefreshInterval() {
+        return healthRefreshInterval;
+    }
+
+    public void setHealthRefreshInterval(Duration healthRefreshInterval) {
+        this.healthRefreshInterval = healthRefreshInterval;
+    }
+
+    public Duration getShutdownGracePeriod() {
+        return shutdownGracePeriod;
+    }
+
+    public void setShutdownGracePeriod(Duration shutdownGracePeriod) {
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.testingapp.grpc;
+
+import com.company.testingapp.domain.service.HealthService;
+import io.grpc.health.v1.HealthCheckResponse.ServingStatus;
+import io.grpc.protobuf.services.HealthStatusManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationListener;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Publishes the application's health to a {@link HealthStatusManager}, which answers
+ * {@code grpc.health.v1.Health} Check calls from memory and streams every change to
+ * Watch callers.
+ *
+ * <p>Three services are published: {@value #READINESS} and the empty service name, which
+ * is what clients probe when they name none, are serving while the application accepts
+ * traffic and {@link HealthService} reports it ready and up; {@value #LIVENESS} is serving
+ * while the application is live. Kubernetes gRPC probes select one with
+ * {@code grpc.service}. The statuses are refreshed on a fixed delay and on every
+ * availability change, so a drain reaches watchers at once.</p>
+ */
+public class HealthStatusPublisher implements ApplicationListener<AvailabilityChangeEvent<?>> {
+
+    public static final String READINESS = "readiness";
+    public static final String LIVENESS = "liveness";
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthStatusPublisher.class);
+
+    private final HealthService healthService;
+    private final ApplicationAvailability availability;
+    private final HealthStatusManager statusManager;
+
+    public HealthStatusPublisher(HealthService healthService, ApplicationAvailability availability,
+                                 HealthStatusManager statusManager) {
+        this.healthService = healthService;
+        this.availability = availability;
+        this.statusManager = statusManager;
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<?> event) {
+        refresh();
+    }
+
+    /**
+     * Re-evaluates every published service. The manager only notifies watchers of
+     * statuses that changed.
+     */
+    public synchronized void refresh() {
+        ServingStatus ready = status(availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC
+                && check("readiness", () -> healthService.isApplicationReady()
+                && "UP".equals(healthService.getHealthStatus().getStatus())));
+        ServingStatus alive = status(availability.getLivenessState() == LivenessState.CORRECT
+                && check("liveness", healthService::isApplicationAlive));
+        statusManager.setStatus(HealthStatusManager.SERVICE_NAME_ALL_SERVICES, ready);
+        statusManager.setStatus(READINESS, ready);
+        statusManager.setStatus(LIVENESS, alive);
+    }
+
+    private static boolean check(String name, BooleanSupplier check) {
+        try {
+            return check.getAsBoolean();
+        } catch (RuntimeException e) {
+            logger.warn("The {} check for the gRPC health service failed", name, e);
+            return false;
+        }
+    }
+
+    private static ServingStatus status(boolean serving) {
+        return serving ? ServingStatus.SERVING : ServingStatus.NOT_SERVING;
+    }
+}
@@ -0,0 +1,182 @@
+package com.company.testingapp.grpc;
+
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.domain.service.HealthService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthCheckResponse.ServingStatus;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthStatusPublisherTest {
+
+    private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+    private final StaticApplicationContext context = new StaticApplicationContext();
+    private final StubHealthService healthService = new StubHealthService();
+    private final HealthStatusManager statusManager = new HealthStatusManager();
+    private final HealthStatusPublisher publisher = new HealthStatusPublisher(healthService, availability,
+            statusManager);
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(statusManager.getHealthService()).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        publish(LivenessState.CORRECT);
+        publish(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @AfterEach
+    void stopServer() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void shouldServeEveryServiceWhileTheApplicationIsHealthy() {
+        // Given
+        HealthGrpc.HealthBlockingStub health = HealthGrpc.newBlockingStub(channel);
+
+        // Then
+        assertEquals(ServingStatus.SERVING, check(health, ""));
+        assertEquals(ServingStatus.SERVING, check(health, HealthStatusPublisher.READINESS));
+        assertEquals(ServingStatus.SERVING, check(health, HealthStatusPublisher.LIVENESS));
+    }
+
+    @Test
+    void shouldStreamReadinessChangesToWatchers() throws InterruptedException {
+        // Given
+        BlockingQueue<ServingStatus> statuses = new LinkedBlockingQueue<>();
+        HealthGrpc.newStub(channel).watch(HealthCheckRequest.newBuilder().setService("").build(),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(HealthCheckResponse response) {
+                        statuses.add(response.getStatus());
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        assertEquals(ServingStatus.SERVING, statuses.poll(1, TimeUnit.SECONDS));
+
+        // When
+        publish(ReadinessState.REFUSING_TRAFFIC);
+        publish(ReadinessState.ACCEPTING_TRAFFIC);
+        publisher.refresh();
+
+        // Then
+        assertEquals(ServingStatus.NOT_SERVING, statuses.poll(1, TimeUnit.SECONDS));
+        assertEquals(ServingStatus.SERVING, statuses.poll(1, TimeUnit.SECONDS));
+        assertNull(statuses.poll(100, TimeUnit.MILLISECONDS), "an unchanged status must not be streamed");
+    }
+
+    @Test
+    void shouldReportNotServingWhenAHealthCheckFails() {
+        // Given
+        HealthGrpc.HealthBlockingStub health = HealthGrpc.newBlockingStub(channel);
+
+        // When
+        healthService.failure = new IllegalStateException("database unreachable");
+        publisher.refresh();
+
+        // Then
+        assertEquals(ServingStatus.NOT_SERVING, check(health, HealthStatusPublisher.READINESS));
+        assertEquals(ServingStatus.NOT_SERVING, check(health, HealthStatusPublisher.LIVENESS));
+    }
+
+    @Test
+    void shouldAnswerOverTheNetworkAndStopServingOnShutdown() {
+        // Given
+        GrpcServerProperties properties = new GrpcServerProperties();
+        properties.setPort(0);
+        GrpcServerLifecycle lifecycle = new GrpcServerLifecycle(properties, statusManager, publisher,
+                new SimpleMeterRegistry());
+        lifecycle.start();
+        ManagedChannel network = NettyChannelBuilder.forAddress("127.0.0.1", lifecycle.getPort())
+                .usePlaintext().build();
+
+        try {
+            // When
+            ServingStatus serving = check(HealthGrpc.newBlockingStub(network), HealthStatusPublisher.READINESS);
+            lifecycle.stop();
+
+            // Then
+            assertEquals(ServingStatus.SERVING, serving);
+            assertEquals(ServingStatus.NOT_SERVING, check(HealthGrpc.newBlockingStub(channel), ""));
+            assertFalse(lifecycle.isRunning());
+        } finally {
+            network.shutdownNow();
+        }
+    }
+
+    private void publish(AvailabilityState state) {
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(context, state));
+        publisher.onApplicationEvent(new AvailabilityChangeEvent<>(context, state));
+    }
+
+    private static ServingStatus check(HealthGrpc.HealthBlockingStub health, String service) {
+        return health.check(HealthCheckRequest.newBuilder().setService(service).build()).getStatus();
+    }
+
+    private static final class StubHealthService implements HealthService {
+
+        private volatile RuntimeException failure;
+
+        @Override
+        public HealthResponse getHealthStatus() {
+            if (failure != null) {
+                throw failure;
+            }
+            return new HealthResponse("UP", "Testing App", "1.0.0");
+        }
+
+        @Override
+        public HealthResponse getDetailedHealthStatus() {
+            return getHealthStatus();
+        }
+
+        @Override
+        public boolean isApplicationReady() {
+            getHealthStatus();
+            return true;
+        }
+
+        @Override
+        public boolean isApplicationAlive() {
+            getHealthStatus();
+            return true;
+        }
+    }
+}
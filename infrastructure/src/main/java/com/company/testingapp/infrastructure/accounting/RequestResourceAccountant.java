@@ -0,0 +1,218 @@
+package com.company.testingapp.infrastructure.accounting;
+
+import com.company.testingapp.infrastructure.admission.AdmissionTimingInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures, for a sample of requests, the bytes allocated and the CPU time consumed by the
+ * thread handling them, and records both per route as
+ * {@code http.server.requests.allocated} and {@code http.server.requests.cpu}.
+ *
+ * <p>The counters of {@code com.sun.management.ThreadMXBean} are read when the handler
+ * chain starts and after the request completes, so the figures cover handler execution,
+ * message conversion and request logging but not the servlet filters. An asynchronous
+ * request is measured on each thread that dispatches it and the parts are added up; work
+ * done on other executors in between is not included.</p>
+ *
+ * <p>On JDK 21 the thread counters are not available for virtual threads (they read -1),
+ * and a virtual thread can move between carrier threads, so the carrier's counters would
+ * not describe the request either. Sampled requests running on a virtual thread are
+ * therefore counted in {@code http.server.requests.resources.unmeasured} rather than
+ * recorded.</p>
+ */
+public class RequestResourceAccountant {
+
+    static final String ALLOCATED = "http.server.requests.allocated";
+    static final String CPU = "http.server.requests.cpu";
+    static final String UNMEASURED = "http.server.requests.resources.unmeasured";
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestResourceAccountant.class);
+    private static final String SEGMENT_ATTRIBUTE = RequestResourceAccountant.class.getName() + ".segment";
+    private static final RequestResourceAccountant DISABLED = new RequestResourceAccountant();
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final MeterRegistry registry;
+    private final double sampleRate;
+    private final boolean publishHistogram;
+    private final boolean allocationSupported;
+    private final boolean cpuSupported;
+    private final Counter virtualThreads;
+    private final Counter unsupported;
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    public RequestResourceAccountant(ResourceAccountingProperties properties, MeterRegistry registry) {
+        if (properties.getSampleRate() < 0 || properties.getSampleRate() > 1) {
+            throw new IllegalArgumentException("app.resource-accounting.sample-rate must be between 0 and 1");
+        }
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.registry = registry;
+        this.sampleRate = properties.getSampleRate();
+        this.publishHistogram = properties.isPublishHistogram();
+        this.allocationSupported = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+        this.cpuSupported = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        this.virtualThreads = unmeasured("virtual_thread");
+        this.unsupported = unmeasured("unsupported");
+        if (!allocationSupported || !cpuSupported) {
+            logger.warn("Thread {} accounting is not available in this JVM and is not recorded",
+                    allocationSupported ? "CPU time" : cpuSupported ? "allocation" : "allocation and CPU time");
+        }
+    }
+
+    private RequestResourceAccountant() {
+        this.threads = null;
+        this.registry = null;
+        this.sampleRate = 0;
+        this.publishHistogram = false;
+        this.allocationSupported = false;
+        this.cpuSupported = false;
+        this.virtualThreads = null;
+        this.unsupported = null;
+    }
+
+    /**
+     * An accountant that never samples, for when the feature is disabled.
+     */
+    public static RequestResourceAccountant disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Starts measuring on the current thread: decides whether a new request is sampled,
+     * and resumes a sampled asynchronous request on the thread it was dispatched to.
+     */
+    public void begin(HttpServletRequest request) {
+        Segment segment = (Segment) request.getAttribute(SEGMENT_ATTRIBUTE);
+        if (segment == null) {
+            if (sampleRate == 0 || request.getDispatcherType() == DispatcherType.ASYNC
+                    || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return;
+            }
+            if (!allocationSupported && !cpuSupported) {
+                unsupported.increment();
+                return;
+            }
+            segment = new Segment();
+            request.setAttribute(SEGMENT_ATTRIBUTE, segment);
+        }
+        if (Thread.currentThread().isVirtual()) {
+            segment.virtual = true;
+            return;
+        }
+        segment.thread = Thread.currentThread();
+        segment.startAllocated = allocationSupported ? threads.getCurrentThreadAllocatedBytes() : 0;
+        segment.startCpu = cpuSupported ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Stops measuring on the current thread while an asynchronous request waits for its result.
+     */
+    public void suspend(HttpServletRequest request) {
+        Segment segment = (Segment) request.getAttribute(SEGMENT_ATTRIBUTE);
+        if (segment != null) {
+            stop(segment);
+        }
+    }
+
+    /**
+     * Stops measuring and records the request under its method, route and status.
+     */
+    public void end(HttpServletRequest request, HttpServletResponse response) {
+        Segment segment = (Segment) request.getAttribute(SEGMENT_ATTRIBUTE);
+        if (segment == null) {
+            return;
+        }
+        request.removeAttribute(SEGMENT_ATTRIBUTE);
+        stop(segment);
+        if (segment.virtual) {
+            virtualThreads.increment();
+            return;
+        }
+        int status = response.getStatus();
+        Meters routeMeters = meters.computeIfAbsent(new Key(AdmissionTimingInterceptor.method(request),
+                AdmissionTimingInterceptor.route(request, status), status), this::register);
+        if (allocationSupported) {
+            routeMeters.allocated().record(segment.allocated);
+        }
+        if (cpuSupported) {
+            routeMeters.cpu().record(segment.cpu, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void stop(Segment segment) {
+        if (segment.thread != Thread.currentThread()) {
+            // Already stopped, or resumed on a virtual thread
+            return;
+        }
+        segment.thread = null;
+        if (allocationSupported) {
+            segment.allocated += threads.getCurrentThreadAllocatedBytes() - segment.startAllocated;
+        }
+        if (cpuSupported) {
+            segment.cpu += threads.getCurrentThreadCpuTime() - segment.startCpu;
+        }
+    }
+
+    private Counter unmeasured(String reason) {
+        return Counter.builder(UNMEASURED)
+                .description("Sampled requests whose thread resources could not be measured")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private Meters register(Key key) {
+        DistributionSummary allocated = DistributionSummary.builder(ALLOCATED)
+                .description("Bytes allocated by the request thread, for sampled requests")
+                .baseUnit("bytes")
+                .tag("method", key.method())
+                .tag("uri", key.route())
+                .tag("status", Integer.toString(key.status()))
+                .publishPercentileHistogram(publishHistogram)
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .register(registry);
+        Timer cpu = Timer.builder(CPU)
+                .description("CPU time consumed by the request thread, for sampled requests")
+                .tag("method", key.method())
+                .tag("uri", key.route())
+                .tag("status", Integer.toString(key.status()))
+                .publishPercentileHistogram(publishHistogram)
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        return new Meters(allocated, cpu);
+    }
+
+    /**
+     * Counters of one request; only touched by the thread currently dispatching it.
+     */
+    private static final class Segment {
+
+        private Thread thread;
+        private boolean virtual;
+        private long startAllocated;
+        private long startCpu;
+        private long allocated;
+        private long cpu;
+    }
+
+    private record Key(String method, String route, int status) {
+    }
+
+    private record Meters(DistributionSummary allocated, Timer cpu) {
+    }
+}
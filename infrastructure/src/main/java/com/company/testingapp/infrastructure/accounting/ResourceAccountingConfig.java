@@ -0,0 +1,23 @@
+package com.company.testingapp.infrastructure.accounting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link RequestResourceAccountant} used by the request logging interceptor.
+ * Disable with {@code app.resource-accounting.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(ResourceAccountingProperties.class)
+@ConditionalOnProperty(prefix = "app.resource-accounting", name = "enabled", matchIfMissing = true)
+public class ResourceAccountingConfig {
+
+    @Bean
+    public RequestResourceAccountant requestResourceAccountant(ResourceAccountingProperties properties,
+                                                               MeterRegistry registry) {
+        return new RequestResourceAccountant(properties, registry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.testingapp.infrastructure.accounting;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-route allocation and CPU accounting.
+ * Bound from the {@code app.resource-accounting} prefix.
+ */
+@ConfigurationProperties(prefix = "app.resource-accounting")
+public class ResourceAccountingProperties {
+
+    /**
+     * Whether bytes allocated and CPU time spent by request threads are recorded per route.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fraction of requests measured, between 0 and 1. Unsampled requests cost one random
+     * number; the recorded counts are therefore a sample, not request totals.
+     */
+    private double sampleRate = 0.1;
+
+    /**
+     * Whether the distributions publish percentile histogram buckets, so percentiles can
+     * be aggregated across instances.
+     */
+    private boolean publishHistogram = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean isPublishHistogram() {
+        return publishHistogram;
+    }
+
+    public void setPublishHistogram(boolean publishHistogram) {
+        this.publishHistogram = publishHistogram;
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.testingapp.infrastructure.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Separates queue wait from service time: replaces the connector's worker pool with a
+ * {@link QueueTimingExecutor} sized from {@code server.tomcat.threads}, and registers the
+ * per-route {@link AdmissionTimingInterceptor}. The pool is left alone when virtual
+ * threads are enabled, since requests then never queue for a worker.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", matchIfMissing = true)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry registry;
+
+    public AdmissionConfig(AdmissionProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> queueTimingExecutorCustomizer(
+            ServerProperties serverProperties) {
+        ServerProperties.Tomcat.Threads threads = serverProperties.getTomcat().getThreads();
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            QueueTimingExecutor executor = new QueueTimingExecutor(Timer.builder("tomcat.threads.queue.wait")
+                    .description("Time connector tasks waited for a worker thread")
+                    .publishPercentileHistogram(properties.isPublishHistogram())
+                    .register(registry));
+            executor.setName("queue-timing-executor-" + connector.getPort());
+            executor.setNamePrefix("http-exec-");
+            executor.setMaxThreads(threads.getMax());
+            executor.setMinSpareThreads(threads.getMinSpare());
+            // The service starts the executor before its connectors and stops it after them
+            connector.getService().addExecutor(executor);
+            connector.getProtocolHandler().setExecutor(executor);
+        });
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionTimingInterceptor(this.registry, properties.isPublishHistogram()))
+                .addPathPatterns("/**");
+    }
+}
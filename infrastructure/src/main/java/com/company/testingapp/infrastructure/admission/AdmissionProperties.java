@@ -0,0 +1,38 @@
+package com.company.testingapp.infrastructure.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for queue-wait and service-time metrics.
+ * Bound from the {@code app.admission} prefix.
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    /**
+     * Whether request processing is split into queue wait and service time.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the timers publish percentile histogram buckets, so percentiles can be
+     * aggregated across instances.
+     */
+    private boolean publishHistogram = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isPublishHistogram() {
+        return publishHistogram;
+    }
+
+    public void setPublishHistogram(boolean publishHistogram) {
+        this.publishHistogram = publishHistogram;
+    }
+}
@@ -0,0 +1,116 @@
+package com.company.testingapp.infrastructure.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per route, how long a request waited for a worker thread
+ * ({@code http.server.requests.queue.wait}) separately from how long its handler ran
+ * ({@code http.server.requests.service.time}). A growing queue wait with a flat service
+ * time points at thread-pool saturation; the opposite points at a slow handler.
+ */
+public class AdmissionTimingInterceptor implements HandlerInterceptor {
+
+    static final String QUEUE_WAIT = "http.server.requests.queue.wait";
+    static final String SERVICE_TIME = "http.server.requests.service.time";
+
+    private static final String QUEUE_WAIT_ATTRIBUTE = AdmissionTimingInterceptor.class.getName() + ".queueWait";
+    private static final String HANDLER_START_ATTRIBUTE = AdmissionTimingInterceptor.class.getName() + ".handlerStart";
+
+    private static final Set<HttpMethod> STANDARD_METHODS = Set.of(HttpMethod.values());
+
+    private final MeterRegistry registry;
+    private final boolean publishHistogram;
+    private final Map<Key, Timers> timers = new ConcurrentHashMap<>();
+
+    public AdmissionTimingInterceptor(MeterRegistry registry, boolean publishHistogram) {
+        this.registry = registry;
+        this.publishHistogram = publishHistogram;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(HANDLER_START_ATTRIBUTE) == null) {
+            request.setAttribute(QUEUE_WAIT_ATTRIBUTE, QueueTimingExecutor.claimCurrent());
+            request.setAttribute(HANDLER_START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(HANDLER_START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        long serviceTime = System.nanoTime() - (Long) start;
+        int status = response.getStatus();
+        Timers routeTimers = timers.computeIfAbsent(
+                new Key(method(request), route(request, status), status), this::register);
+        routeTimers.service().record(serviceTime, TimeUnit.NANOSECONDS);
+        long queueWait = (Long) request.getAttribute(QUEUE_WAIT_ATTRIBUTE);
+        if (queueWait >= 0) {
+            routeTimers.queue().record(queueWait, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Request method, with methods outside the HTTP standard grouped as UNKNOWN so
+     * arbitrary method tokens cannot grow the timer map.
+     */
+    public static String method(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return STANDARD_METHODS.contains(method) ? method.name() : "UNKNOWN";
+    }
+
+    /**
+     * Route template of the request; unmatched requests are grouped like Micrometer's
+     * {@code uri} tag so they cannot inflate cardinality.
+     */
+    public static String route(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == 404) {
+            return "NOT_FOUND";
+        }
+        if (status >= 300 && status < 400) {
+            return "REDIRECTION";
+        }
+        return "UNKNOWN";
+    }
+
+    private Timers register(Key key) {
+        return new Timers(
+                timer(QUEUE_WAIT, "Time the request waited for a worker thread", key),
+                timer(SERVICE_TIME, "Time from handler start to request completion", key));
+    }
+
+    private Timer timer(String name, String description, Key key) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("method", key.method())
+                .tag("uri", key.route())
+                .tag("status", Integer.toString(key.status()))
+                .publishPercentileHistogram(publishHistogram)
+                .register(registry);
+    }
+
+    private record Key(String method, String route, int status) {
+    }
+
+    private record Timers(Timer queue, Timer service) {
+    }
+}
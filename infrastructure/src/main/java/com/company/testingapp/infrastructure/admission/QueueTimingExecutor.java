@@ -0,0 +1,73 @@
+package com.company.testingapp.infrastructure.admission;
+
+import io.micrometer.core.instrument.Timer;
+import org.apache.catalina.core.StandardThreadExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tomcat's standard worker pool, recording when each task was handed to the pool and
+ * when a worker thread picked it up.
+ *
+ * <p>The connector submits a task once a socket has data to read, so the gap between the
+ * two timestamps is the time spent waiting for a free worker thread. Every wait is
+ * recorded on the pool-wide timer; the timestamps of the task a thread is currently
+ * running are also available through {@link #claimCurrent()} so the first request read
+ * by that task can attribute the wait to its route.</p>
+ */
+public class QueueTimingExecutor extends StandardThreadExecutor {
+
+    private static final ThreadLocal<TimedTask> CURRENT = new ThreadLocal<>();
+
+    private final Timer queueWait;
+
+    public QueueTimingExecutor(Timer queueWait) {
+        this.queueWait = queueWait;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(new TimedTask(command, System.nanoTime()));
+    }
+
+    /**
+     * Returns the queue wait of the task running on this thread, in nanoseconds, and
+     * forgets it, so further requests read by the same task (pipelining) report none.
+     *
+     * @return the wait, or {@code -1} when the thread is not running a timed task or the
+     * wait has already been claimed
+     */
+    public static long claimCurrent() {
+        TimedTask task = CURRENT.get();
+        if (task == null || task.claimed) {
+            return -1;
+        }
+        task.claimed = true;
+        return task.started - task.enqueued;
+    }
+
+    private final class TimedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final long enqueued;
+        private long started;
+        private boolean claimed;
+
+        private TimedTask(Runnable delegate, long enqueued) {
+            this.delegate = delegate;
+            this.enqueued = enqueued;
+        }
+
+        @Override
+        public void run() {
+            started = System.nanoTime();
+            queueWait.record(started - enqueued, TimeUnit.NANOSECONDS);
+            CURRENT.set(this);
+            try {
+                delegate.run();
+            } finally {
+                CURRENT.remove();
+            }
+        }
+    }
+}
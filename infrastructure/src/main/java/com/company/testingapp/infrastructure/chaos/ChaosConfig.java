@@ -0,0 +1,50 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import com.company.testingapp.domain.service.HealthService;
+import com.company.testingapp.infrastructure.services.InstrumentedHealthService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Wires fault injection around the {@link HealthService} implementations.
+ * Only active with the {@code chaos} profile, and never together with {@code prod}.
+ */
+@Configuration
+@Profile("chaos & !prod")
+@EnableConfigurationProperties(ChaosProperties.class)
+public class ChaosConfig {
+
+    @Bean
+    public FaultInjector faultInjector(ChaosProperties properties) {
+        return new FaultInjector(properties);
+    }
+
+    @Bean
+    public ChaosEndpoint chaosEndpoint(FaultInjector injector) {
+        return new ChaosEndpoint(injector);
+    }
+
+    /**
+     * Wraps every health service implementation, but not the instrumenting decorator,
+     * so injected latency shows up in its spans, events and metrics. Static, with the
+     * injector resolved only when the first service is wrapped, so registering the
+     * post-processor does not initialize other beans early.
+     */
+    @Bean
+    public static BeanPostProcessor faultInjectingHealthServicePostProcessor(ObjectProvider<FaultInjector> injector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HealthService service && !(bean instanceof InstrumentedHealthService)
+                        && !(bean instanceof FaultInjectingHealthService)) {
+                    return new FaultInjectingHealthService(service, injector.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for fault injection at {@code /actuator/chaos}.
+ * <ul>
+ *   <li>{@code GET} lists the active fault per check</li>
+ *   <li>{@code POST /{check}} replaces the fault of a check, e.g.
+ *   {@code {"distribution":"EXPONENTIAL","latency":"200ms","errorRate":0.05}}</li>
+ *   <li>{@code DELETE /{check}} removes the fault of a check, {@code DELETE} removes all</li>
+ * </ul>
+ */
+@Endpoint(id = "chaos")
+public class ChaosEndpoint {
+
+    private final FaultInjector injector;
+
+    public ChaosEndpoint(FaultInjector injector) {
+        this.injector = injector;
+    }
+
+    @ReadOperation
+    public Map<String, Object> faults() {
+        return Map.of(
+                "checks", FaultInjectingHealthService.CHECKS,
+                "hangDuration", injector.getHangDuration().toString(),
+                "faults", injector.faults());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<FaultProfile> inject(@Selector String check,
+                                                    @Nullable FaultProfile.LatencyDistribution distribution,
+                                                    @Nullable Duration latency,
+                                                    @Nullable Double errorRate,
+                                                    @Nullable Double hangRate) {
+        if (!FaultInjectingHealthService.CHECKS.contains(check)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        FaultProfile fault;
+        try {
+            fault = new FaultProfile(distribution, latency,
+                    errorRate != null ? errorRate : 0, hangRate != null ? hangRate : 0);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        injector.inject(check, fault);
+        return new WebEndpointResponse<>(fault);
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> clear(@Selector String check) {
+        if (!FaultInjectingHealthService.CHECKS.contains(check)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        injector.clear(check);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    @DeleteOperation
+    public void clearAll() {
+        injector.clearAll();
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fault profiles injected around {@code HealthService} implementations.
+ * Bound from the {@code app.chaos} prefix; only used with the {@code chaos} profile.
+ */
+@ConfigurationProperties(prefix = "app.chaos")
+public class ChaosProperties {
+
+    /**
+     * How long an injected hang blocks before failing, standing in for a dependency
+     * call that never returns.
+     */
+    private Duration hangDuration = Duration.ofMinutes(5);
+
+    /**
+     * Faults applied at startup, keyed by check (the HealthService method name,
+     * e.g. getHealthStatus or isApplicationReady).
+     */
+    private Map<String, Fault> checks = new LinkedHashMap<>();
+
+    public Duration getHangDuration() {
+        return hangDuration;
+    }
+
+    public void setHangDuration(Duration hangDuration) {
+        this.hangDuration = hangDuration;
+    }
+
+    public Map<String, Fault> getChecks() {
+        return checks;
+    }
+
+    public void setChecks(Map<String, Fault> checks) {
+        this.checks = checks;
+    }
+
+    public static class Fault {
+
+        /**
+         * Shape of the injected latency around {@link #latency}.
+         */
+        private FaultProfile.LatencyDistribution distribution = FaultProfile.LatencyDistribution.FIXED;
+
+        /**
+         * Mean injected latency.
+         */
+        private Duration latency = Duration.ZERO;
+
+        /**
+         * Fraction of calls, between 0 and 1, that fail.
+         */
+        private double errorRate;
+
+        /**
+         * Fraction of calls, between 0 and 1, that hang for the hang duration.
+         */
+        private double hangRate;
+
+        public FaultProfile.LatencyDistribution getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(FaultProfile.LatencyDistribution distribution) {
+            this.distribution = distribution;
+        }
+
+        public Duration getLatency() {
+            return latency;
+        }
+
+        public void setLatency(Duration latency) {
+            this.latency = latency;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public void setErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        public double getHangRate() {
+            return hangRate;
+        }
+
+        public void setHangRate(double hangRate) {
+            this.hangRate = hangRate;
+        }
+
+        FaultProfile toProfile() {
+            return new FaultProfile(distribution, latency, errorRate, hangRate);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.domain.service.HealthService;
+
+import java.util.Set;
+
+/**
+ * Decorator that runs the {@link FaultInjector} before each call to a health service.
+ * Checks returning a response fail with {@link InjectedFaultException}; the
+ * readiness and liveness checks report {@code false} instead, like a failed probe.
+ */
+public class FaultInjectingHealthService implements HealthService {
+
+    /**
+     * Check names faults can be injected into.
+     */
+    public static final Set<String> CHECKS =
+            Set.of("getHealthStatus", "getDetailedHealthStatus", "isApplicationReady", "isApplicationAlive");
+
+    private final HealthService delegate;
+    private final FaultInjector injector;
+
+    public FaultInjectingHealthService(HealthService delegate, FaultInjector injector) {
+        this.delegate = delegate;
+        this.injector = injector;
+    }
+
+    @Override
+    public HealthResponse getHealthStatus() {
+        injector.apply("getHealthStatus");
+        return delegate.getHealthStatus();
+    }
+
+    @Override
+    public HealthResponse getDetailedHealthStatus() {
+        injector.apply("getDetailedHealthStatus");
+        return delegate.getDetailedHealthStatus();
+    }
+
+    @Override
+    public boolean isApplicationReady() {
+        try {
+            injector.apply("isApplicationReady");
+        } catch (InjectedFaultException e) {
+            return false;
+        }
+        return delegate.isApplicationReady();
+    }
+
+    @Override
+    public boolean isApplicationAlive() {
+        try {
+            injector.apply("isApplicationAlive");
+        } catch (InjectedFaultException e) {
+            return false;
+        }
+        return delegate.isApplicationAlive();
+    }
+
+    HealthService getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,104 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the active fault profile per health check and applies it to calls.
+ * Profiles start from {@link ChaosProperties} and can be replaced at runtime
+ * through {@link ChaosEndpoint}.
+ */
+public class FaultInjector implements MeterBinder {
+
+    private final Map<String, FaultProfile> faults = new ConcurrentHashMap<>();
+    private final Duration hangDuration;
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder hung = new LongAdder();
+
+    public FaultInjector(ChaosProperties properties) {
+        this.hangDuration = properties.getHangDuration();
+        properties.getChecks().forEach((check, fault) -> faults.put(check, fault.toProfile()));
+    }
+
+    /**
+     * Applies the fault profile of {@code check}, if any: sleeps for the sampled
+     * latency, then possibly hangs or throws.
+     *
+     * @throws InjectedFaultException when the call is failed on purpose
+     */
+    public void apply(String check) {
+        FaultProfile fault = faults.get(check);
+        if (fault == null) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = fault.sampleLatencyNanos(random);
+        if (latency > 0) {
+            delayed.increment();
+            sleep(latency, check);
+        }
+        double roll = random.nextDouble();
+        if (roll < fault.hangRate()) {
+            hung.increment();
+            sleep(hangDuration.toNanos(), check);
+            throw new InjectedFaultException("Injected hang in " + check + " timed out after " + hangDuration);
+        }
+        if (roll < fault.hangRate() + fault.errorRate()) {
+            failed.increment();
+            throw new InjectedFaultException("Injected failure in " + check);
+        }
+    }
+
+    public Map<String, FaultProfile> faults() {
+        return new TreeMap<>(faults);
+    }
+
+    public void inject(String check, FaultProfile fault) {
+        faults.put(check, fault);
+    }
+
+    public void clear(String check) {
+        faults.remove(check);
+    }
+
+    public void clearAll() {
+        faults.clear();
+    }
+
+    public Duration getHangDuration() {
+        return hangDuration;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("chaos.faults.injected", delayed, LongAdder::sum)
+                .description("Health check calls affected by fault injection")
+                .tag("fault", "latency")
+                .register(registry);
+        FunctionCounter.builder("chaos.faults.injected", failed, LongAdder::sum)
+                .tag("fault", "error")
+                .register(registry);
+        FunctionCounter.builder("chaos.faults.injected", hung, LongAdder::sum)
+                .tag("fault", "hang")
+                .register(registry);
+    }
+
+    private static void sleep(long nanos, String check) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InjectedFaultException("Interrupted while injecting a fault in " + check);
+        }
+    }
+}
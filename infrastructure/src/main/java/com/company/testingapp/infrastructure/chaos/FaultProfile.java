@@ -0,0 +1,50 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Faults injected into one health check: a latency drawn from {@link #distribution()}
+ * with mean {@link #latency()}, then an error or a hang with the given probabilities.
+ */
+public record FaultProfile(LatencyDistribution distribution, Duration latency, double errorRate, double hangRate) {
+
+    public FaultProfile {
+        if (distribution == null) {
+            distribution = LatencyDistribution.FIXED;
+        }
+        if (latency == null) {
+            latency = Duration.ZERO;
+        }
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("latency must not be negative");
+        }
+        if (errorRate < 0 || errorRate > 1 || hangRate < 0 || hangRate > 1) {
+            throw new IllegalArgumentException("errorRate and hangRate must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Draws the latency to inject for one call.
+     */
+    long sampleLatencyNanos(RandomGenerator random) {
+        long mean = latency.toNanos();
+        if (mean == 0) {
+            return 0;
+        }
+        return switch (distribution) {
+            case FIXED -> mean;
+            case UNIFORM -> random.nextLong(2 * mean + 1);
+            case EXPONENTIAL -> (long) (mean * random.nextExponential());
+        };
+    }
+
+    public enum LatencyDistribution {
+        /** Every call is delayed by exactly the latency. */
+        FIXED,
+        /** Delays spread evenly between zero and twice the latency. */
+        UNIFORM,
+        /** Mostly short delays with a long tail, as from a congested dependency. */
+        EXPONENTIAL
+    }
+}
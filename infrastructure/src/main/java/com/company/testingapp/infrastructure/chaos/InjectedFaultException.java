@@ -0,0 +1,11 @@
+package com.company.testingapp.infrastructure.chaos;
+
+/**
+ * Thrown by a health check failed on purpose by the {@link FaultInjector}.
+ */
+public class InjectedFaultException extends RuntimeException {
+
+    public InjectedFaultException(String message) {
+        super(message, null, false, false);
+    }
+}
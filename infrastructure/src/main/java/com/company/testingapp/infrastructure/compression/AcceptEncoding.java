@@ -0,0 +1,61 @@
+package com.company.testingapp.infrastructure.compression;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Enumeration;
+
+/**
+ * Reads the {@code Accept-Encoding} request header (RFC 9110, section 12.5.3).
+ * Elements are matched case-insensitively with optional whitespace around {@code ;} and
+ * {@code =}, and a coding listed by name takes precedence over {@code *} wherever it
+ * appears in the list.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Whether the request accepts {@code coding} with a quality above zero. A coding the
+     * header does not mention, by name or through {@code *}, is not acceptable.
+     */
+    public static boolean accepts(HttpServletRequest request, String coding) {
+        double named = -1;
+        double wildcard = -1;
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String element : headers.nextElement().split(",")) {
+                int semicolon = element.indexOf(';');
+                String name = (semicolon < 0 ? element : element.substring(0, semicolon)).trim();
+                if (name.equalsIgnoreCase(coding) || "gzip".equalsIgnoreCase(coding) && name.equalsIgnoreCase("x-gzip")) {
+                    named = Math.max(named, quality(element, semicolon));
+                } else if (name.equals("*")) {
+                    wildcard = Math.max(wildcard, quality(element, semicolon));
+                }
+            }
+        }
+        return (named >= 0 ? named : wildcard) > 0;
+    }
+
+    /**
+     * The {@code q} parameter of a list element, 1 when absent and 0 when malformed.
+     */
+    static double quality(String element, int semicolon) {
+        if (semicolon < 0) {
+            return 1;
+        }
+        for (String parameter : element.substring(semicolon + 1).split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(equals + 1).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
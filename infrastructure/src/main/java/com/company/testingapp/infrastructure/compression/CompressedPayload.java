@@ -0,0 +1,112 @@
+package com.company.testingapp.infrastructure.compression;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An immutable response body together with its strong ETag and, when worth it,
+ * a gzip copy compressed once at the highest level.
+ *
+ * @param contentType  content type of the original response
+ * @param headers      other headers of the original response that describe the payload,
+ *                     such as {@code Cache-Control} and {@code Last-Modified}
+ * @param etag         quoted strong entity tag derived from the identity bytes
+ * @param identity     uncompressed body
+ * @param gzip         gzip-compressed body, or null when compression did not pay off
+ */
+public record CompressedPayload(String contentType, Map<String, List<String>> headers, String etag,
+                                byte[] identity, byte[] gzip) {
+
+    public static CompressedPayload of(String contentType, byte[] identity, int minSize) {
+        return of(contentType, Map.of(), identity, minSize);
+    }
+
+    public static CompressedPayload of(String contentType, Map<String, List<String>> headers, byte[] identity,
+                                       int minSize) {
+        CRC32C crc = new CRC32C();
+        crc.update(identity);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(identity.length) + "\"";
+        byte[] gzip = identity.length >= minSize ? gzip(identity) : null;
+        if (gzip != null && gzip.length >= identity.length) {
+            gzip = null;
+        }
+        return new CompressedPayload(contentType, Map.copyOf(headers), etag, identity, gzip);
+    }
+
+    /**
+     * Writes this payload as the response to {@code request}: {@code 304} when
+     * {@code If-None-Match} lists the current entity (weakly compared, or {@code *}), the
+     * gzip copy when it is accepted, the identity bytes otherwise.
+     */
+    public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        headers.forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                response.addHeader(name, values.get(i));
+            }
+        });
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (matchesIfNoneMatch(request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        byte[] body = identity;
+        if (gzip != null && AcceptEncoding.accepts(request, "gzip")) {
+            body = gzip;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Weak comparison against every entity tag of every {@code If-None-Match} header, as
+     * RFC 9110 section 13.1.2 asks for GET and HEAD.
+     */
+    private boolean matchesIfNoneMatch(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String tag : headers.nextElement().split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.testingapp.infrastructure.compression;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the pre-compressed payload cache for static documentation endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+@ConditionalOnProperty(prefix = "app.compression", name = "enabled", matchIfMissing = true)
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<PrecompressedResponseFilter> precompressedResponseFilter(
+            CompressionProperties properties) {
+        FilterRegistrationBean<PrecompressedResponseFilter> registration =
+                new FilterRegistrationBean<>(new PrecompressedResponseFilter(properties));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
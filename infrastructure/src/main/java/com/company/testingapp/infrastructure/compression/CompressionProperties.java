@@ -0,0 +1,71 @@
+package com.company.testingapp.infrastructure.compression;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for serving pre-compressed copies of static payloads.
+ * Bound from the {@code app.compression} prefix. Dynamic responses are compressed
+ * by the servlet container through {@code server.compression}.
+ */
+@ConfigurationProperties(prefix = "app.compression")
+public class CompressionProperties {
+
+    /**
+     * Whether static payloads are cached and served pre-compressed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path patterns (relative to the context path) whose responses never change at runtime.
+     * Not springdoc's {@code /docs/api/**}: its {@code servers} entry is taken from the request
+     * host, so one caller's host would be served to everyone. The prod profile serves the
+     * precomputed document, which carries its own gzip copy.
+     */
+    private List<String> precompressedPaths = new ArrayList<>(List.of("/swagger-ui/**"));
+
+    /**
+     * Payloads smaller than this are cached but not compressed.
+     */
+    private DataSize minSize = DataSize.ofKilobytes(1);
+
+    /**
+     * Upper bound on the number of cached payloads; the least recently used is evicted.
+     */
+    private int maxEntries = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPrecompressedPaths() {
+        return precompressedPaths;
+    }
+
+    public void setPrecompressedPaths(List<String> precompressedPaths) {
+        this.precompressedPaths = precompressedPaths;
+    }
+
+    public DataSize getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(DataSize minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
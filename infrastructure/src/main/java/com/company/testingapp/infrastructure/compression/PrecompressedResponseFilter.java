@@ -0,0 +1,112 @@
+package com.company.testingapp.infrastructure.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves static payloads (OpenAPI document, Swagger UI assets) from an in-memory cache.
+ *
+ * <p>The first successful GET for a path is rendered normally, then stored together with a
+ * strong ETag, a gzip copy compressed once at the highest level and the headers that
+ * describe the payload. Later requests are answered from the cache: {@code 304} when
+ * {@code If-None-Match} matches, the gzip copy when the client accepts it, the identity
+ * bytes otherwise. Headers that belong to one exchange, such as {@code X-Request-ID} or
+ * CORS headers, are not cached.</p>
+ *
+ * <p>Payloads are keyed by path. Requests with a query string are passed through uncached,
+ * so query variations can neither fill the cache nor be answered with another variant. The
+ * cache keeps the {@code maxEntries} most recently used payloads.</p>
+ */
+public class PrecompressedResponseFilter extends OncePerRequestFilter {
+
+    private static final List<String> CACHED_HEADERS = List.of(
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.EXPIRES, HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_DISPOSITION);
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final Map<String, CompressedPayload> cache;
+    private final List<String> patterns;
+    private final int minSize;
+
+    public PrecompressedResponseFilter(CompressionProperties properties) {
+        this.patterns = List.copyOf(properties.getPrecompressedPaths());
+        this.minSize = (int) properties.getMinSize().toBytes();
+        int maxEntries = properties.getMaxEntries();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompressedPayload> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())
+                || request.getQueryString() != null) {
+            return true;
+        }
+        String path = pathWithinApplication(request);
+        for (String pattern : patterns) {
+            if (matcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getRequestURI();
+        CompressedPayload payload = cache.get(key);
+        if (payload != null) {
+            payload.writeTo(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || wrapper.getContentSize() == 0
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        payload = CompressedPayload.of(wrapper.getContentType(), cachedHeaders(wrapper),
+                wrapper.getContentAsByteArray(), minSize);
+        cache.putIfAbsent(key, payload);
+        payload.writeTo(request, response);
+    }
+
+    private static Map<String, List<String>> cachedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : CACHED_HEADERS) {
+            Collection<String> values = response.getHeaders(name);
+            if (!values.isEmpty()) {
+                headers.put(name, List.copyOf(values));
+            }
+        }
+        return headers;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return StringUtils.hasLength(contextPath) && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length()) : uri;
+    }
+}
@@ -1,20 +1,36 @@
 package com.company.testingapp.infrastructure.config;
 
+import com.company.testingapp.infrastructure.accounting.RequestResourceAccountant;
+import com.company.testingapp.infrastructure.context.RequestContext;
+import com.company.testingapp.infrastructure.lifecycle.DrainCoordinator;
+import com.company.testingapp.infrastructure.profiling.RequestEvent;
+import com.company.testingapp.infrastructure.reload.RuntimeConfigStore;
+import com.company.testingapp.infrastructure.reload.RuntimeCorsConfigurationSource;
+import com.company.testingapp.infrastructure.serialization.HealthJsonHttpMessageConverter;
+import com.company.testingapp.infrastructure.tracing.Trace;
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import com.company.testingapp.infrastructure.tracing.TracingJackson2HttpMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.filter.CorsFilter;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Web configuration class for Spring Boot application.
@@ -23,36 +39,32 @@ import java.util.List;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    /**
-     * Configure CORS mappings for the application.
-     * This method configures Cross-Origin Resource Sharing settings.
-     */
-    @Override
-    public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/api/**")
-                .allowedOriginPatterns("*")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
-                .allowedHeaders("*")
-                .allowCredentials(true)
-                .maxAge(3600);
+    private final Tracer tracer;
+    private final DrainCoordinator drainCoordinator;
+    private final RuntimeConfigStore runtimeConfig;
+    private final RequestResourceAccountant resourceAccountant;
+
+    public WebConfig(Tracer tracer, DrainCoordinator drainCoordinator, RuntimeConfigStore runtimeConfig,
+                     ObjectProvider<RequestResourceAccountant> resourceAccountant) {
+        this.tracer = tracer;
+        this.drainCoordinator = drainCoordinator;
+        this.runtimeConfig = runtimeConfig;
+        this.resourceAccountant = resourceAccountant.getIfAvailable(RequestResourceAccountant::disabled);
     }
 
     /**
-     * Bean for CORS configuration source.
-     * Alternative CORS configuration using CorsConfigurationSource.
+     * Bean for CORS configuration source, the only CORS configuration of the application.
+     * Allowed origins come from the runtime configuration file (cors.allowed-origins)
+     * and can change without a restart; no origins means no cross-origin access.
      */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
-        configuration.setAllowedOriginPatterns(List.of("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
-
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/api/**", configuration);
-        return source;
+        return new RuntimeCorsConfigurationSource(runtimeConfig, configuration);
     }
 
     /**
@@ -63,30 +75,88 @@ public class WebConfig implements WebMvcConfigurer {
         return new CorsFilter(corsConfigurationSource());
     }
 
+    /**
+     * Swap the Jackson converter for one that records serialization as a trace span, and
+     * put the generated health writer in front of it.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.set(i, new TracingJackson2HttpMessageConverter(jackson.getObjectMapper(), tracer));
+            }
+        }
+        converters.add(0, new HealthJsonHttpMessageConverter(tracer));
+    }
+
     /**
      * Add custom interceptors to the application.
      * Useful for logging, authentication, or request/response modification.
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RequestLoggingInterceptor())
-                .addPathPatterns("/api/**")
-                .excludePathPatterns("/api/health"); // Exclude health check from detailed logging
+        // Patterns are matched against the path within the /api context path
+        registry.addInterceptor(new RequestLoggingInterceptor(tracer, drainCoordinator, resourceAccountant))
+                .addPathPatterns("/**")
+                .excludePathPatterns("/health"); // Exclude health check from detailed logging
     }
 
     /**
      * Custom interceptor for request logging and monitoring.
+     * Publishes request_id, route and latency_ms from the {@link RequestContext} to the MDC so the JSON log encoder
+     * writes them as structured fields, opens/closes the request trace and commits a
+     * JFR {@link RequestEvent} when the continuous recording is enabled. Also counts
+     * in-flight requests for the {@link DrainCoordinator} and, once draining, asks
+     * HTTP/1.1 clients to close their keep-alive connection. Sampled requests have their
+     * thread's allocation and CPU time recorded per route by the
+     * {@link RequestResourceAccountant}.
+     *
+     * <p>An asynchronous request, such as a streamed response, passes through
+     * {@link #preHandle} twice but completes once: the trace and MDC are unbound from the
+     * first thread when concurrent handling starts and rebound on the async dispatch,
+     * which is otherwise not counted again.</p>
      */
-    public static class RequestLoggingInterceptor implements HandlerInterceptor {
+    public static class RequestLoggingInterceptor implements AsyncHandlerInterceptor {
+
+        private static final Logger logger = LoggerFactory.getLogger(RequestLoggingInterceptor.class);
+
+        static final String MDC_REQUEST_ID = "request_id";
+        static final String MDC_ROUTE = "route";
+        static final String MDC_LATENCY = "latency_ms";
+
+        private static final String TRACE_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".trace";
+
+        private final Tracer tracer;
+        private final DrainCoordinator drainCoordinator;
+        private final RequestResourceAccountant resourceAccountant;
+
+        public RequestLoggingInterceptor(Tracer tracer, DrainCoordinator drainCoordinator,
+                                         RequestResourceAccountant resourceAccountant) {
+            this.tracer = tracer;
+            this.drainCoordinator = drainCoordinator;
+            this.resourceAccountant = resourceAccountant;
+        }
 
         @Override
         public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-            long startTime = System.currentTimeMillis();
-            request.setAttribute("startTime", startTime);
-            
+            resourceAccountant.begin(request);
+            RequestContext context = RequestContext.of(request);
+            MDC.put(MDC_REQUEST_ID, context.requestId());
+            MDC.put(MDC_ROUTE, context.route());
+            if (request.getDispatcherType() == DispatcherType.ASYNC) {
+                tracer.resume((Trace) request.getAttribute(TRACE_ATTRIBUTE));
+                request.removeAttribute(TRACE_ATTRIBUTE);
+                return true;
+            }
+            drainCoordinator.requestStarted();
+            if (drainCoordinator.isDraining() && request.getProtocol().startsWith("HTTP/1")) {
+                response.setHeader("Connection", "close");
+            }
+            tracer.startTrace(context.requestId(), request.getMethod(), context.route());
+
             // Add custom headers for API versioning and request tracking
             response.setHeader("X-API-Version", "1.0");
-            response.setHeader("X-Request-ID", generateRequestId());
+            response.setHeader("X-Request-ID", context.requestId());
             
             return true;
         }
@@ -94,27 +164,52 @@ public class WebConfig implements WebMvcConfigurer {
         @Override
         public void afterCompletion(HttpServletRequest request, HttpServletResponse response, 
                                   Object handler, Exception ex) {
-            long startTime = (Long) request.getAttribute("startTime");
-            long endTime = System.currentTimeMillis();
-            long executionTime = endTime - startTime;
-            
-            // Log request details (in production, use proper logging framework)
-            String logMessage = String.format(
-                "Request: %s %s | Status: %d | Duration: %dms | User-Agent: %s",
-                request.getMethod(),
-                request.getRequestURI(),
-                response.getStatus(),
-                executionTime,
-                request.getHeader("User-Agent")
-            );
-            
-            // In a real application, use SLF4J logger here
-            System.out.println(logMessage);
+            try {
+                RequestContext context = RequestContext.of(request);
+                tracer.endTrace(response.getStatus());
+                commitRequestEvent(context, request, response);
+                long executionTime = TimeUnit.NANOSECONDS.toMillis(context.elapsedNanos());
+
+                if (logger.isInfoEnabled()) {
+                    MDC.put(MDC_LATENCY, Long.toString(executionTime));
+                    logger.info("Request: {} {} | Status: {} | Duration: {}ms | User-Agent: {}",
+                            request.getMethod(),
+                            request.getRequestURI(),
+                            response.getStatus(),
+                            executionTime,
+                            request.getHeader("User-Agent"));
+                }
+            } finally {
+                resourceAccountant.end(request, response);
+                drainCoordinator.requestCompleted();
+                MDC.remove(MDC_REQUEST_ID);
+                MDC.remove(MDC_ROUTE);
+                MDC.remove(MDC_LATENCY);
+            }
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                   Object handler) {
+            resourceAccountant.suspend(request);
+            Trace trace = tracer.suspend();
+            if (trace != null) {
+                request.setAttribute(TRACE_ATTRIBUTE, trace);
+            }
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_ROUTE);
         }
 
-        private String generateRequestId() {
-            return "REQ-" + System.currentTimeMillis() + "-" + 
-                   (int)(Math.random() * 10000);
+        private void commitRequestEvent(RequestContext context, HttpServletRequest request,
+                                        HttpServletResponse response) {
+            RequestEvent event = new RequestEvent();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.route = context.route();
+                event.status = response.getStatus();
+                event.requestDuration = context.elapsedNanos();
+                event.commit();
+            }
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.company.testingapp.infrastructure.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable facts about the request being dispatched: its ID, the route template it
+ * matched, when it started and by when it should be answered.
+ *
+ * <p>{@link RequestContextDispatcherServlet} binds the context in a {@link ScopedValue} for
+ * the whole dispatch, so handlers, services, message converters and exception handlers can
+ * read it with {@link #current()} instead of looking up request attributes. A scoped value
+ * is released when the dispatch returns, cannot leak to the next request served by the same
+ * thread, and costs the same on a virtual thread as on a platform thread. Code started on
+ * another thread does not see it unless it is passed along.</p>
+ *
+ * <p>Error and asynchronous dispatches of a request keep its ID, start and deadline; only the
+ * route changes to the one they are dispatched to.</p>
+ */
+public record RequestContext(String requestId, String route, long startNanos, long deadlineNanos) {
+
+    static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    /**
+     * Request attribute that carries the context from one dispatch of a request to the next.
+     */
+    static final String ATTRIBUTE = RequestContext.class.getName();
+
+    /**
+     * Deadline of a request that has none: the furthest {@link System#nanoTime()} can express
+     * from its start.
+     */
+    static final long NO_TIMEOUT = Long.MAX_VALUE;
+
+    /**
+     * The context bound to the current thread, empty outside a request dispatch.
+     */
+    public static Optional<RequestContext> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * The context of {@code request}: the bound one during a dispatch, otherwise the one
+     * recorded on the request by an earlier call. Code that runs outside the binding
+     * dispatcher (servlet filters, or MockMvc's dispatcher servlet) gets a context with no
+     * deadline, created on first use.
+     */
+    public static RequestContext of(HttpServletRequest request) {
+        if (CURRENT.isBound()) {
+            return CURRENT.get();
+        }
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestContext recorded) {
+            return recorded;
+        }
+        RequestContext context = start(route(request), NO_TIMEOUT);
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    static RequestContext start(String route, long timeoutNanos) {
+        long now = System.nanoTime();
+        return new RequestContext(newRequestId(), route, now, now + timeoutNanos);
+    }
+
+    /**
+     * The matched route template, or the request URI when no handler matched.
+     */
+    static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static String newRequestId() {
+        return "REQ-" + System.currentTimeMillis() + "-" + ThreadLocalRandom.current().nextInt(10000);
+    }
+
+    RequestContext withRoute(String route) {
+        return route.equals(this.route) ? this : new RequestContext(requestId, route, startNanos, deadlineNanos);
+    }
+
+    /**
+     * Time since the request entered the dispatcher servlet.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Time left until the deadline, zero once it has passed.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Whether the deadline has passed; work whose result would arrive too late can be skipped.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
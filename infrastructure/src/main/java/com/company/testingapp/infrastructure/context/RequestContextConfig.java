@@ -0,0 +1,32 @@
+package com.company.testingapp.infrastructure.context;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces Boot's dispatcher servlet with one that binds a {@link RequestContext} for each
+ * dispatch. Boot backs off when a bean of the same name exists, so the {@code spring.mvc.*}
+ * settings it would have applied are copied here, except the deprecated
+ * {@code throw-exception-if-no-handler-found}: the servlet keeps its default of throwing.
+ * Disable with {@code app.request-context.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties({RequestContextProperties.class, WebMvcProperties.class})
+@ConditionalOnProperty(prefix = "app.request-context", name = "enabled", matchIfMissing = true)
+public class RequestContextConfig {
+
+    @Bean(name = DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME)
+    public RequestContextDispatcherServlet dispatcherServlet(RequestContextProperties properties,
+                                                             WebMvcProperties webMvcProperties) {
+        RequestContextDispatcherServlet dispatcherServlet = new RequestContextDispatcherServlet(properties);
+        dispatcherServlet.setDispatchOptionsRequest(webMvcProperties.isDispatchOptionsRequest());
+        dispatcherServlet.setDispatchTraceRequest(webMvcProperties.isDispatchTraceRequest());
+        dispatcherServlet.setPublishEvents(webMvcProperties.isPublishRequestHandledEvents());
+        dispatcherServlet.setEnableLoggingRequestDetails(webMvcProperties.isLogRequestDetails());
+        return dispatcherServlet;
+    }
+}
@@ -0,0 +1,89 @@
+package com.company.testingapp.infrastructure.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerExecutionChain;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatcher servlet that binds a {@link RequestContext} around every dispatch.
+ *
+ * <p>The route belongs in the context, and it is only known once a handler mapping has
+ * matched, so the handler is looked up before the context is bound and handed to
+ * {@link DispatcherServlet#doDispatch} through {@link #getHandler} rather than looked up a
+ * second time. A lookup that fails is left to the regular dispatch, which repeats it inside
+ * its own error handling.</p>
+ */
+public class RequestContextDispatcherServlet extends DispatcherServlet {
+
+    private static final ScopedValue<Resolved> RESOLVED = ScopedValue.newInstance();
+
+    private final long timeoutNanos;
+    private final String timeoutHeader;
+
+    public RequestContextDispatcherServlet(RequestContextProperties properties) {
+        if (properties.getTimeout().isNegative() || properties.getTimeout().isZero()) {
+            throw new IllegalArgumentException("app.request-context.timeout must be positive");
+        }
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.timeoutHeader = StringUtils.hasText(properties.getTimeoutHeader()) ? properties.getTimeoutHeader() : null;
+    }
+
+    @Override
+    protected void doDispatch(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        HandlerExecutionChain handler;
+        try {
+            handler = super.getHandler(request);
+        } catch (Exception ex) {
+            handler = null;
+        }
+        // Without a handler, BEST_MATCHING_PATTERN may still be left over from an earlier dispatch
+        String route = handler != null ? RequestContext.route(request) : request.getRequestURI();
+        ScopedValue.where(RequestContext.CURRENT, contextFor(request, route))
+                .where(RESOLVED, new Resolved(request, handler))
+                .call(() -> {
+                    super.doDispatch(request, response);
+                    return null;
+                });
+    }
+
+    @Override
+    protected HandlerExecutionChain getHandler(HttpServletRequest request) throws Exception {
+        if (RESOLVED.isBound()) {
+            Resolved resolved = RESOLVED.get();
+            if (resolved.request() == request && resolved.handler() != null) {
+                return resolved.handler();
+            }
+        }
+        return super.getHandler(request);
+    }
+
+    private RequestContext contextFor(HttpServletRequest request, String route) {
+        if (request.getAttribute(RequestContext.ATTRIBUTE) instanceof RequestContext dispatched) {
+            // Error and async dispatches continue the request they belong to
+            return dispatched.withRoute(route);
+        }
+        RequestContext context = RequestContext.start(route, timeoutNanos(request));
+        request.setAttribute(RequestContext.ATTRIBUTE, context);
+        return context;
+    }
+
+    private long timeoutNanos(HttpServletRequest request) {
+        String requested = timeoutHeader != null ? request.getHeader(timeoutHeader) : null;
+        if (requested == null) {
+            return timeoutNanos;
+        }
+        try {
+            long millis = Long.parseLong(requested.trim());
+            return millis >= 0 ? Math.min(timeoutNanos, TimeUnit.MILLISECONDS.toNanos(millis)) : timeoutNanos;
+        } catch (NumberFormatException ex) {
+            return timeoutNanos;
+        }
+    }
+
+    private record Resolved(HttpServletRequest request, HandlerExecutionChain handler) {
+    }
+}
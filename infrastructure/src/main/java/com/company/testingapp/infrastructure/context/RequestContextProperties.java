@@ -0,0 +1,54 @@
+package com.company.testingapp.infrastructure.context;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the request context bound during each dispatch.
+ * Bound from the {@code app.request-context} prefix.
+ */
+@ConfigurationProperties(prefix = "app.request-context")
+public class RequestContextProperties {
+
+    /**
+     * Whether the dispatcher servlet binds a {@link RequestContext} for each dispatch.
+     * When disabled, the context is still created on first use but has no deadline.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time a request has from entering the dispatcher servlet to its deadline.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Request header in which a client can ask for a shorter deadline, in milliseconds.
+     * Values above the configured timeout are ignored; empty disables the header.
+     */
+    private String timeoutHeader = "X-Request-Timeout";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public String getTimeoutHeader() {
+        return timeoutHeader;
+    }
+
+    public void setTimeoutHeader(String timeoutHeader) {
+        this.timeoutHeader = timeoutHeader;
+    }
+}
@@ -2,10 +2,14 @@ package com.company.testingapp.infrastructure.controller;
 
 import com.company.testingapp.domain.dto.HealthResponse;
 import com.company.testingapp.domain.service.HealthService;
+import com.company.testingapp.infrastructure.serialization.HealthFieldset;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -16,6 +20,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/v1")
 public class HealthController {
 
+    private static final String PREFER = "Prefer";
+
     private final HealthService healthService;
 
     @Autowired
@@ -25,13 +31,26 @@ public class HealthController {
 
     /**
      * Health check endpoint
-     * Returns the current health status of the application
+     * Returns the current health status of the application. Callers that only need some
+     * properties can list them in {@code fields} (e.g. {@code fields=status,version}), or send
+     * {@code Prefer: return=minimal} for the status alone; {@code fields} wins when both are given.
      *
-     * @return ResponseEntity containing HealthResponse with status information
+     * @param fields comma-separated HealthResponse properties to include, all when absent
+     * @param prefer RFC 7240 preferences; only {@code return=minimal} is honored
+     * @return ResponseEntity containing HealthResponse, or the selected part of it
      */
     @GetMapping("/healthcheck")
-    public ResponseEntity<HealthResponse> healthCheck() {
+    public ResponseEntity<?> healthCheck(@RequestParam(required = false) String fields,
+                                         @RequestHeader(name = PREFER, required = false) String prefer) {
         HealthResponse healthResponse = healthService.getHealthStatus();
-        return ResponseEntity.ok(healthResponse);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().header(HttpHeaders.VARY, PREFER);
+        if (fields != null) {
+            return ok.body(new HealthFieldset(healthResponse, HealthFieldset.parse(fields)));
+        }
+        if (HealthFieldset.prefersMinimal(prefer)) {
+            return ok.header("Preference-Applied", "return=minimal")
+                    .body(new HealthFieldset(healthResponse, HealthFieldset.MINIMAL));
+        }
+        return ok.body(healthResponse);
     }
 }
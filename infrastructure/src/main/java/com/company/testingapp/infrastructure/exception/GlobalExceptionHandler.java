@@ -1,10 +1,13 @@
 package com.company.testingapp.infrastructure.exception;
 
+import com.company.testingapp.infrastructure.chaos.InjectedFaultException;
+import com.company.testingapp.infrastructure.context.RequestContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,7 +19,10 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,20 +42,16 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
         
-        logger.warn("Validation error on {}: {}", request.getRequestURI(), ex.getMessage());
-        
-        Map<String, String> fieldErrors = new HashMap<>();
-        ex.getBindingResult().getFieldErrors().forEach(error -> 
-            fieldErrors.put(error.getField(), error.getDefaultMessage())
-        );
+        List<FieldError> errors = ex.getBindingResult().getFieldErrors();
+        logger.warn("Validation error on {}: {} invalid field(s)", request.getRequestURI(), errors.size());
 
         Map<String, Object> errorResponse = createErrorResponse(
             HttpStatus.BAD_REQUEST,
             "Validation failed",
             "One or more fields have invalid values",
-            request.getRequestURI()
+            request.getRequestURI(),
+            fieldErrors(errors)
         );
-        errorResponse.put("fieldErrors", fieldErrors);
 
         return ResponseEntity.badRequest().body(errorResponse);
     }
@@ -153,6 +155,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handle health check failures injected by the chaos profile
+     */
+    @ExceptionHandler(InjectedFaultException.class)
+    public ResponseEntity<Map<String, Object>> handleInjectedFault(
+            InjectedFaultException ex, HttpServletRequest request) {
+
+        logger.warn("Injected fault on {}: {}", request.getRequestURI(), ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Handle all other unexpected exceptions
      */
@@ -173,16 +194,47 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Create a consistent error response structure
+     * Create a consistent error response structure, carrying the ID of the failed request
+     * so it can be matched with the request log
      */
     private Map<String, Object> createErrorResponse(HttpStatus status, String error, 
             String message, String path) {
-        Map<String, Object> errorResponse = new HashMap<>();
+        return createErrorResponse(status, error, message, path, null);
+    }
+
+    /**
+     * Create the error response with its final entries, adding {@code fieldErrors} when
+     * given; the body is read-only once built
+     */
+    private Map<String, Object> createErrorResponse(HttpStatus status, String error,
+            String message, String path, Map<String, String> fieldErrors) {
+        // Room for every entry below without rehashing
+        Map<String, Object> errorResponse = LinkedHashMap.newLinkedHashMap(7);
         errorResponse.put("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMATTER));
         errorResponse.put("status", status.value());
         errorResponse.put("error", error);
         errorResponse.put("message", message);
         errorResponse.put("path", path);
-        return errorResponse;
+        RequestContext.current().ifPresent(context -> errorResponse.put("requestId", context.requestId()));
+        if (fieldErrors != null) {
+            errorResponse.put("fieldErrors", fieldErrors);
+        }
+        return Collections.unmodifiableMap(errorResponse);
+    }
+
+    /**
+     * Field name to message, read-only and sized for the errors at hand; fail-fast
+     * validation reports a single field. A field with several violations keeps the last.
+     */
+    private static Map<String, String> fieldErrors(List<FieldError> errors) {
+        if (errors.size() == 1) {
+            FieldError error = errors.get(0);
+            return Collections.singletonMap(error.getField(), error.getDefaultMessage());
+        }
+        Map<String, String> fieldErrors = HashMap.newHashMap(errors.size());
+        for (FieldError error : errors) {
+            fieldErrors.put(error.getField(), error.getDefaultMessage());
+        }
+        return Collections.unmodifiableMap(fieldErrors);
     }
 }
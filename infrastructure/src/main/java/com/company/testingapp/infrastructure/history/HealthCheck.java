@@ -0,0 +1,32 @@
+package com.company.testingapp.infrastructure.history;
+
+/**
+ * The health checks whose outcomes are recorded, identified on disk by their ordinal.
+ * New checks must be appended so existing ring files keep their meaning.
+ */
+public enum HealthCheck {
+
+    BASIC("getHealthStatus"),
+    DETAILED("getDetailedHealthStatus"),
+    READINESS("isApplicationReady"),
+    LIVENESS("isApplicationAlive");
+
+    private static final HealthCheck[] VALUES = values();
+
+    private final String method;
+
+    HealthCheck(String method) {
+        this.method = method;
+    }
+
+    /**
+     * @return the {@code HealthService} method this check corresponds to
+     */
+    public String method() {
+        return method;
+    }
+
+    static HealthCheck ofCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.testingapp.infrastructure.history;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Wires the memory-mapped health history and its background rollups; recording happens
+ * in {@code InstrumentedHealthService} and queries in {@link HealthHistoryController}.
+ * Disable with {@code app.health-history.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(HealthHistoryProperties.class)
+@ConditionalOnProperty(prefix = "app.health-history", name = "enabled", matchIfMissing = true)
+public class HealthHistoryConfig {
+
+    @Bean
+    public HealthHistoryStore healthHistoryStore(HealthHistoryProperties properties) throws IOException {
+        return new HealthHistoryStore(properties);
+    }
+
+    @Bean
+    public HealthHistoryRollup healthHistoryRollup(HealthHistoryStore store, HealthHistoryProperties properties) {
+        return new HealthHistoryRollup(store, properties.getRollupInterval());
+    }
+}
@@ -0,0 +1,236 @@
+package com.company.testingapp.infrastructure.history;
+
+import com.company.testingapp.infrastructure.history.HealthHistoryStore.Resolution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Serves the recorded health history. Records are streamed straight from the mapped
+ * rings into the response as they are visited; nothing is collected first.
+ *
+ * <p>{@code from} and {@code to} accept an ISO-8601 instant or epoch milliseconds and
+ * default to the last hour. {@code resolution} is {@code raw}, {@code 1m} or {@code 1h};
+ * by default it is chosen from the span so a response stays a manageable size.
+ * {@code check} narrows the result to one check, named like the {@code HealthService}
+ * method. Timestamps in the response are epoch milliseconds and latencies microseconds.</p>
+ */
+@RestController
+@RequestMapping("/v1/health")
+@ConditionalOnProperty(prefix = "app.health-history", name = "enabled", matchIfMissing = true)
+public class HealthHistoryController {
+
+    private static final Duration DEFAULT_SPAN = Duration.ofHours(1);
+    private static final Duration MAX_RAW_SPAN = Duration.ofHours(2);
+    private static final Duration MAX_MINUTE_SPAN = Duration.ofDays(14);
+
+    private final HealthHistoryStore store;
+    private final int maxRecords;
+    private final Clock clock;
+
+    @Autowired
+    public HealthHistoryController(HealthHistoryStore store, HealthHistoryProperties properties) {
+        this(store, properties.getMaxQueryRecords(), Clock.systemUTC());
+    }
+
+    HealthHistoryController(HealthHistoryStore store, int maxRecords, Clock clock) {
+        this.store = store;
+        this.maxRecords = maxRecords;
+        this.clock = clock;
+    }
+
+    @GetMapping(value = "/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> history(@RequestParam(required = false) String from,
+                                                         @RequestParam(required = false) String to,
+                                                         @RequestParam(required = false) String resolution,
+                                                         @RequestParam(required = false) String check,
+                                                         @RequestParam(required = false) Integer limit) {
+        long toMillis = to != null ? parseTime("to", to) : clock.millis();
+        long fromMillis = from != null ? parseTime("from", from) : toMillis - DEFAULT_SPAN.toMillis();
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        Resolution selected = resolution != null ? parseResolution(resolution) : defaultResolution(toMillis - fromMillis);
+        HealthCheck selectedCheck = check != null ? parseCheck(check) : null;
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("'limit' must be positive");
+        }
+        int maxCount = limit != null ? Math.min(limit, maxRecords) : maxRecords;
+
+        StreamingResponseBody body = out -> {
+            JsonRecordWriter writer = new JsonRecordWriter(new BufferedOutputStream(out, 16 * 1024), maxCount);
+            writer.begin(selected, fromMillis, toMillis);
+            // One record past the limit tells whether the result was cut short
+            int visited = store.scan(selected, fromMillis, toMillis, selectedCheck, maxCount + 1, writer);
+            writer.end(visited > maxCount);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static Resolution defaultResolution(long spanMillis) {
+        if (spanMillis <= MAX_RAW_SPAN.toMillis()) {
+            return Resolution.RAW;
+        }
+        return spanMillis <= MAX_MINUTE_SPAN.toMillis() ? Resolution.MINUTE : Resolution.HOUR;
+    }
+
+    private static long parseTime(String name, String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("'" + name + "' is out of range: " + value);
+            }
+        }
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException | ArithmeticException e) {
+            throw new IllegalArgumentException("'" + name + "' must be an ISO-8601 instant or epoch milliseconds: " + value);
+        }
+    }
+
+    private static Resolution parseResolution(String value) {
+        Resolution resolution = Resolution.ofLabel(value);
+        if (resolution == null) {
+            throw new IllegalArgumentException("'resolution' must be one of raw, 1m, 1h: " + value);
+        }
+        return resolution;
+    }
+
+    private static HealthCheck parseCheck(String value) {
+        for (HealthCheck check : HealthCheck.values()) {
+            if (check.method().equals(value) || check.name().equalsIgnoreCase(value)) {
+                return check;
+            }
+        }
+        throw new IllegalArgumentException("'check' must be a health check such as getDetailedHealthStatus: " + value);
+    }
+
+    /**
+     * Writes visited records as JSON without building intermediate strings per record.
+     */
+    static final class JsonRecordWriter implements HealthHistoryStore.Visitor {
+
+        private static final byte[][] CHECKS = new byte[HealthCheck.values().length][];
+        private static final byte[][] STATES = new byte[HealthState.values().length][];
+
+        static {
+            for (HealthCheck check : HealthCheck.values()) {
+                CHECKS[check.ordinal()] = check.method().getBytes(StandardCharsets.US_ASCII);
+            }
+            for (HealthState state : HealthState.values()) {
+                STATES[state.ordinal()] = state.name().getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        private final OutputStream out;
+        private final int limit;
+        private final byte[] digits = new byte[20];
+        private int written;
+
+        JsonRecordWriter(OutputStream out, int limit) {
+            this.out = out;
+            this.limit = limit;
+        }
+
+        void begin(Resolution resolution, long from, long to) throws IOException {
+            ascii("{\"resolution\":\"");
+            ascii(resolution.label());
+            ascii("\",\"from\":");
+            number(from);
+            ascii(",\"to\":");
+            number(to);
+            ascii(",\"records\":[");
+        }
+
+        void end(boolean truncated) throws IOException {
+            ascii("],\"truncated\":");
+            ascii(truncated ? "true" : "false");
+            out.write('}');
+            out.flush();
+        }
+
+        @Override
+        public void sample(long epochMillis, HealthCheck check, HealthState state, int latencyMicros)
+                throws IOException {
+            if (!open(epochMillis, check)) {
+                return;
+            }
+            ascii(",\"status\":\"");
+            out.write(STATES[state.ordinal()]);
+            ascii("\",\"latency_us\":");
+            number(latencyMicros);
+            out.write('}');
+        }
+
+        @Override
+        public void rollup(long bucketMillis, HealthCheck check, HealthState worst, int count, int unhealthy,
+                           long meanLatencyMicros, int maxLatencyMicros) throws IOException {
+            if (!open(bucketMillis, check)) {
+                return;
+            }
+            ascii(",\"worst_status\":\"");
+            out.write(STATES[worst.ordinal()]);
+            ascii("\",\"count\":");
+            number(count);
+            ascii(",\"unhealthy\":");
+            number(unhealthy);
+            ascii(",\"mean_latency_us\":");
+            number(meanLatencyMicros);
+            ascii(",\"max_latency_us\":");
+            number(maxLatencyMicros);
+            out.write('}');
+        }
+
+        private boolean open(long millis, HealthCheck check) throws IOException {
+            if (written == limit) {
+                return false;
+            }
+            if (written++ > 0) {
+                out.write(',');
+            }
+            ascii("{\"timestamp\":");
+            number(millis);
+            ascii(",\"check\":\"");
+            out.write(CHECKS[check.ordinal()]);
+            out.write('"');
+            return true;
+        }
+
+        private void ascii(String value) throws IOException {
+            for (int i = 0, n = value.length(); i < n; i++) {
+                out.write(value.charAt(i));
+            }
+        }
+
+        private void number(long value) throws IOException {
+            if (value < 0) {
+                ascii(Long.toString(value));
+                return;
+            }
+            int count = 0;
+            do {
+                digits[count++] = (byte) ('0' + (int) (value % 10));
+                value /= 10;
+            } while (value != 0);
+            while (count > 0) {
+                out.write(digits[--count]);
+            }
+        }
+    }
+}
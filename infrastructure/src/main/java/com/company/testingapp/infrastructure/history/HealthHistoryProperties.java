@@ -0,0 +1,108 @@
+package com.company.testingapp.infrastructure.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Configuration for the on-disk health history.
+ * Bound from the {@code app.health-history} prefix.
+ */
+@ConfigurationProperties(prefix = "app.health-history")
+public class HealthHistoryProperties {
+
+    /**
+     * Whether health check outcomes are recorded and served from /v1/health/history.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the ring files; created on start. Rings survive restarts as long
+     * as the directory does, so production points it at a volume; the default under
+     * {@code java.io.tmpdir} keeps runs from a checkout out of the working tree.
+     */
+    private Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "testing-app", "health-history");
+
+    /**
+     * Slots in the raw ring, one per health check execution (24 bytes each).
+     */
+    private int rawCapacity = 131_072;
+
+    /**
+     * Slots in the one-minute rollup ring, one per check and minute (40 bytes each).
+     */
+    private int minuteCapacity = 4 * 60 * 24 * 14;
+
+    /**
+     * Slots in the one-hour rollup ring, one per check and hour (40 bytes each).
+     */
+    private int hourCapacity = 4 * 24 * 400;
+
+    /**
+     * How often completed minutes and hours are rolled up and the rings flushed to disk.
+     */
+    private Duration rollupInterval = Duration.ofSeconds(15);
+
+    /**
+     * Upper bound on the records returned by a single history query.
+     */
+    private int maxQueryRecords = 50_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public int getRawCapacity() {
+        return rawCapacity;
+    }
+
+    public void setRawCapacity(int rawCapacity) {
+        this.rawCapacity = rawCapacity;
+    }
+
+    public int getMinuteCapacity() {
+        return minuteCapacity;
+    }
+
+    public void setMinuteCapacity(int minuteCapacity) {
+        this.minuteCapacity = minuteCapacity;
+    }
+
+    public int getHourCapacity() {
+        return hourCapacity;
+    }
+
+    public void setHourCapacity(int hourCapacity) {
+        this.hourCapacity = hourCapacity;
+    }
+
+    public Duration getRollupInterval() {
+        return rollupInterval;
+    }
+
+    public void setRollupInterval(Duration rollupInterval) {
+        this.rollupInterval = rollupInterval;
+    }
+
+    public int getMaxQueryRecords() {
+        return maxQueryRecords;
+    }
+
+    public void setMaxQueryRecords(int maxQueryRecords) {
+        this.maxQueryRecords = maxQueryRecords;
+    }
+}
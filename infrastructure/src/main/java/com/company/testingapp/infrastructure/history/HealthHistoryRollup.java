@@ -0,0 +1,70 @@
+package com.company.testingapp.infrastructure.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link HealthHistoryStore#rollup(long)} on a background thread at a fixed
+ * interval, and once more on shutdown so the rings are flushed to disk.
+ */
+public class HealthHistoryRollup implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthHistoryRollup.class);
+
+    private final HealthHistoryStore store;
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService executor;
+
+    public HealthHistoryRollup(HealthHistoryStore store, Duration interval) {
+        this.store = store;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-history-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::rollup, millis, millis, TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        executor = null;
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rollup();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    private void rollup() {
+        try {
+            store.rollup(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            logger.warn("Health history rollup failed", e);
+        }
+    }
+}
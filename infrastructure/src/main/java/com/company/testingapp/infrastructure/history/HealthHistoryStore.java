@@ -0,0 +1,311 @@
+package com.company.testingapp.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health check outcomes kept in three memory-mapped rings: every execution as a raw
+ * 16-byte record, plus one-minute and one-hour rollups per check computed in the
+ * background by {@link #rollup(long)}. Recording is lock-free and allocation-free;
+ * queries walk the mapped buffers and hand each record to a {@link Visitor}, so no
+ * list of results is ever built.
+ */
+public class HealthHistoryStore {
+
+    private static final int RAW_PAYLOAD = 16;
+    private static final int RAW_LATENCY = 8;
+    private static final int RAW_CHECK = 12;
+    private static final int RAW_STATE = 13;
+
+    private static final int ROLLUP_PAYLOAD = 32;
+    private static final int ROLLUP_SUM = 8;
+    private static final int ROLLUP_COUNT = 16;
+    private static final int ROLLUP_UNHEALTHY = 20;
+    private static final int ROLLUP_MAX = 24;
+    private static final int ROLLUP_CHECK = 28;
+    private static final int ROLLUP_WORST = 29;
+
+    /**
+     * Records are only rolled up once their bucket ended this long ago, leaving time
+     * for in-flight checks that started before the bucket boundary to be written.
+     */
+    private static final long ROLLUP_GRACE_MILLIS = 5_000;
+
+    private final MappedRecordRing raw;
+    private final MappedRecordRing minutes;
+    private final MappedRecordRing hours;
+    private final Bucket[] buckets = new Bucket[HealthCheck.values().length];
+
+    private long rawCursor;
+    private long minuteCursor;
+
+    public HealthHistoryStore(HealthHistoryProperties properties) throws IOException {
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+        raw = new MappedRecordRing(directory.resolve("raw.ring"), RAW_PAYLOAD, properties.getRawCapacity());
+        minutes = new MappedRecordRing(directory.resolve("1m.ring"), ROLLUP_PAYLOAD, properties.getMinuteCapacity());
+        hours = new MappedRecordRing(directory.resolve("1h.ring"), ROLLUP_PAYLOAD, properties.getHourCapacity());
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        rawCursor = resumeAfter(minutes, raw, Resolution.MINUTE);
+        minuteCursor = resumeAfter(hours, minutes, Resolution.HOUR);
+    }
+
+    /**
+     * Resumes rolling up {@code source} just after the last bucket already in {@code target}.
+     */
+    private static long resumeAfter(MappedRecordRing target, MappedRecordRing source, Resolution resolution) {
+        long last = target.end() - 1;
+        if (last < target.start() || !target.committed(last)) {
+            return source.start();
+        }
+        return source.firstAtOrAfter(target.timestamp(last) + resolution.bucketMillis);
+    }
+
+    /**
+     * Appends one health check execution to the raw ring.
+     */
+    public void record(HealthCheck check, HealthState state, long epochMillis, long latencyNanos) {
+        long sequence = raw.begin();
+        int at = raw.payloadOffset(sequence);
+        ByteBuffer buffer = raw.buffer();
+        buffer.putLong(at, epochMillis);
+        buffer.putInt(at + RAW_LATENCY, (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        buffer.put(at + RAW_CHECK, (byte) check.ordinal());
+        buffer.put(at + RAW_STATE, (byte) state.ordinal());
+        raw.commit(sequence);
+    }
+
+    /**
+     * Folds every completed minute of raw records into the minute ring and every completed
+     * hour of minute rollups into the hour ring, then flushes the rings to disk.
+     */
+    public synchronized void rollup(long nowMillis) {
+        rawCursor = roll(raw, rawCursor, false, minutes, Resolution.MINUTE, nowMillis);
+        minuteCursor = roll(minutes, minuteCursor, true, hours, Resolution.HOUR, nowMillis);
+        raw.force();
+        minutes.force();
+        hours.force();
+    }
+
+    private long roll(MappedRecordRing source, long cursor, boolean sourceIsRollup,
+                      MappedRecordRing target, Resolution resolution, long nowMillis) {
+        long cutoff = resolution.bucketOf(nowMillis - ROLLUP_GRACE_MILLIS);
+        long current = Long.MIN_VALUE;
+        long sequence = Math.max(cursor, source.start());
+        long end = source.end();
+        for (; sequence < end; sequence++) {
+            // A slot caught mid-write is skipped rather than waited for; at worst one sample
+            // is missing from its rollup
+            if (!source.committed(sequence)) {
+                continue;
+            }
+            ByteBuffer buffer = source.buffer();
+            int at = source.payloadOffset(sequence);
+            long bucket = resolution.bucketOf(buffer.getLong(at));
+            if (bucket >= cutoff) {
+                break;
+            }
+            int check;
+            if (sourceIsRollup) {
+                check = buffer.get(at + ROLLUP_CHECK);
+            } else {
+                check = buffer.get(at + RAW_CHECK);
+            }
+            if (check < 0 || check >= buckets.length) {
+                continue;
+            }
+            long sum;
+            int count;
+            int unhealthy;
+            int max;
+            int worst;
+            if (sourceIsRollup) {
+                sum = buffer.getLong(at + ROLLUP_SUM);
+                count = buffer.getInt(at + ROLLUP_COUNT);
+                unhealthy = buffer.getInt(at + ROLLUP_UNHEALTHY);
+                max = buffer.getInt(at + ROLLUP_MAX);
+                worst = buffer.get(at + ROLLUP_WORST);
+            } else {
+                int latency = buffer.getInt(at + RAW_LATENCY);
+                worst = buffer.get(at + RAW_STATE);
+                sum = latency;
+                count = 1;
+                unhealthy = worst == HealthState.UP.ordinal() ? 0 : 1;
+                max = latency;
+            }
+            if (!source.unchanged(sequence)) {
+                continue;
+            }
+            if (bucket > current) {
+                flush(target, current);
+                current = bucket;
+            }
+            buckets[check].add(sum, count, unhealthy, max, worst);
+        }
+        flush(target, current);
+        return sequence;
+    }
+
+    private void flush(MappedRecordRing target, long bucket) {
+        for (int check = 0; check < buckets.length; check++) {
+            Bucket accumulator = buckets[check];
+            if (accumulator.count == 0) {
+                continue;
+            }
+            long sequence = target.begin();
+            int at = target.payloadOffset(sequence);
+            ByteBuffer buffer = target.buffer();
+            buffer.putLong(at, bucket);
+            buffer.putLong(at + ROLLUP_SUM, accumulator.sum);
+            buffer.putInt(at + ROLLUP_COUNT, accumulator.count);
+            buffer.putInt(at + ROLLUP_UNHEALTHY, accumulator.unhealthy);
+            buffer.putInt(at + ROLLUP_MAX, accumulator.max);
+            buffer.put(at + ROLLUP_CHECK, (byte) check);
+            buffer.put(at + ROLLUP_WORST, (byte) accumulator.worst);
+            target.commit(sequence);
+            accumulator.reset();
+        }
+    }
+
+    /**
+     * Visits the records of {@code resolution} with a timestamp in {@code [from, to)},
+     * oldest first, stopping after {@code limit} records.
+     *
+     * @param check only visit this check, or every check when null
+     * @return the number of records visited
+     */
+    public int scan(Resolution resolution, long from, long to, HealthCheck check, int limit, Visitor visitor)
+            throws IOException {
+        MappedRecordRing ring = ring(resolution);
+        long end = ring.end();
+        int visited = 0;
+        for (long sequence = ring.firstAtOrAfter(from); sequence < end && visited < limit; sequence++) {
+            if (!ring.committed(sequence)) {
+                continue;
+            }
+            ByteBuffer buffer = ring.buffer();
+            int at = ring.payloadOffset(sequence);
+            long millis = buffer.getLong(at);
+            if (millis >= to) {
+                break;
+            }
+            if (resolution == Resolution.RAW) {
+                HealthCheck recorded = HealthCheck.ofCode(buffer.get(at + RAW_CHECK));
+                HealthState state = HealthState.ofCode(buffer.get(at + RAW_STATE));
+                int latency = buffer.getInt(at + RAW_LATENCY);
+                if (!ring.unchanged(sequence) || millis < from || recorded == null
+                        || (check != null && recorded != check)) {
+                    continue;
+                }
+                visitor.sample(millis, recorded, state, latency);
+            } else {
+                HealthCheck recorded = HealthCheck.ofCode(buffer.get(at + ROLLUP_CHECK));
+                HealthState worst = HealthState.ofCode(buffer.get(at + ROLLUP_WORST));
+                int count = buffer.getInt(at + ROLLUP_COUNT);
+                int unhealthy = buffer.getInt(at + ROLLUP_UNHEALTHY);
+                long sum = buffer.getLong(at + ROLLUP_SUM);
+                int max = buffer.getInt(at + ROLLUP_MAX);
+                if (!ring.unchanged(sequence) || millis < from || recorded == null
+                        || (check != null && recorded != check)) {
+                    continue;
+                }
+                visitor.rollup(millis, recorded, worst, count, unhealthy, count == 0 ? 0 : sum / count, max);
+            }
+            visited++;
+        }
+        return visited;
+    }
+
+    /**
+     * @return the timestamp of the oldest record still held at {@code resolution}, or -1 when empty
+     */
+    public long oldest(Resolution resolution) {
+        MappedRecordRing ring = ring(resolution);
+        long start = ring.start();
+        return start < ring.end() && ring.committed(start) ? ring.timestamp(start) : -1;
+    }
+
+    private MappedRecordRing ring(Resolution resolution) {
+        return switch (resolution) {
+            case RAW -> raw;
+            case MINUTE -> minutes;
+            case HOUR -> hours;
+        };
+    }
+
+    /**
+     * Receives records during {@link #scan}. Latencies are in microseconds.
+     */
+    public interface Visitor {
+
+        void sample(long epochMillis, HealthCheck check, HealthState state, int latencyMicros) throws IOException;
+
+        void rollup(long bucketMillis, HealthCheck check, HealthState worst, int count, int unhealthy,
+                    long meanLatencyMicros, int maxLatencyMicros) throws IOException;
+    }
+
+    public enum Resolution {
+
+        RAW("raw", 1),
+        MINUTE("1m", TimeUnit.MINUTES.toMillis(1)),
+        HOUR("1h", TimeUnit.HOURS.toMillis(1));
+
+        private final String label;
+        private final long bucketMillis;
+
+        Resolution(String label, long bucketMillis) {
+            this.label = label;
+            this.bucketMillis = bucketMillis;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        long bucketOf(long millis) {
+            return Math.floorDiv(millis, bucketMillis) * bucketMillis;
+        }
+
+        /**
+         * @return the resolution labelled {@code label}, or null when there is none
+         */
+        public static Resolution ofLabel(String label) {
+            for (Resolution resolution : values()) {
+                if (resolution.label.equals(label)) {
+                    return resolution;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Bucket {
+
+        long sum;
+        int count;
+        int unhealthy;
+        int max;
+        int worst;
+
+        void add(long sum, int count, int unhealthy, int max, int worst) {
+            this.sum += sum;
+            this.count += count;
+            this.unhealthy += unhealthy;
+            this.max = Math.max(this.max, max);
+            this.worst = Math.max(this.worst, worst);
+        }
+
+        void reset() {
+            sum = 0;
+            count = 0;
+            unhealthy = 0;
+            max = 0;
+            worst = 0;
+        }
+    }
+}
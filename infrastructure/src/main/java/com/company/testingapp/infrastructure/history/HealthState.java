@@ -0,0 +1,30 @@
+package com.company.testingapp.infrastructure.history;
+
+/**
+ * Outcome of a recorded health check, ordered from best to worst so rollups can keep
+ * the worst state of a bucket with {@code max}. Stored on disk by ordinal.
+ */
+public enum HealthState {
+
+    UP, UNKNOWN, DOWN, ERROR;
+
+    private static final HealthState[] VALUES = values();
+
+    /**
+     * Maps a {@code HealthResponse} status string; anything other than UP or DOWN is UNKNOWN.
+     */
+    public static HealthState of(String status) {
+        if ("UP".equals(status)) {
+            return UP;
+        }
+        return "DOWN".equals(status) ? DOWN : UNKNOWN;
+    }
+
+    public static HealthState of(boolean healthy) {
+        return healthy ? UP : DOWN;
+    }
+
+    static HealthState ofCode(int code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : UNKNOWN;
+    }
+}
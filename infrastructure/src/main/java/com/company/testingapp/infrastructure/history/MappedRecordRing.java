@@ -0,0 +1,175 @@
+package com.company.testingapp.infrastructure.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-width records in a memory-mapped ring file that survives restarts.
+ *
+ * <p>Each slot starts with an 8-byte commit marker holding {@code sequence + 1} (0 while
+ * empty or being written) followed by the payload, whose first 8 bytes must be an epoch
+ * millis timestamp. Writers claim a sequence without locking, clear the marker, write
+ * the payload and publish the marker with release semantics. Readers check the marker
+ * before and after reading a payload, seqlock style, so a slot overwritten mid-read is
+ * skipped instead of returned torn. On open the next sequence is recovered from the
+ * highest marker, so nothing but the slots themselves needs to be persisted.</p>
+ */
+final class MappedRecordRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedRecordRing.class);
+
+    private static final int MAGIC = 0x48485231; // "HHR1"
+    private static final int HEADER_SIZE = 64;
+    private static final int MARKER_SIZE = Long.BYTES;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final MappedByteBuffer buffer;
+    private final int slotSize;
+    private final int capacity;
+    private final AtomicLong next;
+
+    MappedRecordRing(Path file, int payloadSize, int capacity) throws IOException {
+        if (payloadSize < Long.BYTES || payloadSize % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Payload size must be a positive multiple of 8: " + payloadSize);
+        }
+        if (capacity <= 0 || (long) capacity * (MARKER_SIZE + payloadSize) > Integer.MAX_VALUE - HEADER_SIZE) {
+            throw new IllegalArgumentException("Ring capacity out of range: " + capacity);
+        }
+        this.slotSize = MARKER_SIZE + payloadSize;
+        this.capacity = capacity;
+        long size = HEADER_SIZE + (long) capacity * slotSize;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean compatible = channel.size() == size && headerMatches(channel, payloadSize);
+            if (!compatible && channel.size() > 0) {
+                logger.warn("Discarding health history ring {} written with a different layout", file);
+            }
+            if (!compatible) {
+                channel.truncate(0);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC).putInt(4, payloadSize).putInt(8, capacity);
+        this.next = new AtomicLong(recoverNext());
+    }
+
+    private boolean headerMatches(FileChannel channel, int payloadSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        return header.getInt(0) == MAGIC && header.getInt(4) == payloadSize && header.getInt(8) == capacity;
+    }
+
+    private long recoverNext() {
+        long highest = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            highest = Math.max(highest, (long) LONGS.getAcquire(buffer, markerOffset(slot)));
+        }
+        return highest;
+    }
+
+    /**
+     * Claims the next sequence and invalidates its slot. The caller writes the payload at
+     * {@link #payloadOffset(long)} and then calls {@link #commit(long)}.
+     */
+    long begin() {
+        long sequence = next.getAndIncrement();
+        LONGS.setVolatile(buffer, markerOffset(slot(sequence)), 0L);
+        return sequence;
+    }
+
+    void commit(long sequence) {
+        LONGS.setRelease(buffer, markerOffset(slot(sequence)), sequence + 1);
+    }
+
+    /**
+     * @return whether the slot currently holds {@code sequence}; call before reading a payload
+     */
+    boolean committed(long sequence) {
+        return (long) LONGS.getAcquire(buffer, markerOffset(slot(sequence))) == sequence + 1;
+    }
+
+    /**
+     * @return whether the slot still holds {@code sequence}; call after reading a payload
+     */
+    boolean unchanged(long sequence) {
+        VarHandle.loadLoadFence();
+        return (long) LONGS.getVolatile(buffer, markerOffset(slot(sequence))) == sequence + 1;
+    }
+
+    int payloadOffset(long sequence) {
+        return markerOffset(slot(sequence)) + MARKER_SIZE;
+    }
+
+    /**
+     * The mapped buffer; only absolute get and put methods may be used on it.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    long timestamp(long sequence) {
+        return buffer.getLong(payloadOffset(sequence));
+    }
+
+    /**
+     * @return the next sequence to be written
+     */
+    long end() {
+        return next.get();
+    }
+
+    /**
+     * @return the oldest sequence that has not been overwritten
+     */
+    long start() {
+        return Math.max(0, end() - capacity);
+    }
+
+    /**
+     * Binary search for the first record at or after {@code millis}. Timestamps are
+     * assumed to grow with the sequence; concurrent writers may reorder them by a few
+     * milliseconds, which only shifts where a scan starts.
+     */
+    long firstAtOrAfter(long millis) {
+        long low = start();
+        long high = end();
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (timestamp(middle) < millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private int markerOffset(int slot) {
+        return HEADER_SIZE + slot * slotSize;
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.testingapp.infrastructure.http;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+
+/**
+ * Applies {@link Http2Properties} to the HTTP/2 upgrade protocol that Spring Boot
+ * registers on the connector. Serves both h2 (ALPN over TLS) and cleartext h2c upgrades.
+ */
+public class Http2ConnectorCustomizer implements TomcatConnectorCustomizer {
+
+    private final Http2Properties properties;
+
+    public Http2ConnectorCustomizer(Http2Properties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void customize(Connector connector) {
+        for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+            if (protocol instanceof Http2Protocol http2) {
+                http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+                http2.setMaxConcurrentStreamExecution(properties.getMaxConcurrentStreamExecution());
+                http2.setKeepAliveTimeout(properties.getKeepAliveTimeout().toMillis());
+                http2.setInitialWindowSize(properties.getInitialWindowSize());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.testingapp.infrastructure.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP/2 connection settings applied to Tomcat's {@code Http2Protocol} when
+ * {@code server.http2.enabled} is on. Bound from the {@code app.http2} prefix.
+ * Header size limits are shared with HTTP/1.1 through {@code server.max-http-request-header-size}.
+ */
+@ConfigurationProperties(prefix = "app.http2")
+public class Http2Properties {
+
+    /**
+     * Streams a client may have open at once on a single connection.
+     */
+    private long maxConcurrentStreams = 128;
+
+    /**
+     * Streams of a single connection processed concurrently by container threads.
+     */
+    private int maxConcurrentStreamExecution = 32;
+
+    /**
+     * How long an idle connection is kept open.
+     */
+    private Duration keepAliveTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Initial flow-control window advertised for each stream, in bytes.
+     */
+    private int initialWindowSize = 65_535;
+
+    public long getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(long maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public int getMaxConcurrentStreamExecution() {
+        return maxConcurrentStreamExecution;
+    }
+
+    public void setMaxConcurrentStreamExecution(int maxConcurrentStreamExecution) {
+        this.maxConcurrentStreamExecution = maxConcurrentStreamExecution;
+    }
+
+    public Duration getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public void setKeepAliveTimeout(Duration keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    public int getInitialWindowSize() {
+        return initialWindowSize;
+    }
+
+    public void setInitialWindowSize(int initialWindowSize) {
+        this.initialWindowSize = initialWindowSize;
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.testingapp.infrastructure.http;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes the embedded Tomcat's HTTP/2 protocol when {@code server.http2.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(Http2Properties.class)
+@ConditionalOnProperty(prefix = "server.http2", name = "enabled")
+public class HttpServerConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2ConnectorCustomizer(
+            Http2Properties properties) {
+        return factory -> factory.addConnectorCustomizers(new Http2ConnectorCustomizer(properties));
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.testingapp.infrastructure.lifecycle;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the shutdown drain coordinator.
+ */
+@Configuration
+@EnableConfigurationProperties(DrainProperties.class)
+public class DrainConfig {
+
+    @Bean
+    public DrainCoordinator drainCoordinator(ApplicationEventPublisher publisher, DrainProperties properties) {
+        return new DrainCoordinator(publisher, properties);
+    }
+}
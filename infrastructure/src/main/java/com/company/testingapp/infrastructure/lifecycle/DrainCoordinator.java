@@ -0,0 +1,142 @@
+package com.company.testingapp.infrastructure.lifecycle;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coordinates a graceful drain on shutdown.
+ *
+ * <p>In-flight requests are counted with striped {@link LongAdder}s from the request
+ * interceptor. The coordinator stops in the highest lifecycle phase, ahead of the web
+ * server's graceful shutdown: it flips readiness to {@link ReadinessState#REFUSING_TRAFFIC},
+ * asks HTTP/1.1 clients to drop keep-alive connections, and keeps serving for the
+ * propagation delay before Tomcat stops accepting connections. Waiting for the requests
+ * still in flight is left to Tomcat's graceful shutdown, which is bounded by
+ * {@code spring.lifecycle.timeout-per-shutdown-phase}. The propagation delay is skipped when
+ * no web server was started or readiness was never published, as in tests or a context
+ * that failed to start, since nothing can have routed traffic here.
+ * When the context destroys its beans, the drain duration and the number of requests
+ * still in flight (abandoned) are logged; only the in-flight gauge is exported.</p>
+ */
+public class DrainCoordinator implements SmartLifecycle, DisposableBean, MeterBinder,
+        ApplicationListener<ApplicationEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DrainCoordinator.class);
+
+    private final ApplicationEventPublisher publisher;
+    private final Duration propagationDelay;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean webServerStarted;
+    private volatile boolean readinessPublished;
+    private volatile boolean draining;
+    private volatile long drainStartNanos;
+
+    public DrainCoordinator(ApplicationEventPublisher publisher, DrainProperties properties) {
+        this.publisher = publisher;
+        this.propagationDelay = properties.getPropagationDelay();
+    }
+
+    public void requestStarted() {
+        started.increment();
+    }
+
+    public void requestCompleted() {
+        completed.increment();
+    }
+
+    public long inFlight() {
+        return Math.max(0, started.sum() - completed.sum());
+    }
+
+    /**
+     * @return true once shutdown has begun; new responses should close their connection
+     */
+    public boolean isDraining() {
+        return draining;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof WebServerInitializedEvent) {
+            webServerStarted = true;
+        } else if (event instanceof AvailabilityChangeEvent<?> change && change.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            readinessPublished = true;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        drainStartNanos = System.nanoTime();
+        draining = true;
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        Duration delay = webServerStarted && readinessPublished ? propagationDelay : Duration.ZERO;
+        logger.info("Draining: readiness set to REFUSING_TRAFFIC with {} requests in flight, waiting {} ms",
+                inFlight(), delay.toMillis());
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+    }
+
+    /**
+     * Runs after the web server has stopped, so whatever is still in flight was cut off.
+     */
+    @Override
+    public void destroy() {
+        if (!draining) {
+            return;
+        }
+        long drainMillis = (System.nanoTime() - drainStartNanos) / 1_000_000;
+        long abandoned = inFlight();
+        if (abandoned > 0) {
+            logger.warn("Drain finished in {} ms, {} requests abandoned", drainMillis, abandoned);
+        } else {
+            logger.info("Drain finished in {} ms, no requests abandoned", drainMillis);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops before every other lifecycle bean, in particular before the web server's
+     * graceful shutdown pauses the connector.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.server.requests.in.flight", this, DrainCoordinator::inFlight)
+                .description("Requests currently being handled")
+                .register(registry);
+    }
+}
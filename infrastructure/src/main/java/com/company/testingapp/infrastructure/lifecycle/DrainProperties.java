@@ -0,0 +1,29 @@
+package com.company.testingapp.infrastructure.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the shutdown drain sequence.
+ * Bound from the {@code app.drain} prefix. The time Tomcat waits for in-flight requests
+ * after it stops accepting connections is {@code spring.lifecycle.timeout-per-shutdown-phase}.
+ */
+@ConfigurationProperties(prefix = "app.drain")
+public class DrainProperties {
+
+    /**
+     * How long to keep serving after readiness flips to REFUSING_TRAFFIC, so load
+     * balancers and probes observe it before the connector stops accepting connections.
+     * Only needed behind a load balancer; the prod profile sets it.
+     */
+    private Duration propagationDelay = Duration.ZERO;
+
+    public Duration getPropagationDelay() {
+        return propagationDelay;
+    }
+
+    public void setPropagationDelay(Duration propagationDelay) {
+        this.propagationDelay = propagationDelay;
+    }
+}
@@ -0,0 +1,242 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Logback encoder that writes one JSON object per line.
+ * Events are encoded straight into a per-thread byte buffer that is reused across
+ * events, so {@link #encodeTo(ILoggingEvent, OutputStream)} does not allocate once warm;
+ * {@link JsonRollingFileAppender} and {@link MappedRollingFileAppender} write through it.
+ * MDC entries (request_id, route, latency_ms, ...) are written as top-level fields.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    private boolean includeStackTrace = true;
+
+    public void setIncludeStackTrace(boolean includeStackTrace) {
+        this.includeStackTrace = includeStackTrace;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * Standard logback entry point. Returns a copy of the reused buffer because the
+     * {@code Encoder} contract hands ownership of the array to the caller, so this path
+     * allocates one array per event.
+     */
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        State s = encodeToBuffer(event);
+        return Arrays.copyOf(s.buf, s.len);
+    }
+
+    /**
+     * Allocation-free entry point for appenders that own an output stream.
+     */
+    public void encodeTo(ILoggingEvent event, OutputStream out) throws IOException {
+        State s = encodeToBuffer(event);
+        out.write(s.buf, 0, s.len);
+    }
+
+    private State encodeToBuffer(ILoggingEvent event) {
+        State s = state.get();
+        s.reset();
+        s.ascii("{\"@timestamp\":\"");
+        s.timestamp(event.getTimeStamp());
+        s.ascii("\",\"level\":\"");
+        s.ascii(event.getLevel().levelStr);
+        s.ascii("\",\"thread\":");
+        s.string(event.getThreadName());
+        s.ascii(",\"logger\":");
+        s.string(event.getLoggerName());
+        s.ascii(",\"message\":");
+        s.string(event.getFormattedMessage());
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            mdc.forEach(s);
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            s.ascii(",\"exception\":\"");
+            s.throwable(throwable, includeStackTrace);
+            s.put((byte) '"');
+        }
+        s.ascii("}\n");
+        return s;
+    }
+
+    /**
+     * Per-thread encoding state. Doubles as the MDC visitor so that iterating the
+     * MDC map does not allocate a lambda per event.
+     */
+    private static final class State implements BiConsumer<String, String> {
+
+        private byte[] buf = new byte[1024];
+        private int len;
+        private long cachedDay = Long.MIN_VALUE;
+        private final byte[] cachedDate = new byte[11];
+
+        void reset() {
+            if (buf.length > MAX_RETAINED_BUFFER) {
+                buf = new byte[1024];
+            }
+            len = 0;
+        }
+
+        @Override
+        public void accept(String key, String value) {
+            ascii(",");
+            string(key);
+            put((byte) ':');
+            string(value);
+        }
+
+        void put(byte b) {
+            if (len == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length << 1);
+            }
+            buf[len++] = b;
+        }
+
+        void ascii(String value) {
+            for (int i = 0, n = value.length(); i < n; i++) {
+                put((byte) value.charAt(i));
+            }
+        }
+
+        void string(String value) {
+            if (value == null) {
+                ascii("null");
+                return;
+            }
+            put((byte) '"');
+            escaped(value);
+            put((byte) '"');
+        }
+
+        void escaped(String value) {
+            for (int i = 0, n = value.length(); i < n; i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    put((byte) '\\');
+                    put((byte) c);
+                } else if (c == '\n') {
+                    put((byte) '\\');
+                    put((byte) 'n');
+                } else if (c == '\r') {
+                    put((byte) '\\');
+                    put((byte) 'r');
+                } else if (c == '\t') {
+                    put((byte) '\\');
+                    put((byte) 't');
+                } else if (c < 0x20) {
+                    ascii("\\u00");
+                    put(HEX[c >> 4]);
+                    put(HEX[c & 0xF]);
+                } else if (c < 0x80) {
+                    put((byte) c);
+                } else if (c < 0x800) {
+                    put((byte) (0xC0 | (c >> 6)));
+                    put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < n
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    put((byte) (0xF0 | (cp >> 18)));
+                    put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    put((byte) (0x80 | (cp & 0x3F)));
+                } else {
+                    put((byte) (0xE0 | (c >> 12)));
+                    put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        /**
+         * Writes an ISO-8601 UTC timestamp with millisecond precision.
+         * The date part is cached and only recomputed when the day changes.
+         */
+        void timestamp(long epochMillis) {
+            long day = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+            if (day != cachedDay) {
+                cacheDate(day);
+            }
+            for (byte b : cachedDate) {
+                put(b);
+            }
+            int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+            twoDigits(millisOfDay / 3_600_000);
+            put((byte) ':');
+            twoDigits((millisOfDay / 60_000) % 60);
+            put((byte) ':');
+            twoDigits((millisOfDay / 1000) % 60);
+            put((byte) '.');
+            int millis = millisOfDay % 1000;
+            put((byte) ('0' + millis / 100));
+            twoDigits(millis % 100);
+            put((byte) 'Z');
+        }
+
+        private void cacheDate(long epochDay) {
+            String date = LocalDate.ofEpochDay(epochDay).toString() + "T";
+            for (int i = 0; i < cachedDate.length; i++) {
+                cachedDate[i] = (byte) date.charAt(i);
+            }
+            cachedDay = epochDay;
+        }
+
+        private void twoDigits(int value) {
+            put((byte) ('0' + value / 10));
+            put((byte) ('0' + value % 10));
+        }
+
+        void throwable(IThrowableProxy proxy, boolean includeStackTrace) {
+            boolean first = true;
+            while (proxy != null) {
+                if (!first) {
+                    escaped("\nCaused by: ");
+                }
+                escaped(proxy.getClassName());
+                if (proxy.getMessage() != null) {
+                    escaped(": ");
+                    escaped(proxy.getMessage());
+                }
+                if (includeStackTrace) {
+                    StackTraceElementProxy[] frames = proxy.getStackTraceElementProxyArray();
+                    int common = proxy.getCommonFrames();
+                    for (int i = 0; i < frames.length - common; i++) {
+                        escaped("\n\tat ");
+                        escaped(frames[i].getSTEAsString());
+                    }
+                }
+                first = false;
+                proxy = proxy.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link RollingFileAppender} that writes {@link JsonLogEncoder} output through
+ * {@link JsonLogEncoder#encodeTo(ILoggingEvent, OutputStream)} into the appender's own
+ * buffered file stream, so writing an event does not copy it into a new array as
+ * {@code Encoder.encode} has to. Other encoders go through the standard path.
+ *
+ * <p>Implements {@link Flushable} so that {@link LockFreeAsyncAppender} can flush once per
+ * drained batch when {@code immediateFlush} is false.</p>
+ */
+public class JsonRollingFileAppender extends RollingFileAppender<ILoggingEvent> implements Flushable {
+
+    @Override
+    protected void writeOut(ILoggingEvent event) throws IOException {
+        if (!(encoder instanceof JsonLogEncoder jsonEncoder)) {
+            super.writeOut(event);
+            return;
+        }
+        streamWriteLock.lock();
+        try {
+            if (isStarted()) {
+                OutputStream out = getOutputStream();
+                jsonEncoder.encodeTo(event, out);
+                if (isImmediateFlush()) {
+                    out.flush();
+                }
+            }
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        streamWriteLock.lock();
+        try {
+            if (isStarted()) {
+                getOutputStream().flush();
+            }
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender backed by a lock-free bounded ring.
+ * Unlike logback's {@code AsyncAppender} the calling thread never blocks: when the
+ * ring is still full after one {@link Thread#yield()} the event is dropped and counted,
+ * and the counters are exported through {@link LoggingQueueMetrics}. The worker drains
+ * in batches of up to {@value #BATCH_SIZE} events and flushes {@link Flushable}
+ * appenders once per batch.
+ */
+public class LockFreeAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int BATCH_SIZE = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int maxFlushTime = 1000;
+    private boolean includeCallerData = false;
+
+    private volatile BoundedEventQueue<ILoggingEvent> queue;
+    private volatile Thread worker;
+    private volatile boolean workerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + name + "]");
+            return;
+        }
+        queue = new BoundedEventQueue<>(queueSize);
+        Thread thread = new Thread(this::drainLoop, "LockFreeAsyncAppender-Worker-" + getName());
+        thread.setDaemon(true);
+        worker = thread;
+        super.start();
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        Thread thread = worker;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            addWarn("Max flush time (" + maxFlushTime + "ms) reached, " + queue.size() + " queued events were discarded");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (queue.offer(event) || offerAfterYield(event)) {
+            enqueued.increment();
+            if (workerParked) {
+                LockSupport.unpark(worker);
+            }
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * A full ring usually means the worker is not getting CPU, typically because the
+     * logging threads outnumber the cores. Yield once so it can drain, then drop.
+     */
+    private boolean offerAfterYield(ILoggingEvent event) {
+        Thread.yield();
+        return queue.offer(event);
+    }
+
+    /**
+     * Drains the ring in batches and parks only when it is empty. Producers unpark the
+     * worker on publish when it is parked: {@code workerParked} is set before the final
+     * emptiness check and read after the slot is claimed, so a wakeup cannot be missed.
+     */
+    private void drainLoop() {
+        BoundedEventQueue<ILoggingEvent> q = queue;
+        ILoggingEvent[] batch = new ILoggingEvent[BATCH_SIZE];
+        Flushable[] flushables = flushables();
+        while (isStarted()) {
+            if (appendBatch(q, batch, flushables) > 0) {
+                continue;
+            }
+            workerParked = true;
+            if (q.size() == 0 && isStarted()) {
+                LockSupport.park(this);
+            }
+            workerParked = false;
+        }
+        while (appendBatch(q, batch, flushables) > 0) {
+            // drain what was queued before stop()
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private int appendBatch(BoundedEventQueue<ILoggingEvent> q, ILoggingEvent[] batch, Flushable[] flushables) {
+        int count = q.drainTo(batch);
+        if (count == 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            appenders.appendLoopOnAppenders(batch[i]);
+        }
+        Arrays.fill(batch, 0, count, null);
+        for (Flushable flushable : flushables) {
+            try {
+                flushable.flush();
+            } catch (IOException e) {
+                addError("Failed to flush appender attached to [" + name + "]", e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Attached appenders that buffer writes ({@code immediateFlush} false) are flushed
+     * once per drained batch instead of once per event.
+     */
+    private Flushable[] flushables() {
+        List<Flushable> found = new ArrayList<>();
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            if (it.next() instanceof Flushable flushable) {
+                found.add(flushable);
+            }
+        }
+        return found.toArray(new Flushable[0]);
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueDepth() {
+        BoundedEventQueue<ILoggingEvent> q = queue;
+        return q == null ? 0 : q.size();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exports depth, capacity, enqueued and dropped counts of every
+ * {@link LockFreeAsyncAppender} configured in logback.
+ */
+@Component
+public class LoggingQueueMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (LockFreeAsyncAppender appender : findAppenders().values()) {
+            String name = appender.getName();
+            Gauge.builder("logging.queue.depth", appender, LockFreeAsyncAppender::getQueueDepth)
+                    .description("Events waiting in the async logging queue")
+                    .tag("appender", name)
+                    .register(registry);
+            Gauge.builder("logging.queue.capacity", appender, LockFreeAsyncAppender::getQueueSize)
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("logging.queue.enqueued", appender, LockFreeAsyncAppender::getEnqueuedCount)
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("logging.queue.dropped", appender, LockFreeAsyncAppender::getDroppedCount)
+                    .description("Events dropped because the async logging queue was full")
+                    .tag("appender", name)
+                    .register(registry);
+        }
+    }
+
+    private Map<String, LockFreeAsyncAppender> findAppenders() {
+        Map<String, LockFreeAsyncAppender> found = new LinkedHashMap<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return found;
+        }
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof LockFreeAsyncAppender appender) {
+                    found.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,380 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rolling file appender that writes into a memory-mapped region of the current
+ * log segment instead of issuing a write syscall per flush.
+ *
+ * <p>The active segment is mapped at {@code maxFileSize}; unused space is zero-filled
+ * and trimmed when the segment is closed. Segments roll on size or date change, are
+ * renamed using {@code fileNamePattern} ({@code %d{...}} and {@code %i} tokens) and
+ * gzip-compressed on a background thread. On start the appender recovers the tail of
+ * an existing segment left behind by a crash: trailing zeros and any torn last line
+ * are discarded and appending resumes after the last complete line.</p>
+ *
+ * <p>Retention counts rolled segments, not days: {@code maxSegments} keeps that many of the
+ * newest rolled files and {@code totalSizeCap}, when set, deletes the oldest until the rest
+ * fit. Unlike {@code maxHistory} on logback's time-based policies, how much time that covers
+ * depends on the log volume.</p>
+ */
+public class MappedRollingFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final FileSize DEFAULT_MAX_FILE_SIZE = new FileSize(100 * FileSize.MB_COEFFICIENT);
+    private static final int RECOVERY_SCAN_CHUNK = 64 * 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final SegmentOutputStream segmentStream = new SegmentOutputStream();
+
+    private Encoder<ILoggingEvent> encoder;
+    private String file;
+    private String fileNamePattern;
+    private FileSize maxFileSize = DEFAULT_MAX_FILE_SIZE;
+    private int maxSegments = 30;
+    private FileSize totalSizeCap;
+    private boolean compress = true;
+    private ZoneId zone = ZoneId.systemDefault();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private LocalDate segmentDate;
+    private long nextRollMillis;
+    private ExecutorService compressor;
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (file == null || fileNamePattern == null) {
+            addError("Both file and fileNamePattern must be set for the appender named [" + name + "]");
+            return;
+        }
+        if (!fileNamePattern.contains("%i")) {
+            addError("fileNamePattern [" + fileNamePattern + "] must contain the %i token");
+            return;
+        }
+        compressor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MappedRollingFileAppender-Compressor-" + getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            openSegment();
+        } catch (IOException e) {
+            addError("Failed to open log segment [" + file + "]", e);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        lock.lock();
+        try {
+            super.stop();
+            closeSegment();
+        } catch (IOException e) {
+            addError("Failed to close log segment [" + file + "]", e);
+        } finally {
+            lock.unlock();
+        }
+        compressor.shutdown();
+        try {
+            compressor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        lock.lock();
+        try {
+            if (!isStarted()) {
+                return;
+            }
+            if (event.getTimeStamp() >= nextRollMillis) {
+                roll();
+            }
+            if (encoder instanceof JsonLogEncoder jsonEncoder) {
+                jsonEncoder.encodeTo(event, segmentStream);
+            } else {
+                segmentStream.write(encoder.encode(event));
+            }
+        } catch (IOException e) {
+            addError("Failed to write log event to [" + file + "]", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long recovered = recoverTail(channel);
+        if (recovered >= maxFileSize.getSize()) {
+            channel.truncate(recovered);
+            channel.close();
+            rollFile(path, LocalDate.now(zone));
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recovered = 0;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxFileSize.getSize());
+        buffer.position((int) recovered);
+        segmentDate = LocalDate.now(zone);
+        nextRollMillis = segmentDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        long size = buffer.position();
+        buffer = null;
+        channel.truncate(size);
+        channel.close();
+        channel = null;
+    }
+
+    private void roll() throws IOException {
+        LocalDate closedDate = segmentDate;
+        closeSegment();
+        rollFile(Paths.get(file), closedDate);
+        openSegment();
+    }
+
+    private void rollFile(Path active, LocalDate date) throws IOException {
+        if (Files.size(active) == 0) {
+            return;
+        }
+        Path target = nextRolledPath(date);
+        Files.move(active, target, StandardCopyOption.ATOMIC_MOVE);
+        if (compress) {
+            compressor.execute(() -> compressAndPrune(target));
+        } else {
+            compressor.execute(this::pruneSegments);
+        }
+    }
+
+    private Path nextRolledPath(LocalDate date) {
+        String dated = resolveDate(fileNamePattern, date);
+        for (int index = 0; ; index++) {
+            Path candidate = Paths.get(dated.replace("%i", Integer.toString(index)));
+            if (!Files.exists(candidate) && !Files.exists(gzipPath(candidate))) {
+                return candidate;
+            }
+        }
+    }
+
+    private void compressAndPrune(Path rolled) {
+        Path gz = gzipPath(rolled);
+        try (InputStream in = Files.newInputStream(rolled);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz), 64 * 1024)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            addError("Failed to compress rolled segment [" + rolled + "]", e);
+            return;
+        }
+        try {
+            Files.delete(rolled);
+        } catch (IOException e) {
+            addWarn("Failed to delete compressed segment [" + rolled + "]", e);
+        }
+        pruneSegments();
+    }
+
+    private void pruneSegments() {
+        Path pattern = Paths.get(fileNamePattern).toAbsolutePath();
+        Path directory = pattern.getParent();
+        String name = pattern.getFileName().toString();
+        String prefix = name.indexOf('%') < 0 ? name : name.substring(0, name.indexOf('%'));
+        List<Path> rolled = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, prefix + "*")) {
+            Path active = Paths.get(file).toAbsolutePath();
+            for (Path entry : entries) {
+                if (!entry.toAbsolutePath().equals(active)) {
+                    rolled.add(entry);
+                }
+            }
+            rolled.sort(Comparator.comparingLong(p -> p.toFile().lastModified()));
+            long totalSize = 0;
+            for (Path segment : rolled) {
+                totalSize += Files.size(segment);
+            }
+            long cap = totalSizeCap == null ? Long.MAX_VALUE : totalSizeCap.getSize();
+            for (int i = 0; i < rolled.size() && (rolled.size() - i > maxSegments || totalSize > cap); i++) {
+                Path stale = rolled.get(i);
+                totalSize -= Files.size(stale);
+                Files.deleteIfExists(stale);
+            }
+        } catch (IOException e) {
+            addWarn("Failed to prune rolled segments in [" + directory + "]", e);
+        }
+    }
+
+    /**
+     * Finds where appending should resume in a segment that may have been left
+     * mapped (and zero-padded) by a previous process. Returns the offset just past the
+     * last newline, which drops both the zero padding and a torn final record.
+     */
+    static long recoverTail(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer chunk = ByteBuffer.allocate(RECOVERY_SCAN_CHUNK);
+        long end = size;
+        while (end > 0) {
+            long start = Math.max(0, end - RECOVERY_SCAN_CHUNK);
+            chunk.clear().limit((int) (end - start));
+            channel.read(chunk, start);
+            for (int i = chunk.limit() - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private static String resolveDate(String pattern, LocalDate date) {
+        int start = pattern.indexOf("%d{");
+        if (start < 0) {
+            return pattern.replace("%d", date.toString());
+        }
+        int end = pattern.indexOf('}', start);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern.substring(start + 3, end));
+        return pattern.substring(0, start) + formatter.format(date) + pattern.substring(end + 1);
+    }
+
+    private static Path gzipPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".gz");
+    }
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFileNamePattern(String fileNamePattern) {
+        this.fileNamePattern = fileNamePattern;
+    }
+
+    public String getFileNamePattern() {
+        return fileNamePattern;
+    }
+
+    public void setMaxFileSize(FileSize maxFileSize) {
+        if (maxFileSize.getSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxFileSize must not exceed 2GB for a single mapped segment");
+        }
+        this.maxFileSize = maxFileSize;
+    }
+
+    public FileSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setTotalSizeCap(FileSize totalSizeCap) {
+        this.totalSizeCap = totalSizeCap;
+    }
+
+    public FileSize getTotalSizeCap() {
+        return totalSizeCap;
+    }
+
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    void setZone(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Writes into the mapped segment, rolling to a fresh segment when it is full.
+     * Only used while {@link #lock} is held.
+     */
+    private final class SegmentOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                roll();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > buffer.remaining() && buffer.position() > 0) {
+                roll();
+            }
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    roll();
+                }
+                int chunk = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps unbounded tag values, typically request paths, from growing the meter registry.
+ *
+ * <p>Values of the guarded tag keys are first normalized to a route template: values
+ * that already are templates pass through, identifier-like path segments of raw paths
+ * become {@code {id}}. Each meter and tag then admits up to {@code maxValues} distinct
+ * values; an admitted value stays admitted and every later one is folded into
+ * {@value #OTHER}. A HyperLogLog sketch estimates how many distinct values were offered
+ * in total, so a scanner's spray of paths stays visible at constant memory.</p>
+ *
+ * <p>Micrometer applies filters each time a meter is looked up, i.e. on every request
+ * for the HTTP server timers, so an admitted value is answered from a set lookup before
+ * any normalization. Per meter and tag, {@code metrics.tag.values.folded} counts the
+ * lookups folded into OTHER and {@code metrics.tag.values.estimate} reports the
+ * distinct-value estimate.</p>
+ */
+public class CardinalityLimitingMeterFilter implements MeterFilter, MeterBinder {
+
+    static final String OTHER = "OTHER";
+    static final String FOLDED = "metrics.tag.values.folded";
+    static final String ESTIMATE = "metrics.tag.values.estimate";
+
+    private static final Pattern IDENTIFIER = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|(?=[^/]*\\d)[0-9a-fA-F]{16,}");
+
+    private final Set<String> tagKeys;
+    private final int maxValues;
+    private final int precision;
+    private final Map<Guard.Key, Guard> guards = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    public CardinalityLimitingMeterFilter(CardinalityProperties properties) {
+        if (properties.getMaxValues() <= 0) {
+            throw new IllegalArgumentException("app.metrics.cardinality.max-values must be positive");
+        }
+        this.tagKeys = Set.copyOf(properties.getTags());
+        this.maxValues = properties.getMaxValues();
+        this.precision = properties.getPrecision();
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("app.metrics.cardinality.precision must be between 4 and 16");
+        }
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (id.getName().startsWith("metrics.tag.values.")) {
+            return id;
+        }
+        List<Tag> tags = null;
+        List<Tag> original = id.getTags();
+        for (int i = 0; i < original.size(); i++) {
+            Tag tag = original.get(i);
+            if (!tagKeys.contains(tag.getKey())) {
+                continue;
+            }
+            String value = guard(id.getName(), tag.getKey()).admit(tag.getValue());
+            if (!value.equals(tag.getValue())) {
+                if (tags == null) {
+                    tags = new ArrayList<>(original);
+                }
+                tags.set(i, Tag.of(tag.getKey(), value));
+            }
+        }
+        return tags == null ? id : id.replaceTags(tags);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        guards.values().forEach(guard -> guard.register(registry));
+    }
+
+    private Guard guard(String meter, String tag) {
+        return guards.computeIfAbsent(new Guard.Key(meter, tag), key -> {
+            Guard guard = new Guard(key, maxValues, new HyperLogLog(precision));
+            MeterRegistry bound = registry;
+            if (bound != null) {
+                guard.register(bound);
+            }
+            return guard;
+        });
+    }
+
+    /**
+     * Turns a raw path into a route template by replacing numeric, UUID and long hex
+     * segments with {@code {id}}. Values containing template or wildcard syntax and the
+     * upper-case placeholders Micrometer uses (NOT_FOUND, UNKNOWN, ...) pass through.
+     */
+    static String normalize(String value) {
+        if (value.isEmpty() || value.charAt(0) != '/' || value.indexOf('{') >= 0 || value.indexOf('*') >= 0) {
+            return value;
+        }
+        int query = value.indexOf('?');
+        String path = query >= 0 ? value.substring(0, query) : value;
+        StringBuilder normalized = null;
+        int start = 1;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start && IDENTIFIER.matcher(path).region(start, end).matches()) {
+                if (normalized == null) {
+                    normalized = new StringBuilder(path.length()).append(path, 0, start);
+                }
+                normalized.append("{id}");
+            } else if (normalized != null) {
+                normalized.append(path, start, end);
+            }
+            if (normalized != null && end < path.length()) {
+                normalized.append('/');
+            }
+            start = end + 1;
+        }
+        return normalized != null ? normalized.toString() : path;
+    }
+
+    /**
+     * Admission state of one meter name and tag key.
+     */
+    private static final class Guard {
+
+        private final Key key;
+        private final int maxValues;
+        private final HyperLogLog sketch;
+        private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+        private final AtomicLong folded = new AtomicLong();
+
+        Guard(Key key, int maxValues, HyperLogLog sketch) {
+            this.key = key;
+            this.maxValues = maxValues;
+            this.sketch = sketch;
+        }
+
+        String admit(String raw) {
+            if (admitted.contains(raw)) {
+                return raw;
+            }
+            String value = normalize(raw);
+            if (admitted.contains(value)) {
+                return value;
+            }
+            synchronized (admitted) {
+                if (admitted.size() < maxValues && admitted.add(value)) {
+                    sketch.offer(value);
+                    return value;
+                }
+            }
+            if (admitted.contains(value)) {
+                return value;
+            }
+            sketch.offer(value);
+            folded.incrementAndGet();
+            return OTHER;
+        }
+
+        long estimate() {
+            return sketch.estimate();
+        }
+
+        void register(MeterRegistry registry) {
+            FunctionCounter.builder(FOLDED, folded, AtomicLong::get)
+                    .description("Meter lookups whose tag value was folded into OTHER by the cardinality guard")
+                    .tag("meter", key.meter())
+                    .tag("tag", key.tag())
+                    .register(registry);
+            Gauge.builder(ESTIMATE, this, Guard::estimate)
+                    .description("Estimated distinct tag values offered, including folded ones")
+                    .tag("meter", key.meter())
+                    .tag("tag", key.tag())
+                    .register(registry);
+        }
+
+        record Key(String meter, String tag) {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the meter tag cardinality guard.
+ * Bound from the {@code app.metrics.cardinality} prefix.
+ */
+@ConfigurationProperties(prefix = "app.metrics.cardinality")
+public class CardinalityProperties {
+
+    /**
+     * Whether guarded tag values are normalized and capped.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tag keys whose values are normalized to route templates and capped per meter.
+     */
+    private List<String> tags = new ArrayList<>(List.of("uri"));
+
+    /**
+     * Distinct values kept per meter and tag; later values are folded into OTHER.
+     * Keep it below {@code management.metrics.web.server.max-uri-tags}, which drops
+     * meters instead of folding them.
+     */
+    private int maxValues = 64;
+
+    /**
+     * HyperLogLog precision for the distinct-value estimate (2^precision one-byte registers).
+     */
+    private int precision = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public int getMaxValues() {
+        return maxValues;
+    }
+
+    public void setMaxValues(int maxValues) {
+        this.maxValues = maxValues;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public void setPrecision(int precision) {
+        this.precision = precision;
+    }
+}
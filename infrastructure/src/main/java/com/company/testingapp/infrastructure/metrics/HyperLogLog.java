@@ -0,0 +1,74 @@
+package com.company.testingapp.infrastructure.metrics;
+
+/**
+ * Fixed-memory estimator of the number of distinct strings offered to it, with a
+ * relative standard error of about {@code 1.04 / sqrt(2^precision)}.
+ * Concurrent offers need no lock: registers only ever grow, and an update lost to a
+ * race at worst keeps a register one observation behind.
+ */
+final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between 4 and 16: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    void offer(CharSequence value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // Leading zeros of the remaining bits, plus one; the sentinel bit bounds the rank
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate while many registers are still empty
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer so the
+     * high bits used for the register index are well distributed.
+     */
+    static long hash(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import io.prometheus.client.CollectorRegistry;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Registers the tag cardinality guard ahead of Spring Boot's own meter filters, so
+ * folded values reach Boot's {@code max-uri-tags} filter as OTHER instead of being denied.
+ * Disable with {@code app.metrics.cardinality.enabled=false}.
+ *
+ * <p>When the Prometheus endpoint is exposed, scrapes are served from a
+ * {@link PrometheusScrapeCache}; disable with
+ * {@code app.metrics.prometheus.scrape-cache.enabled=false}.</p>
+ */
+@Configuration
+@EnableConfigurationProperties({CardinalityProperties.class, ScrapeCacheProperties.class})
+public class MetricsConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(prefix = "app.metrics.cardinality", name = "enabled", matchIfMissing = true)
+    public CardinalityLimitingMeterFilter cardinalityLimitingMeterFilter(CardinalityProperties properties) {
+        return new CardinalityLimitingMeterFilter(properties);
+    }
+
+    /**
+     * Scrape cache beans, only when the Prometheus endpoint is exposed and exporting.
+     */
+    @Configuration
+    @ConditionalOnAvailableEndpoint(endpoint = PrometheusScrapeEndpoint.class)
+    @ConditionalOnProperty(prefix = "management.prometheus.metrics.export", name = "enabled", matchIfMissing = true)
+    static class ScrapeCacheConfig {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "app.metrics.prometheus.scrape-cache", name = "enabled", matchIfMissing = true)
+        public PrometheusScrapeCache prometheusScrapeCache(CollectorRegistry collectorRegistry,
+                                                           ScrapeCacheProperties properties) {
+            return new PrometheusScrapeCache(collectorRegistry, properties);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "app.metrics.prometheus.scrape-cache", name = "enabled", matchIfMissing = true)
+        public FilterRegistrationBean<PrometheusScrapeFilter> prometheusScrapeFilter(PrometheusScrapeCache cache,
+                                                                                     WebEndpointProperties endpoints) {
+            String path = endpoints.getPathMapping().getOrDefault("prometheus", "prometheus");
+            FilterRegistrationBean<PrometheusScrapeFilter> registration =
+                    new FilterRegistrationBean<>(new PrometheusScrapeFilter(cache));
+            registration.addUrlPatterns(endpoints.getBasePath() + "/" + path);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import com.company.testingapp.domain.concurrent.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes Prometheus scrapes incrementally and shares them between close scrapes.
+ *
+ * <p>The registry is still collected on every encoding, since that is how current
+ * values are read, but formatting is skipped for every metric family whose samples are
+ * unchanged since the previous encoding: its cached bytes are copied into a reused
+ * assembly buffer instead. A family is the unit of encoding because the exposition
+ * formats group all tag sets of a meter name under one HELP/TYPE header. Families
+ * missing from a full scrape are evicted.</p>
+ *
+ * <p>Scrapes arriving within {@code window} of an encoding are answered from it, and
+ * concurrent scrapes after the window expired join a single new encoding. The gzip form
+ * is built on first request from per-family raw deflate chunks, each flushed to a byte
+ * boundary, so unchanged families are never compressed twice and the result is still
+ * a single gzip member.</p>
+ */
+public class PrometheusScrapeCache implements MeterBinder {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    // A final fixed-Huffman block holding only the end-of-block code
+    private static final byte[] DEFLATE_FINAL_BLOCK = {0x03, 0x00};
+    private static final byte[] OPENMETRICS_EOF = "# EOF\n".getBytes(StandardCharsets.UTF_8);
+
+    private final CollectorRegistry registry;
+    private final long windowNanos;
+    private final Map<Format, FormatState> states = new EnumMap<>(Format.class);
+    private final SingleFlight<Format, Scrape> encodings = new SingleFlight<>();
+    private final AtomicLong servedFromWindow = new AtomicLong();
+    private final AtomicLong familiesEncoded = new AtomicLong();
+    private final AtomicLong familiesReused = new AtomicLong();
+
+    public PrometheusScrapeCache(CollectorRegistry registry, ScrapeCacheProperties properties) {
+        this.registry = registry;
+        this.windowNanos = properties.getWindow().toNanos();
+        for (Format format : Format.values()) {
+            states.put(format, new FormatState(format));
+        }
+    }
+
+    /**
+     * @param includedNames sample names to restrict the scrape to, or null for all; a
+     *                      restricted scrape is always encoded fresh, reusing cached families
+     */
+    public Scrape scrape(Format format, Set<String> includedNames) {
+        if (includedNames != null && !includedNames.isEmpty()) {
+            return states.get(format).encode(includedNames);
+        }
+        FormatState state = states.get(format);
+        Scrape latest = state.latest;
+        if (latest != null && System.nanoTime() - latest.createdNanos < windowNanos) {
+            servedFromWindow.incrementAndGet();
+            return latest;
+        }
+        return encodings.execute(format, () -> {
+            Scrape current = state.latest;
+            if (current != null && System.nanoTime() - current.createdNanos < windowNanos) {
+                return current;
+            }
+            Scrape encoded = state.encode(null);
+            state.latest = encoded;
+            return encoded;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("prometheus.scrape.encodings", encodings, SingleFlight::executionCount)
+                .description("Scrapes for which the registry was collected and encoded")
+                .register(meterRegistry);
+        FunctionCounter.builder("prometheus.scrape.shared", this,
+                        cache -> cache.servedFromWindow.get() + cache.encodings.coalescedCount())
+                .description("Scrapes answered from an encoding made within the window or in flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("prometheus.scrape.families", familiesEncoded, AtomicLong::get)
+                .description("Metric families formatted because their samples changed")
+                .tag("result", "encoded")
+                .register(meterRegistry);
+        FunctionCounter.builder("prometheus.scrape.families", familiesReused, AtomicLong::get)
+                .description("Metric families copied from the previous encoding")
+                .tag("result", "reused")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash of everything that ends up in a family's exposition text.
+     */
+    static long fingerprint(MetricFamilySamples family) {
+        long hash = mix(family.name.hashCode(), family.type.ordinal());
+        hash = mix(hash, Objects.hashCode(family.help));
+        hash = mix(hash, Objects.hashCode(family.unit));
+        hash = mix(hash, family.samples.size());
+        for (MetricFamilySamples.Sample sample : family.samples) {
+            hash = mix(hash, sample.name.hashCode());
+            for (int i = 0; i < sample.labelValues.size(); i++) {
+                hash = mix(hash, sample.labelNames.get(i).hashCode());
+                hash = mix(hash, sample.labelValues.get(i).hashCode());
+            }
+            hash = mix(hash, Double.doubleToLongBits(sample.value));
+            hash = mix(hash, sample.timestampMs != null ? sample.timestampMs : -1L);
+            hash = mix(hash, sample.exemplar != null ? sample.exemplar.hashCode() : 0);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        long h = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 29);
+    }
+
+    public enum Format {
+
+        TEXT_004(TextFormat.CONTENT_TYPE_004),
+        OPENMETRICS_100(TextFormat.CONTENT_TYPE_OPENMETRICS_100);
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * One encoded scrape; immutable apart from the lazily built gzip form.
+     */
+    public static final class Scrape {
+
+        private final Format format;
+        private final byte[] identity;
+        private final List<Family> families;
+        private final long createdNanos;
+        private volatile byte[] gzip;
+
+        Scrape(Format format, byte[] identity, List<Family> families, long createdNanos) {
+            this.format = format;
+            this.identity = identity;
+            this.families = families;
+            this.createdNanos = createdNanos;
+        }
+
+        public String contentType() {
+            return format.contentType();
+        }
+
+        public byte[] identity() {
+            return identity;
+        }
+
+        public byte[] gzip() {
+            byte[] compressed = gzip;
+            if (compressed == null) {
+                synchronized (this) {
+                    compressed = gzip;
+                    if (compressed == null) {
+                        compressed = compress();
+                        gzip = compressed;
+                    }
+                }
+            }
+            return compressed;
+        }
+
+        private byte[] compress() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4 + 64);
+            out.writeBytes(GZIP_HEADER);
+            for (Family family : families) {
+                out.writeBytes(family.deflated());
+            }
+            if (format == Format.OPENMETRICS_100) {
+                out.writeBytes(deflate(OPENMETRICS_EOF));
+            }
+            out.writeBytes(DEFLATE_FINAL_BLOCK);
+            CRC32 crc = new CRC32();
+            crc.update(identity);
+            writeIntLE(out, (int) crc.getValue());
+            writeIntLE(out, identity.length);
+            return out.toByteArray();
+        }
+
+        private static void writeIntLE(ByteArrayOutputStream out, int value) {
+            out.write(value);
+            out.write(value >>> 8);
+            out.write(value >>> 16);
+            out.write(value >>> 24);
+        }
+    }
+
+    /**
+     * Cached exposition text of one metric family.
+     */
+    private static final class Family {
+
+        final long fingerprint;
+        final byte[] encoded;
+        long generation;
+        private volatile byte[] deflated;
+
+        Family(long fingerprint, byte[] encoded) {
+            this.fingerprint = fingerprint;
+            this.encoded = encoded;
+        }
+
+        byte[] deflated() {
+            byte[] chunk = deflated;
+            if (chunk == null) {
+                synchronized (this) {
+                    chunk = deflated;
+                    if (chunk == null) {
+                        chunk = deflate(encoded);
+                        deflated = chunk;
+                    }
+                }
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * Raw deflate of {@code input} ending in a sync flush, so chunks can be concatenated.
+     */
+    static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            byte[] buffer = new byte[Math.max(64, input.length / 2 + 64)];
+            ByteArrayOutputStream out = new ByteArrayOutputStream(buffer.length);
+            int written;
+            do {
+                written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, written);
+            } while (written == buffer.length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Family cache and reusable buffers of one exposition format.
+     */
+    private final class FormatState {
+
+        private final Format format;
+        private final Map<String, Family> families = new HashMap<>();
+        // Formatting goes through a char buffer because an OutputStreamWriter wraps every
+        // one of the many small writes TextFormat makes in a new CharBuffer
+        private final StringWriter familyWriter = new StringWriter(4096);
+        private byte[] assembly = new byte[64 * 1024];
+        private long generation;
+
+        volatile Scrape latest;
+
+        FormatState(Format format) {
+            this.format = format;
+        }
+
+        synchronized Scrape encode(Set<String> includedNames) {
+            long current = ++generation;
+            Enumeration<MetricFamilySamples> samples = includedNames == null
+                    ? registry.metricFamilySamples() : registry.filteredMetricFamilySamples(includedNames);
+            List<Family> parts = new ArrayList<>();
+            int length = 0;
+            while (samples.hasMoreElements()) {
+                MetricFamilySamples samplesOfFamily = samples.nextElement();
+                String key = samplesOfFamily.type + " " + samplesOfFamily.name;
+                long fingerprint = fingerprint(samplesOfFamily);
+                Family family = families.get(key);
+                if (family == null || family.fingerprint != fingerprint) {
+                    family = new Family(fingerprint, render(samplesOfFamily));
+                    families.put(key, family);
+                    familiesEncoded.incrementAndGet();
+                } else {
+                    familiesReused.incrementAndGet();
+                }
+                family.generation = current;
+                parts.add(family);
+                length = append(length, family.encoded);
+            }
+            if (format == Format.OPENMETRICS_100) {
+                length = append(length, OPENMETRICS_EOF);
+            }
+            if (includedNames == null) {
+                families.values().removeIf(family -> family.generation != current);
+            }
+            return new Scrape(format, Arrays.copyOf(assembly, length), parts, System.nanoTime());
+        }
+
+        private int append(int length, byte[] bytes) {
+            if (length + bytes.length > assembly.length) {
+                assembly = Arrays.copyOf(assembly, Math.max(assembly.length << 1, length + bytes.length));
+            }
+            System.arraycopy(bytes, 0, assembly, length, bytes.length);
+            return length + bytes.length;
+        }
+
+        private byte[] render(MetricFamilySamples family) {
+            StringBuffer text = familyWriter.getBuffer();
+            text.setLength(0);
+            try {
+                TextFormat.writeFormat(format.contentType(), familyWriter,
+                        Collections.enumeration(List.of(family)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (format == Format.OPENMETRICS_100) {
+                // The writer terminates every document; the terminator is added once per scrape
+                text.setLength(text.length() - OPENMETRICS_EOF.length);
+            }
+            return text.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import com.company.testingapp.infrastructure.compression.AcceptEncoding;
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache.Format;
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache.Scrape;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Answers GET and HEAD on the Prometheus scrape endpoint from a {@link PrometheusScrapeCache}.
+ *
+ * <p>Actuator endpoints cannot set response headers, so the cached gzip form could not be
+ * served through the endpoint itself; this filter is registered on the endpoint's path only
+ * when the endpoint is exposed. It negotiates OpenMetrics 1.0.0 or text 0.0.4 from
+ * {@code Accept} the way Prometheus servers ask for them, honours the endpoint's
+ * {@code includedNames} parameter and serves the gzip form when it is accepted.</p>
+ */
+public class PrometheusScrapeFilter extends OncePerRequestFilter {
+
+    private static final MediaType OPENMETRICS = MediaType.parseMediaType("application/openmetrics-text");
+
+    private final PrometheusScrapeCache cache;
+
+    public PrometheusScrapeFilter(PrometheusScrapeCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException {
+        Scrape scrape = cache.scrape(negotiate(request.getHeader(HttpHeaders.ACCEPT)), includedNames(request));
+        response.setContentType(scrape.contentType());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = scrape.identity();
+        if (AcceptEncoding.accepts(request, "gzip")) {
+            body = scrape.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * OpenMetrics when the client ranks it at least as high as plain text, text 0.0.4 otherwise.
+     */
+    static Format negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Format.TEXT_004;
+        }
+        double openMetrics = 0;
+        double text = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                double quality = type.getQualityValue();
+                if (OPENMETRICS.equalsTypeAndSubtype(type)) {
+                    openMetrics = Math.max(openMetrics, quality);
+                } else if (type.isCompatibleWith(MediaType.TEXT_PLAIN)) {
+                    text = Math.max(text, quality);
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return Format.TEXT_004;
+        }
+        return openMetrics > 0 && openMetrics >= text ? Format.OPENMETRICS_100 : Format.TEXT_004;
+    }
+
+    private static Set<String> includedNames(HttpServletRequest request) {
+        String[] values = request.getParameterValues("includedNames");
+        if (values == null) {
+            return null;
+        }
+        Set<String> names = new HashSet<>();
+        for (String value : values) {
+            for (String name : value.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the cached Prometheus scrape.
+ * Bound from the {@code app.metrics.prometheus.scrape-cache} prefix.
+ */
+@ConfigurationProperties(prefix = "app.metrics.prometheus.scrape-cache")
+public class ScrapeCacheProperties {
+
+    /**
+     * Whether /actuator/prometheus is served from the incremental scrape cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Scrapes arriving within this window of an encoding are served from it instead of
+     * collecting again. Keep it well below the scrape interval.
+     */
+    private Duration window = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.testingapp.infrastructure.openapi;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds {@link OpenApiDocumentProperties}; {@link PrecomputedOpenApiController} is only
+ * registered when {@code app.openapi.precomputed} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(OpenApiDocumentProperties.class)
+public class OpenApiDocumentConfig {
+}
@@ -0,0 +1,37 @@
+package com.company.testingapp.infrastructure.openapi;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for serving the checked-in OpenAPI document instead of letting
+ * springdoc scan controllers at runtime. Bound from the {@code app.openapi} prefix.
+ */
+@ConfigurationProperties(prefix = "app.openapi")
+public class OpenApiDocumentProperties {
+
+    /**
+     * Whether the precomputed document is served. Turn springdoc's api-docs off when enabling this.
+     */
+    private boolean precomputed = false;
+
+    /**
+     * Location of the document; the build copies {@code docs/api/openapi.yml} onto the classpath.
+     */
+    private String location = "classpath:openapi/openapi.yml";
+
+    public boolean isPrecomputed() {
+        return precomputed;
+    }
+
+    public void setPrecomputed(boolean precomputed) {
+        this.precomputed = precomputed;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+}
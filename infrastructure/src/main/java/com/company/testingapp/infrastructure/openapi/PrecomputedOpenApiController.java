@@ -0,0 +1,60 @@
+package com.company.testingapp.infrastructure.openapi;
+
+import com.company.testingapp.infrastructure.compression.CompressedPayload;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serves the OpenAPI document from memory.
+ * The YAML document is parsed once at startup and kept as JSON and YAML bytes, each
+ * with a strong ETag and a pre-compressed gzip copy, so a request costs a header
+ * comparison and a single write.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "app.openapi", name = "precomputed")
+public class PrecomputedOpenApiController {
+
+    private static final String OPENAPI_YAML = "application/vnd.oai.openapi";
+
+    private final CompressedPayload json;
+    private final CompressedPayload yaml;
+
+    @Autowired
+    public PrecomputedOpenApiController(OpenApiDocumentProperties properties, ResourceLoader resourceLoader)
+            throws IOException {
+        this(resourceLoader.getResource(properties.getLocation()));
+    }
+
+    PrecomputedOpenApiController(Resource document) throws IOException {
+        byte[] source;
+        try (InputStream in = document.getInputStream()) {
+            source = in.readAllBytes();
+        }
+        JsonNode tree = new ObjectMapper(new YAMLFactory()).readTree(source);
+        this.json = CompressedPayload.of(MediaType.APPLICATION_JSON_VALUE, new ObjectMapper().writeValueAsBytes(tree), 0);
+        this.yaml = CompressedPayload.of(OPENAPI_YAML, source, 0);
+    }
+
+    @GetMapping({"${springdoc.api-docs.path:/v3/api-docs}", "${springdoc.api-docs.path:/v3/api-docs}.json"})
+    public void json(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        json.writeTo(request, response);
+    }
+
+    @GetMapping("${springdoc.api-docs.path:/v3/api-docs}.yaml")
+    public void yaml(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        yaml.writeTo(request, response);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.testingapp.infrastructure.probe;
+
+import com.company.testingapp.domain.service.HealthService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the Unix domain socket probe listener. Off unless
+ * {@code app.probes.unix-socket.enabled=true}. Its background refresh polls the
+ * undecorated health service, so it is not recorded as health check traffic.
+ */
+@Configuration
+@EnableConfigurationProperties(UnixSocketProbeProperties.class)
+@ConditionalOnProperty(prefix = "app.probes.unix-socket", name = "enabled")
+public class UnixSocketProbeConfig {
+
+    @Bean
+    public UnixSocketProbeServer unixSocketProbeServer(@Qualifier("healthServiceImpl") HealthService healthService,
+                                                       ApplicationAvailability availability,
+                                                       UnixSocketProbeProperties properties,
+                                                       ServerProperties serverProperties,
+                                                       WebEndpointProperties endpoints) {
+        String contextPath = serverProperties.getServlet().getContextPath();
+        return new UnixSocketProbeServer(healthService, availability, properties,
+                contextPath == null ? "" : contextPath, endpoints.getBasePath());
+    }
+}
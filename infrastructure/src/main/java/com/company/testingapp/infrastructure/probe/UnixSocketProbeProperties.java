@@ -0,0 +1,69 @@
+package com.company.testingapp.infrastructure.probe;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the Unix domain socket probe listener.
+ * Bound from the {@code app.probes.unix-socket} prefix.
+ */
+@ConfigurationProperties(prefix = "app.probes.unix-socket")
+public class UnixSocketProbeProperties {
+
+    /**
+     * Whether health, readiness and liveness probes are also answered on a Unix domain socket.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Socket file; a stale socket left by a previous process is replaced. Share its
+     * directory with the prober, e.g. through an emptyDir volume.
+     */
+    private Path path = Path.of("run/probe.sock");
+
+    /**
+     * POSIX permissions set on the socket file, which decide who may connect.
+     */
+    private String permissions = "rw-rw----";
+
+    /**
+     * How often HealthService results are refreshed in the background; probes are answered
+     * from the last results. Readiness and liveness state changes, such as the start of a
+     * drain, are seen immediately regardless.
+     */
+    private Duration cacheTtl = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public void setPath(Path path) {
+        this.path = path;
+    }
+
+    public String getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(String permissions) {
+        this.permissions = permissions;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+}
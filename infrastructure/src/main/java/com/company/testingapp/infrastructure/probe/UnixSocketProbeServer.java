@@ -0,0 +1,479 @@
+package com.company.testingapp.infrastructure.probe;
+
+import com.company.testingapp.domain.dto.HealthRecord;
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.service.HealthService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Answers health, readiness and liveness probes over HTTP/1.1 on a Unix domain socket,
+ * from a single event-loop thread outside Tomcat's worker pool.
+ *
+ * <p>The probe paths are the ones served over TCP ({@code /api/v1/healthcheck},
+ * {@code /api/actuator/health/readiness} and {@code .../liveness}), so a prober switches
+ * by adding {@code curl --unix-socket}. Readiness and liveness combine the application's
+ * availability state, read on every probe so that a drain shows at once, with the
+ * {@link HealthService} checks. Those checks and the encoded health check body are
+ * refreshed every {@code cache-ttl} on a separate thread, so a slow check never stalls the
+ * event loop; the loop only reads their last results. Every other response is encoded up
+ * front, so a probe costs a read, a byte comparison and a write. Connections are kept alive
+ * unless the client asks to close them or speaks HTTP/1.0.</p>
+ */
+public class UnixSocketProbeServer implements SmartLifecycle, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnixSocketProbeServer.class);
+
+    private static final int MAX_REQUEST_BYTES = 4096;
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+    private static final byte[] GET = "GET".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEAD = "HEAD".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HTTP_1_0 = "HTTP/1.0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CONNECTION_CLOSE = "connection: close".getBytes(StandardCharsets.US_ASCII);
+    private static final String ACTUATOR_JSON = "application/vnd.spring-boot.actuator.v3+json";
+
+    private static final Response UP = Response.of(200, "OK", ACTUATOR_JSON, "{\"status\":\"UP\"}");
+    private static final Response OUT_OF_SERVICE =
+            Response.of(503, "Service Unavailable", ACTUATOR_JSON, "{\"status\":\"OUT_OF_SERVICE\"}");
+    private static final Response DOWN = Response.of(503, "Service Unavailable", ACTUATOR_JSON, "{\"status\":\"DOWN\"}");
+    private static final Response HEALTH_FAILED =
+            Response.of(503, "Service Unavailable", "application/json", "{\"status\":\"DOWN\"}");
+    private static final Response NOT_FOUND = Response.of(404, "Not Found", null, "");
+    private static final Response METHOD_NOT_ALLOWED = Response.of(405, "Method Not Allowed", null, "");
+    private static final Response BAD_REQUEST = Response.closing(400, "Bad Request");
+    private static final Response TOO_LARGE = Response.closing(431, "Request Header Fields Too Large");
+
+    private final HealthService healthService;
+    private final ApplicationAvailability availability;
+    private final Path path;
+    private final String permissions;
+    private final byte[][] routes = new byte[Probe.values().length][];
+    private final LongAdder[] served = new LongAdder[Probe.values().length];
+    private final long refreshMillis;
+
+    // Written by the refresher, read by the event loop
+    private volatile Response health = HEALTH_FAILED;
+    private volatile boolean ready;
+    private volatile boolean alive;
+
+    private volatile ScheduledExecutorService refresher;
+    private volatile Thread loop;
+    private volatile Selector selector;
+    private ServerSocketChannel server;
+
+    /**
+     * @param contextPath      the servlet context path, e.g. {@code /api}
+     * @param actuatorBasePath the actuator base path within it, e.g. {@code /actuator}
+     */
+    public UnixSocketProbeServer(HealthService healthService, ApplicationAvailability availability,
+                                 UnixSocketProbeProperties properties, String contextPath, String actuatorBasePath) {
+        this.healthService = healthService;
+        this.availability = availability;
+        this.path = properties.getPath().toAbsolutePath();
+        this.permissions = properties.getPermissions();
+        this.refreshMillis = Math.max(1, properties.getCacheTtl().toMillis());
+        routes[Probe.HEALTH.ordinal()] = ascii(contextPath + "/v1/healthcheck");
+        routes[Probe.READINESS.ordinal()] = ascii(contextPath + actuatorBasePath + "/health/readiness");
+        routes[Probe.LIVENESS.ordinal()] = ascii(contextPath + actuatorBasePath + "/health/liveness");
+        for (int i = 0; i < served.length; i++) {
+            served[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(path.getParent());
+            if (Files.exists(path) && (Files.isRegularFile(path) || Files.isDirectory(path))) {
+                throw new IOException(path + " exists and is not a socket");
+            }
+            // A socket file left behind by a previous process makes bind fail
+            Files.deleteIfExists(path);
+            ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            channel.bind(UnixDomainSocketAddress.of(path));
+            channel.configureBlocking(false);
+            restrictPermissions();
+            Selector opened = Selector.open();
+            channel.register(opened, SelectionKey.OP_ACCEPT);
+            server = channel;
+            selector = opened;
+        } catch (IOException e) {
+            logger.warn("Cannot listen for probes on unix socket {}, probes are only served over TCP", path, e);
+            return;
+        }
+        refresh();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "probe-uds-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        refresher = scheduler;
+        Thread thread = new Thread(this::eventLoop, "probe-uds-loop");
+        thread.setDaemon(true);
+        loop = thread;
+        thread.start();
+        logger.info("Answering health probes on unix socket {}", path);
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = loop;
+        loop = null;
+        if (thread == null) {
+            return;
+        }
+        refresher.shutdownNow();
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Failed to close probe socket {}", path, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loop != null;
+    }
+
+    /**
+     * Starts before and stops after the web server, so the socket keeps reporting
+     * readiness as refused for the whole drain.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Probe probe : Probe.values()) {
+            FunctionCounter.builder("probe.uds.requests", served[probe.ordinal()], LongAdder::sum)
+                    .description("Requests answered on the unix domain socket probe listener")
+                    .tag("probe", probe.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private void eventLoop() {
+        Selector current = selector;
+        while (loop == Thread.currentThread()) {
+            try {
+                current.select();
+            } catch (IOException | ClosedSelectorException e) {
+                break;
+            }
+            Iterator<SelectionKey> keys = current.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                try {
+                    if (key.isAcceptable()) {
+                        accept(current);
+                    } else if (key.isReadable()) {
+                        read(key);
+                    } else if (key.isWritable()) {
+                        if (flush(key)) {
+                            respond(key);
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    logger.debug("Closing probe connection", e);
+                    close(key);
+                }
+            }
+        }
+    }
+
+    private void accept(Selector current) throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel != null) {
+            channel.configureBlocking(false);
+            channel.register(current, SelectionKey.OP_READ, new Connection());
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        if (((SocketChannel) key.channel()).read(connection.in) < 0) {
+            close(key);
+            return;
+        }
+        respond(key);
+    }
+
+    /**
+     * Answers every complete request in the input buffer, stopping when a response
+     * could not be written in full.
+     */
+    private void respond(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        while (key.isValid() && connection.out == null) {
+            ByteBuffer in = connection.in;
+            int end = indexOf(in.array(), 0, in.position(), HEADER_END);
+            if (end < 0) {
+                if (!in.hasRemaining()) {
+                    send(key, connection, TOO_LARGE, false, true);
+                }
+                return;
+            }
+            end += HEADER_END.length;
+            Request request = parse(in.array(), end);
+            in.flip().position(end);
+            in.compact();
+            send(key, connection, request.response, request.head, request.close);
+        }
+    }
+
+    private void send(SelectionKey key, Connection connection, Response response, boolean head, boolean close)
+            throws IOException {
+        connection.out = response.buffer(head);
+        connection.close = close || response.close;
+        flush(key);
+    }
+
+    /**
+     * @return true when the pending response was written in full and the connection stays open
+     */
+    private boolean flush(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ((SocketChannel) key.channel()).write(connection.out);
+        if (connection.out.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_WRITE);
+            return false;
+        }
+        connection.out = null;
+        if (connection.close) {
+            close(key);
+            return false;
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        return true;
+    }
+
+    private Request parse(byte[] bytes, int end) {
+        int lineEnd = indexOf(bytes, 0, end, HEADER_END, 2);
+        int firstSpace = indexOf(bytes, 0, lineEnd, (byte) ' ');
+        int secondSpace = firstSpace < 0 ? -1 : indexOf(bytes, firstSpace + 1, lineEnd, (byte) ' ');
+        if (secondSpace < 0) {
+            return new Request(BAD_REQUEST, false, true);
+        }
+        boolean close = Arrays.equals(bytes, secondSpace + 1, lineEnd, HTTP_1_0, 0, HTTP_1_0.length)
+                || indexOfIgnoreCase(bytes, lineEnd, end, CONNECTION_CLOSE) >= 0;
+        int targetEnd = indexOf(bytes, firstSpace + 1, secondSpace, (byte) '?');
+        Probe probe = probe(bytes, firstSpace + 1, targetEnd < 0 ? secondSpace : targetEnd);
+        served[probe.ordinal()].increment();
+        boolean head = Arrays.equals(bytes, 0, firstSpace, HEAD, 0, HEAD.length);
+        if (probe == Probe.OTHER) {
+            return new Request(NOT_FOUND, head, close);
+        }
+        if (!head && !Arrays.equals(bytes, 0, firstSpace, GET, 0, GET.length)) {
+            return new Request(METHOD_NOT_ALLOWED, false, close);
+        }
+        return new Request(answer(probe), head, close);
+    }
+
+    private Response answer(Probe probe) {
+        return switch (probe) {
+            case HEALTH -> health;
+            case READINESS -> availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC && ready
+                    ? UP : OUT_OF_SERVICE;
+            case LIVENESS -> availability.getLivenessState() == LivenessState.CORRECT && alive
+                    ? UP : DOWN;
+            case OTHER -> NOT_FOUND;
+        };
+    }
+
+    private Probe probe(byte[] bytes, int from, int to) {
+        for (Probe probe : Probe.values()) {
+            byte[] route = routes[probe.ordinal()];
+            if (route != null && Arrays.equals(bytes, from, to, route, 0, route.length)) {
+                return probe;
+            }
+        }
+        return Probe.OTHER;
+    }
+
+    /**
+     * Runs the {@link HealthService} checks; on the refresher thread once started.
+     */
+    private void refresh() {
+        health = healthCheck();
+        ready = check("readiness", healthService::isApplicationReady);
+        alive = check("liveness", healthService::isApplicationAlive);
+    }
+
+    private Response healthCheck() {
+        try {
+            byte[] body = HealthRecordJsonWriter.toBytes(HealthRecord.from(healthService.getHealthStatus()));
+            return Response.of(200, "OK", "application/json", body);
+        } catch (RuntimeException e) {
+            logger.warn("Health check for a unix socket probe failed", e);
+            return HEALTH_FAILED;
+        }
+    }
+
+    private static boolean check(String name, BooleanSupplier check) {
+        try {
+            return check.getAsBoolean();
+        } catch (RuntimeException e) {
+            logger.warn("The {} check for a unix socket probe failed", name, e);
+            return false;
+        }
+    }
+
+    private void restrictPermissions() {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString(permissions));
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.warn("Cannot set permissions {} on probe socket {}", permissions, path, e);
+        }
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.debug("Failed to close probe connection", e);
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte target) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] target) {
+        return indexOf(bytes, from, to, target, target.length);
+    }
+
+    /**
+     * Finds the first {@code length} bytes of {@code target}.
+     */
+    private static int indexOf(byte[] bytes, int from, int to, byte[] target, int length) {
+        for (int i = from; i <= to - length; i++) {
+            if (Arrays.equals(bytes, i, i + length, target, 0, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(byte[] bytes, int from, int to, byte[] lowerCaseTarget) {
+        outer:
+        for (int i = from; i <= to - lowerCaseTarget.length; i++) {
+            for (int j = 0; j < lowerCaseTarget.length; j++) {
+                int b = bytes[i + j];
+                if ((b >= 'A' && b <= 'Z' ? b + 32 : b) != lowerCaseTarget[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private enum Probe {
+        HEALTH, READINESS, LIVENESS, OTHER
+    }
+
+    private record Request(Response response, boolean head, boolean close) {
+    }
+
+    /**
+     * A complete encoded HTTP response; HEAD requests get the headers only.
+     */
+    private record Response(byte[] bytes, int headerLength, boolean close) {
+
+        static Response of(int status, String reason, String contentType, String body) {
+            return of(status, reason, contentType, body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response of(int status, String reason, String contentType, byte[] body) {
+            return encode(status, reason, contentType, body, false);
+        }
+
+        static Response closing(int status, String reason) {
+            return encode(status, reason, null, new byte[0], true);
+        }
+
+        private static Response encode(int status, String reason, String contentType, byte[] body, boolean close) {
+            StringBuilder header = new StringBuilder(128)
+                    .append("HTTP/1.1 ").append(status).append(' ').append(reason).append("\r\n");
+            if (contentType != null) {
+                header.append("Content-Type: ").append(contentType).append("\r\n");
+            }
+            header.append("Content-Length: ").append(body.length).append("\r\n");
+            if (close) {
+                header.append("Connection: close\r\n");
+            }
+            byte[] head = header.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] bytes = Arrays.copyOf(head, head.length + body.length);
+            System.arraycopy(body, 0, bytes, head.length, body.length);
+            return new Response(bytes, head.length, close);
+        }
+
+        ByteBuffer buffer(boolean head) {
+            return ByteBuffer.wrap(bytes, 0, head ? headerLength : bytes.length);
+        }
+    }
+
+    private static final class Connection {
+
+        final ByteBuffer in = ByteBuffer.allocate(MAX_REQUEST_BYTES);
+        ByteBuffer out;
+        boolean close;
+    }
+}
@@ -0,0 +1,205 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a low-overhead JFR recording running for the lifetime of the application.
+ *
+ * <p>JFR itself maintains the rolling on-disk window (bounded by {@code maxAge} and
+ * {@code maxSize}); this class adds snapshots of that window to a known directory and a
+ * summary of the hottest methods and allocation sites found in a snapshot. Events that
+ * record the process environment are disabled, and only the newest snapshots are kept.</p>
+ */
+public class ContinuousProfiler implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContinuousProfiler.class);
+    private static final DateTimeFormatter SNAPSHOT_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-[0-9-]+\\.jfr");
+
+    private final ProfilingProperties properties;
+    private volatile Recording recording;
+
+    public ContinuousProfiler(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Summary of a recording: sample counts per top frame.
+     */
+    public record Summary(String snapshot, long executionSamples, List<Hotspot> hotMethods,
+                          long allocationSamples, List<Hotspot> allocationSites,
+                          Map<String, Long> requestsByRoute) {
+    }
+
+    /**
+     * A method and how much of the sampled cost it accounts for.
+     * For allocation sites {@code weight} is the sampled allocation weight in bytes.
+     */
+    public record Hotspot(String method, long samples, long weight) {
+    }
+
+    @Override
+    public void start() {
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            started.setName("testing-app-continuous");
+            started.setToDisk(true);
+            started.setMaxAge(properties.getMaxAge());
+            started.setMaxSize(properties.getMaxSize().toBytes());
+            started.enable(RequestEvent.class);
+            started.enable(HealthCheckEvent.class);
+            properties.getDisabledEvents().forEach(started::disable);
+            started.start();
+            recording = started;
+            logger.info("Continuous JFR recording started with '{}' settings (max age {}, max size {})",
+                    properties.getSettings(), properties.getMaxAge(), properties.getMaxSize());
+        } catch (IOException | ParseException | IllegalStateException e) {
+            logger.warn("Continuous JFR recording could not be started: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        Recording running = recording;
+        recording = null;
+        if (running != null) {
+            running.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        Recording running = recording;
+        return running != null && running.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * Dumps the current rolling window to a new snapshot file and deletes the oldest
+     * snapshots beyond {@code maxSnapshots}.
+     *
+     * @return path of the snapshot
+     */
+    public Path snapshot() throws IOException {
+        Recording running = recording;
+        if (running == null) {
+            throw new IllegalStateException("Continuous recording is not running");
+        }
+        Files.createDirectories(properties.getSnapshotDirectory());
+        Path target = properties.getSnapshotDirectory()
+                .resolve("snapshot-" + LocalDateTime.now().format(SNAPSHOT_FORMATTER) + ".jfr");
+        running.dump(target);
+        List<String> snapshots = listSnapshots();
+        int keep = Math.max(1, properties.getMaxSnapshots());
+        for (int i = keep; i < snapshots.size(); i++) {
+            Files.deleteIfExists(properties.getSnapshotDirectory().resolve(snapshots.get(i)));
+        }
+        return target;
+    }
+
+    /**
+     * @return names of the snapshots on disk, newest first
+     */
+    public List<String> listSnapshots() throws IOException {
+        if (!Files.isDirectory(properties.getSnapshotDirectory())) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(properties.getSnapshotDirectory())) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> SNAPSHOT_NAME.matcher(name).matches())
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        }
+    }
+
+    /**
+     * Resolves a snapshot by name, rejecting anything that is not a snapshot file name.
+     */
+    public Path resolveSnapshot(String name) {
+        if (name == null || !SNAPSHOT_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid snapshot name: " + name);
+        }
+        Path path = properties.getSnapshotDirectory().resolve(name);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    /**
+     * Aggregates execution and allocation samples of a snapshot by their top frame.
+     */
+    public Summary summarize(Path snapshot) throws IOException {
+        Map<String, long[]> cpu = new HashMap<>();
+        Map<String, long[]> allocation = new HashMap<>();
+        Map<String, Long> requests = new HashMap<>();
+        long executionSamples = 0;
+        long allocationSamples = 0;
+        try (RecordingFile file = new RecordingFile(snapshot)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> {
+                        executionSamples++;
+                        accumulate(cpu, topFrame(event), 1);
+                    }
+                    case "jdk.ObjectAllocationSample" -> {
+                        allocationSamples++;
+                        accumulate(allocation, topFrame(event), event.getLong("weight"));
+                    }
+                    case "com.company.testingapp.Request" -> requests.merge(event.getString("route"), 1L, Long::sum);
+                    default -> {
+                    }
+                }
+            }
+        }
+        return new Summary(snapshot.getFileName().toString(),
+                executionSamples, top(cpu, Comparator.comparingLong((Hotspot h) -> h.samples())),
+                allocationSamples, top(allocation, Comparator.comparingLong((Hotspot h) -> h.weight())),
+                requests);
+    }
+
+    private static void accumulate(Map<String, long[]> totals, String frame, long weight) {
+        if (frame == null) {
+            return;
+        }
+        long[] counters = totals.computeIfAbsent(frame, key -> new long[2]);
+        counters[0]++;
+        counters[1] += weight;
+    }
+
+    private List<Hotspot> top(Map<String, long[]> totals, Comparator<Hotspot> order) {
+        return totals.entrySet().stream()
+                .map(entry -> new Hotspot(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(order.reversed())
+                .limit(properties.getSummaryLimit())
+                .toList();
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return null;
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a single {@code HealthService} check.
+ */
+@Name("com.company.testingapp.HealthCheck")
+@Label("Health Check")
+@Category({"Testing App", "Health"})
+@Description("Time spent computing a health status")
+@StackTrace(false)
+public class HealthCheckEvent extends Event {
+
+    @Label("Check")
+    public String check;
+
+    @Label("Result")
+    public String result;
+}
@@ -0,0 +1,26 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the continuous JFR recording and its actuator endpoint.
+ * Disable with {@code app.profiling.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+@ConditionalOnProperty(prefix = "app.profiling", name = "enabled", matchIfMissing = true)
+public class ProfilingConfig {
+
+    @Bean
+    public ContinuousProfiler continuousProfiler(ProfilingProperties properties) {
+        return new ContinuousProfiler(properties);
+    }
+
+    @Bean
+    public ProfilingEndpoint profilingEndpoint(ContinuousProfiler profiler) {
+        return new ProfilingEndpoint(profiler);
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the continuous JFR recording at {@code /actuator/profiling}.
+ * <ul>
+ *   <li>{@code GET} lists snapshots</li>
+ *   <li>{@code POST} dumps a new snapshot of the rolling window</li>
+ *   <li>{@code GET /{name}} downloads a snapshot as a .jfr file</li>
+ *   <li>{@code GET /{name}/summary} summarizes hot methods and allocation sites</li>
+ * </ul>
+ */
+@Endpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private final ContinuousProfiler profiler;
+
+    public ProfilingEndpoint(ContinuousProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> snapshots() throws IOException {
+        return Map.of("recording", profiler.isRunning(), "snapshots", profiler.listSnapshots());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> snapshot() throws IOException {
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        Path snapshot = profiler.snapshot();
+        return new WebEndpointResponse<>(Map.of(
+                "snapshot", snapshot.getFileName().toString(),
+                "size", Files.size(snapshot)));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) {
+        Path snapshot = resolve(name);
+        if (snapshot == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(snapshot));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<ContinuousProfiler.Summary> summary(@Selector String name,
+                                                                   @Selector String summary) throws IOException {
+        if (!"summary".equals(summary)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path snapshot = resolve(name);
+        if (snapshot == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(profiler.summarize(snapshot));
+    }
+
+    @Nullable
+    private Path resolve(String name) {
+        try {
+            return profiler.resolveSnapshot(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
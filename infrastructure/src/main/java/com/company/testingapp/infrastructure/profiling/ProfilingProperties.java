@@ -0,0 +1,125 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the continuous JFR recording.
+ * Bound from the {@code app.profiling} prefix.
+ */
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    /**
+     * Whether the continuous recording is started with the application.
+     */
+    private boolean enabled = true;
+
+    /**
+     * JFR settings to use: "default" (about 1% overhead) or "profile".
+     */
+    private String settings = "default";
+
+    /**
+     * How much history the on-disk rolling window keeps.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * Upper bound for the on-disk rolling window.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * JFR events left out of the recording whatever the settings enable. The defaults
+     * record the process environment, system properties and JVM arguments, which carry
+     * secrets such as keystore passwords into every downloaded snapshot.
+     */
+    private List<String> disabledEvents = new ArrayList<>(List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation"));
+
+    /**
+     * Where snapshots are written.
+     */
+    private Path snapshotDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "testing-app-jfr");
+
+    /**
+     * Number of snapshots kept on disk; the oldest are deleted when a new one is taken.
+     */
+    private int maxSnapshots = 10;
+
+    /**
+     * Number of entries in the hot method and allocation site summaries.
+     */
+    private int summaryLimit = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public List<String> getDisabledEvents() {
+        return disabledEvents;
+    }
+
+    public void setDisabledEvents(List<String> disabledEvents) {
+        this.disabledEvents = disabledEvents;
+    }
+
+    public Path getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    public void setSnapshotDirectory(Path snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    public int getMaxSnapshots() {
+        return maxSnapshots;
+    }
+
+    public void setMaxSnapshots(int maxSnapshots) {
+        this.maxSnapshots = maxSnapshots;
+    }
+
+    public int getSummaryLimit() {
+        return summaryLimit;
+    }
+
+    public void setSummaryLimit(int summaryLimit) {
+        this.summaryLimit = summaryLimit;
+    }
+}
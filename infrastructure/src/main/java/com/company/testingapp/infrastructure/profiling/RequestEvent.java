@@ -0,0 +1,33 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event committed by the request interceptor for every handled request.
+ */
+@Name("com.company.testingapp.Request")
+@Label("HTTP Request")
+@Category({"Testing App", "HTTP"})
+@Description("A request handled by the MVC dispatcher")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Request Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long requestDuration;
+}
@@ -0,0 +1,41 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Pushes runtime log levels into the logging system. When a logger is dropped from the
+ * runtime configuration, the level it had before its first override is restored.
+ */
+public class LogLevelApplier implements BiConsumer<RuntimeConfig, RuntimeConfig> {
+
+    private final LoggingSystem loggingSystem;
+    private final Map<String, LogLevel> originalLevels = new HashMap<>();
+
+    public LogLevelApplier(LoggingSystem loggingSystem) {
+        this.loggingSystem = loggingSystem;
+    }
+
+    @Override
+    public void accept(RuntimeConfig previous, RuntimeConfig next) {
+        for (String logger : previous.logLevels().keySet()) {
+            if (!next.logLevels().containsKey(logger)) {
+                loggingSystem.setLogLevel(logger, originalLevels.remove(logger));
+            }
+        }
+        next.logLevels().forEach((logger, level) -> {
+            if (!originalLevels.containsKey(logger)) {
+                LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(logger);
+                originalLevels.put(logger, configuration != null ? configuration.getConfiguredLevel() : null);
+            }
+            if (level != previous.logLevels().get(logger)) {
+                loggingSystem.setLogLevel(logger, level);
+            }
+        });
+    }
+}
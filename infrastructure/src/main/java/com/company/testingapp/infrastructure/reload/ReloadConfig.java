@@ -0,0 +1,43 @@
+package com.company.testingapp.infrastructure.reload;
+
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import com.company.testingapp.infrastructure.tracing.TracingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the runtime configuration: the snapshot store and the components it drives,
+ * the file watcher (disable with {@code app.runtime-config.enabled=false}) and the
+ * actuator endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(RuntimeConfigProperties.class)
+public class ReloadConfig {
+
+    @Bean
+    public RuntimeConfigStore runtimeConfigStore(RuntimeConfigProperties properties, LoggingSystem loggingSystem,
+                                                 Tracer tracer, TracingProperties tracingProperties) {
+        RuntimeConfigStore store = new RuntimeConfigStore(properties.getHistorySize());
+        store.addListener(new LogLevelApplier(loggingSystem));
+        double configuredRate = tracingProperties.isEnabled() ? tracingProperties.getSampleRate() : 0.0;
+        store.addListener((previous, next) -> tracer.setSampleRate(
+                next.tracingSampleRate() != null ? next.tracingSampleRate() : configuredRate));
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.runtime-config", name = "enabled", matchIfMissing = true)
+    public RuntimeConfigWatcher runtimeConfigWatcher(RuntimeConfigStore store, RuntimeConfigProperties properties) {
+        return new RuntimeConfigWatcher(store, properties);
+    }
+
+    @Bean
+    public RuntimeConfigEndpoint runtimeConfigEndpoint(RuntimeConfigStore store,
+                                                       ObjectProvider<RuntimeConfigWatcher> watcher) {
+        return new RuntimeConfigEndpoint(store, watcher.getIfAvailable());
+    }
+}
@@ -0,0 +1,151 @@
+package com.company.testingapp.infrastructure.reload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Validated content of the runtime configuration file. Every setting is optional; an
+ * absent setting leaves the value from {@code application.yml} in effect.
+ *
+ * <pre>
+ * log-levels:
+ *   com.company.testingapp: DEBUG
+ * cors:
+ *   allowed-origins: [https://console.example.com, https://*.example.org]
+ * tracing:
+ *   sample-rate: 0.05
+ * </pre>
+ */
+public record RuntimeConfig(Map<String, LogLevel> logLevels, List<String> corsAllowedOrigins,
+                            @Nullable Double tracingSampleRate) {
+
+    private static final ObjectMapper YAML = new ObjectMapper(new YAMLFactory());
+
+    public static final RuntimeConfig EMPTY = new RuntimeConfig(Map.of(), List.of(), null);
+
+    public RuntimeConfig {
+        logLevels = Collections.unmodifiableMap(new TreeMap<>(logLevels));
+        corsAllowedOrigins = List.copyOf(corsAllowedOrigins);
+    }
+
+    /**
+     * Parses and validates a runtime configuration document. Unknown keys are rejected so
+     * a typo fails loudly instead of being silently ignored.
+     *
+     * @throws IllegalArgumentException when the document is malformed or a value is invalid
+     */
+    public static RuntimeConfig parse(InputStream in) throws IOException {
+        byte[] content = in.readAllBytes();
+        Document document;
+        try {
+            document = new String(content, StandardCharsets.UTF_8).isBlank()
+                    ? null : YAML.readValue(content, Document.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+        if (document == null) {
+            return EMPTY;
+        }
+
+        Map<String, LogLevel> levels = new TreeMap<>();
+        if (document.logLevels() != null) {
+            document.logLevels().forEach((logger, level) -> levels.put(logger, logLevel(logger, level)));
+        }
+        List<String> origins = document.cors() != null && document.cors().allowedOrigins() != null
+                ? document.cors().allowedOrigins() : List.of();
+        origins.forEach(RuntimeConfig::validateOrigin);
+        Double sampleRate = document.tracing() != null ? document.tracing().sampleRate() : null;
+        if (sampleRate != null && (sampleRate < 0 || sampleRate > 1)) {
+            throw new IllegalArgumentException("tracing.sample-rate must be between 0 and 1: " + sampleRate);
+        }
+        return new RuntimeConfig(levels, origins, sampleRate);
+    }
+
+    /**
+     * Describes what changed compared to {@code previous}, one entry per setting.
+     */
+    public List<String> changesSince(RuntimeConfig previous) {
+        List<String> changes = new ArrayList<>();
+        TreeSet<String> loggers = new TreeSet<>(previous.logLevels.keySet());
+        loggers.addAll(logLevels.keySet());
+        for (String logger : loggers) {
+            LogLevel before = previous.logLevels.get(logger);
+            LogLevel after = logLevels.get(logger);
+            if (before != after) {
+                changes.add("log-levels." + logger + ": " + display(before) + " -> " + display(after));
+            }
+        }
+        if (!previous.corsAllowedOrigins.equals(corsAllowedOrigins)) {
+            changes.add("cors.allowed-origins: " + previous.corsAllowedOrigins + " -> " + corsAllowedOrigins);
+        }
+        if (!Objects.equals(previous.tracingSampleRate, tracingSampleRate)) {
+            changes.add("tracing.sample-rate: " + display(previous.tracingSampleRate) + " -> " + display(tracingSampleRate));
+        }
+        return changes;
+    }
+
+    private static LogLevel logLevel(String logger, String level) {
+        if (logger == null || logger.isBlank() || level == null) {
+            throw new IllegalArgumentException("log-levels entries need a logger name and a level");
+        }
+        try {
+            return LogLevel.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown log level for " + logger + ": " + level);
+        }
+    }
+
+    /**
+     * Accepts {@code *}, or {@code scheme://host[:port]} where the host may contain
+     * {@code *} wildcards, matching Spring's allowed origin patterns.
+     */
+    private static void validateOrigin(String origin) {
+        if ("*".equals(origin)) {
+            return;
+        }
+        try {
+            URI uri = new URI(origin == null ? "" : origin.replace("*", "wildcard"));
+            boolean web = "http".equals(uri.getScheme()) || "https".equals(uri.getScheme());
+            boolean bare = uri.getRawPath() == null || uri.getRawPath().isEmpty();
+            if (web && uri.getHost() != null && bare && uri.getRawQuery() == null && uri.getRawFragment() == null) {
+                return;
+            }
+        } catch (URISyntaxException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("cors.allowed-origins entries must look like https://host[:port]: " + origin);
+    }
+
+    private static String display(@Nullable Object value) {
+        return value == null ? "(default)" : value.toString();
+    }
+
+    private record Document(@JsonProperty("log-levels") Map<String, String> logLevels,
+                            @JsonProperty("cors") Cors cors,
+                            @JsonProperty("tracing") Tracing tracing) {
+    }
+
+    private record Cors(@JsonProperty("allowed-origins") List<String> allowedOrigins) {
+    }
+
+    private record Tracing(@JsonProperty("sample-rate") Double sampleRate) {
+    }
+}
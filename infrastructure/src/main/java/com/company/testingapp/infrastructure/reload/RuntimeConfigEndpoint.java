@@ -0,0 +1,47 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the runtime configuration at {@code /actuator/runtimeconfig}.
+ * <ul>
+ *   <li>{@code GET} shows the current version and settings and the change history</li>
+ *   <li>{@code POST} re-reads the file without waiting for a change event</li>
+ * </ul>
+ */
+@Endpoint(id = "runtimeconfig")
+public class RuntimeConfigEndpoint {
+
+    private final RuntimeConfigStore store;
+    @Nullable
+    private final RuntimeConfigWatcher watcher;
+
+    public RuntimeConfigEndpoint(RuntimeConfigStore store, @Nullable RuntimeConfigWatcher watcher) {
+        this.store = store;
+        this.watcher = watcher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> runtimeConfig() {
+        RuntimeConfigSnapshot snapshot = store.current();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshot.version());
+        body.put("appliedAt", snapshot.appliedAt());
+        body.put("source", snapshot.source());
+        body.put("config", snapshot.config());
+        body.put("watching", watcher != null && watcher.isRunning());
+        body.put("history", store.history());
+        return body;
+    }
+
+    @WriteOperation
+    public RuntimeConfigSnapshot reload() {
+        return watcher != null ? watcher.reload() : store.current();
+    }
+}
@@ -0,0 +1,70 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Configuration for the hot-reloadable runtime configuration file.
+ * Bound from the {@code app.runtime-config} prefix.
+ */
+@ConfigurationProperties(prefix = "app.runtime-config")
+public class RuntimeConfigProperties {
+
+    /**
+     * Whether the runtime configuration file is loaded and watched for changes.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The watched YAML file. Its directory is created on start; the file itself may be
+     * created, changed and deleted at any time. Defaults to a file under
+     * {@code java.io.tmpdir} so runs from a checkout do not write into the working tree.
+     */
+    private Path file = Paths.get(System.getProperty("java.io.tmpdir"), "testing-app", "runtime.yml");
+
+    /**
+     * Quiet period after a change event before the file is read, so editors that write
+     * in several steps produce one reload.
+     */
+    private Duration debounce = Duration.ofMillis(250);
+
+    /**
+     * Number of applied and rejected changes kept for the actuator endpoint.
+     */
+    private int historySize = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+}
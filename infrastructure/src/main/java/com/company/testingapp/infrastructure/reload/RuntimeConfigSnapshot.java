@@ -0,0 +1,13 @@
+package com.company.testingapp.infrastructure.reload;
+
+import java.time.Instant;
+
+/**
+ * An applied runtime configuration. Immutable; a change publishes a new snapshot.
+ *
+ * @param version   increases by one with every applied change, 0 before the first
+ * @param appliedAt when the snapshot was published
+ * @param source    what produced it, e.g. the file that was read
+ */
+public record RuntimeConfigSnapshot(long version, Instant appliedAt, String source, RuntimeConfig config) {
+}
@@ -0,0 +1,113 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Holds the current {@link RuntimeConfigSnapshot}.
+ *
+ * <p>Readers on the request path call {@link #current()}, a single volatile load of an
+ * immutable snapshot, and never see a partially applied change. Changes are applied by
+ * one writer at a time: the new snapshot is published first, then listeners are told so
+ * they can push settings into components that keep their own copy (log levels, the
+ * tracer's sample rate). Applied and rejected changes are kept in a bounded history.</p>
+ */
+public class RuntimeConfigStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeConfigStore.class);
+
+    private final Clock clock;
+    private final int historySize;
+    private final Deque<Change> history = new ArrayDeque<>();
+    private final List<BiConsumer<RuntimeConfig, RuntimeConfig>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile RuntimeConfigSnapshot current;
+
+    public RuntimeConfigStore(int historySize) {
+        this(historySize, Clock.systemUTC());
+    }
+
+    RuntimeConfigStore(int historySize, Clock clock) {
+        this.clock = clock;
+        this.historySize = Math.max(1, historySize);
+        this.current = new RuntimeConfigSnapshot(0, clock.instant(), "application.yml", RuntimeConfig.EMPTY);
+    }
+
+    public RuntimeConfigSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Registers a listener called with the previous and the new configuration after each
+     * applied change.
+     */
+    public void addListener(BiConsumer<RuntimeConfig, RuntimeConfig> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Publishes {@code config} as a new snapshot unless it equals the current one.
+     *
+     * @return the current snapshot after the call
+     */
+    public synchronized RuntimeConfigSnapshot apply(RuntimeConfig config, String source) {
+        RuntimeConfigSnapshot previous = current;
+        List<String> changes = config.changesSince(previous.config());
+        if (changes.isEmpty()) {
+            return previous;
+        }
+        RuntimeConfigSnapshot next = new RuntimeConfigSnapshot(previous.version() + 1, clock.instant(), source, config);
+        current = next;
+        for (BiConsumer<RuntimeConfig, RuntimeConfig> listener : listeners) {
+            try {
+                listener.accept(previous.config(), config);
+            } catch (RuntimeException e) {
+                logger.error("Runtime configuration listener failed for version {}", next.version(), e);
+            }
+        }
+        record(new Change(next.version(), next.appliedAt(), source, true, changes, null));
+        logger.info("Applied runtime configuration version {} from {}: {}", next.version(), source, changes);
+        return next;
+    }
+
+    /**
+     * Records a change that failed validation; the current snapshot stays in effect.
+     */
+    public synchronized void reject(String source, String reason) {
+        record(new Change(current.version(), clock.instant(), source, false, List.of(), reason));
+        logger.warn("Rejected runtime configuration from {}, keeping version {}: {}", source, current.version(), reason);
+    }
+
+    /**
+     * @return applied and rejected changes, newest first
+     */
+    public synchronized List<Change> history() {
+        return new ArrayList<>(history);
+    }
+
+    private void record(Change change) {
+        history.addFirst(change);
+        while (history.size() > historySize) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * One entry in the change history.
+     *
+     * @param version the version published, or the version kept in effect when rejected
+     * @param changes what changed, one entry per setting
+     * @param error   why the change was rejected, null when applied
+     */
+    public record Change(long version, Instant at, String source, boolean applied, List<String> changes, String error) {
+    }
+}
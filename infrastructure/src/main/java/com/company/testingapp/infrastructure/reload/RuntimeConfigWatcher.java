@@ -0,0 +1,142 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the runtime configuration file at startup and reloads it whenever it changes,
+ * using an NIO {@link WatchService} on its directory. A missing file means "no runtime
+ * overrides"; an invalid file is rejected and the previous snapshot stays in effect.
+ *
+ * <p>Starts in an early lifecycle phase so the file is applied before the web server
+ * accepts requests.</p>
+ */
+public class RuntimeConfigWatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeConfigWatcher.class);
+
+    private final RuntimeConfigStore store;
+    private final Path file;
+    private final Duration debounce;
+
+    private volatile WatchService watchService;
+    private volatile Thread thread;
+
+    public RuntimeConfigWatcher(RuntimeConfigStore store, RuntimeConfigProperties properties) {
+        this.store = store;
+        this.file = properties.getFile().toAbsolutePath().normalize();
+        this.debounce = properties.getDebounce();
+    }
+
+    @Override
+    public void start() {
+        reload();
+        Path directory = file.getParent();
+        try {
+            Files.createDirectories(directory);
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watchService = service;
+        } catch (IOException e) {
+            logger.warn("Cannot watch {} for runtime configuration changes", directory, e);
+            return;
+        }
+        Thread watcher = new Thread(this::watchLoop, "runtime-config-watcher");
+        watcher.setDaemon(true);
+        thread = watcher;
+        watcher.start();
+    }
+
+    @Override
+    public void stop() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close runtime configuration watch service", e);
+            }
+        }
+        Thread watcher = thread;
+        thread = null;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Reads the file and applies it, or records why it was rejected.
+     */
+    public RuntimeConfigSnapshot reload() {
+        String source = file.toString();
+        try (InputStream in = Files.newInputStream(file)) {
+            return store.apply(RuntimeConfig.parse(in), source);
+        } catch (NoSuchFileException e) {
+            return store.apply(RuntimeConfig.EMPTY, source + " (absent)");
+        } catch (IllegalArgumentException | IOException e) {
+            store.reject(source, e.getMessage());
+            return store.current();
+        }
+    }
+
+    private void watchLoop() {
+        WatchService service = watchService;
+        try {
+            while (service != null) {
+                WatchKey key = service.take();
+                boolean relevant = concernsFile(key);
+                if (relevant) {
+                    // Let a burst of writes from an editor settle, then drop the events it caused
+                    TimeUnit.NANOSECONDS.sleep(debounce.toNanos());
+                    concernsFile(key);
+                }
+                boolean valid = key.reset();
+                if (relevant) {
+                    reload();
+                }
+                if (!valid) {
+                    logger.warn("Runtime configuration directory {} is no longer watched", file.getParent());
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private boolean concernsFile(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                relevant = true;
+            }
+        }
+        return relevant;
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.testingapp.infrastructure.reload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+/**
+ * CORS configuration whose allowed origins come from the runtime configuration.
+ *
+ * <p>The template supplies methods, headers, credentials and max age; a new
+ * {@link CorsConfiguration} is built once per applied change, so a request only reads
+ * one volatile field. Applies to every path. With no origins configured it returns
+ * {@code null}, i.e. no cross-origin access.</p>
+ */
+public class RuntimeCorsConfigurationSource implements CorsConfigurationSource {
+
+    private final CorsConfiguration template;
+    private volatile CorsConfiguration current;
+
+    public RuntimeCorsConfigurationSource(RuntimeConfigStore store, CorsConfiguration template) {
+        this.template = template;
+        this.current = build(store.current().config());
+        store.addListener((previous, next) -> current = build(next));
+    }
+
+    @Override
+    @Nullable
+    public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
+        return current;
+    }
+
+    @Nullable
+    private CorsConfiguration build(RuntimeConfig config) {
+        if (config.corsAllowedOrigins().isEmpty()) {
+            return null;
+        }
+        CorsConfiguration configuration = new CorsConfiguration(template);
+        configuration.setAllowedOriginPatterns(config.corsAllowedOrigins());
+        return configuration;
+    }
+}
@@ -0,0 +1,155 @@
+package com.company.testingapp.infrastructure.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+import org.springframework.web.servlet.handler.AbstractUrlHandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceResolver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a {@link RouteTrie} from every route the application context can serve:
+ * request mappings (controllers and actuator endpoints), URL handler mappings, and
+ * servlets other than the dispatcher.
+ *
+ * <p>Resource handlers mapped below a prefix ({@code /webjars/**}) keep their pattern.
+ * The catch-all {@code /**} static resource handler would make every path look routable,
+ * so the files in its locations are listed instead; it is only kept as a catch-all when it
+ * resolves resources through anything but the plain path resolver. A handler mapping the
+ * trie cannot see through (functional routes, a default handler, an unknown type) makes
+ * {@link #collect} give up and return null.</p>
+ */
+final class RegisteredRoutes {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegisteredRoutes.class);
+    private static final String CATCH_ALL = "/**";
+
+    private final RouteTrie.Builder routes = RouteTrie.builder();
+    private final PathMatchingResourcePatternResolver resolver;
+
+    private RegisteredRoutes(ApplicationContext context) {
+        this.resolver = new PathMatchingResourcePatternResolver(context);
+    }
+
+    /**
+     * @return the routes, or null when some handler mapping cannot be enumerated
+     */
+    static RouteTrie collect(ApplicationContext context, List<String> passthrough) {
+        RegisteredRoutes registered = new RegisteredRoutes(context);
+        passthrough.forEach(registered.routes::add);
+        Map<String, HandlerMapping> mappings =
+                BeanFactoryUtils.beansOfTypeIncludingAncestors(context, HandlerMapping.class, true, false);
+        for (Map.Entry<String, HandlerMapping> entry : mappings.entrySet()) {
+            if (!registered.add(entry.getValue())) {
+                logger.info("Handler mapping '{}' ({}) cannot be enumerated, unknown routes are left to Spring MVC",
+                        entry.getKey(), entry.getValue().getClass().getName());
+                return null;
+            }
+        }
+        for (ServletRegistrationBean<?> servlet : context.getBeansOfType(ServletRegistrationBean.class).values()) {
+            for (String mapping : servlet.getUrlMappings()) {
+                if (mapping.startsWith("*.")) {
+                    registered.routes.add(CATCH_ALL);
+                } else if (!mapping.equals("/")) {
+                    registered.routes.add(mapping.endsWith("/*") ? mapping + "*" : mapping);
+                }
+            }
+        }
+        return registered.routes.build();
+    }
+
+    private boolean add(HandlerMapping mapping) {
+        if (mapping instanceof AbstractHandlerMapping handlerMapping && handlerMapping.getDefaultHandler() != null) {
+            return false;
+        }
+        if (mapping instanceof RequestMappingInfoHandlerMapping infoMapping) {
+            boolean trailingSlash = infoMapping instanceof RequestMappingHandlerMapping annotated
+                    && annotated.useTrailingSlashMatch();
+            for (RequestMappingInfo info : infoMapping.getHandlerMethods().keySet()) {
+                addPatterns(info.getPatternValues(), trailingSlash);
+            }
+            return true;
+        }
+        if (mapping instanceof AbstractUrlHandlerMapping urlMapping) {
+            if (urlMapping.getRootHandler() != null) {
+                routes.add("/");
+            }
+            for (Map.Entry<String, Object> entry : urlMapping.getHandlerMap().entrySet()) {
+                String pattern = entry.getKey().startsWith("/") ? entry.getKey() : "/" + entry.getKey();
+                if (pattern.equals(CATCH_ALL) && entry.getValue() instanceof ResourceHttpRequestHandler resources) {
+                    addResources(resources);
+                } else {
+                    addPatterns(Set.of(pattern), urlMapping.useTrailingSlashMatch());
+                }
+            }
+            return true;
+        }
+        return mapping instanceof RouterFunctionMapping functional && functional.getRouterFunction() == null;
+    }
+
+    private void addPatterns(Set<String> patterns, boolean trailingSlash) {
+        if (patterns.isEmpty()) {
+            // A mapping without a path matches every path
+            routes.add(CATCH_ALL);
+        }
+        for (String pattern : patterns) {
+            routes.add(pattern);
+            if (trailingSlash && !pattern.endsWith("/")) {
+                routes.add(pattern + "/");
+            }
+        }
+    }
+
+    private void addResources(ResourceHttpRequestHandler handler) {
+        for (ResourceResolver resolver : handler.getResourceResolvers()) {
+            if (!(resolver instanceof PathResourceResolver)) {
+                routes.add(CATCH_ALL);
+                return;
+            }
+        }
+        try {
+            for (Resource location : handler.getLocations()) {
+                for (Resource root : roots(location)) {
+                    String base = root.getURL().toString();
+                    for (Resource file : resolver.getResources(base + "**")) {
+                        String path = file.getURL().toString().substring(base.length());
+                        if (!path.isEmpty() && !path.endsWith("/") && file.isReadable()) {
+                            routes.add("/" + path);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Static resource locations could not be listed, every path is left to Spring MVC", e);
+            routes.add(CATCH_ALL);
+        }
+    }
+
+    /**
+     * A class path location can be present in several jars and directories.
+     */
+    private Resource[] roots(Resource location) throws IOException {
+        if (location instanceof ClassPathResource classPath) {
+            return resolver.getResources(PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                    + classPath.getPath());
+        }
+        return location.exists() ? new Resource[]{location} : new Resource[0];
+    }
+}
@@ -0,0 +1,230 @@
+package com.company.testingapp.infrastructure.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable segment trie over Spring MVC path patterns, answering whether a request path
+ * could match any of them.
+ *
+ * <p>Literal segments are matched exactly. A segment holding variables or wildcards is
+ * matched as a glob in which every variable, whatever its regular expression, becomes
+ * {@code *} ({@code {name}.json} as {@code *.json}), and {@code **} or {@code {*path}}
+ * match the rest of the path, including nothing. The trie therefore over-approximates the
+ * patterns it was built from, never the other way round: a path it rejects cannot be
+ * matched by any of them. Matching does not allocate.</p>
+ */
+public final class RouteTrie {
+
+    private final Node root;
+    private final int patterns;
+
+    private RouteTrie(Node root, int patterns) {
+        this.root = root;
+        this.patterns = patterns;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param path a path within the application, starting with {@code /}
+     */
+    public boolean matches(String path) {
+        return match(root, path, 1);
+    }
+
+    public int patternCount() {
+        return patterns;
+    }
+
+    /**
+     * @param start index of the segment to match, or -1 once every segment is consumed
+     */
+    private static boolean match(Node node, String path, int start) {
+        if (node.catchAll) {
+            return true;
+        }
+        if (start < 0) {
+            return node.terminal;
+        }
+        int slash = path.indexOf('/', start);
+        int end = slash < 0 ? path.length() : slash;
+        int next = slash < 0 ? -1 : slash + 1;
+        Node literal = node.literal(path, start, end);
+        if (literal != null && match(literal, path, next)) {
+            return true;
+        }
+        for (int i = 0; i < node.globs.length; i++) {
+            if (glob(node.globs[i], path, start, end) && match(node.wildcards[i], path, next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches {@code path[start, end)} against a glob of literal characters, {@code ?} and {@code *}.
+     */
+    static boolean glob(String glob, String path, int start, int end) {
+        int g = 0;
+        int p = start;
+        int star = -1;
+        int starMatch = start;
+        while (p < end) {
+            char c = g < glob.length() ? glob.charAt(g) : 0;
+            if (c == '*') {
+                star = g++;
+                starMatch = p;
+            } else if (g < glob.length() && (c == '?' || c == path.charAt(p))) {
+                g++;
+                p++;
+            } else if (star >= 0) {
+                g = star + 1;
+                p = ++starMatch;
+            } else {
+                return false;
+            }
+        }
+        while (g < glob.length() && glob.charAt(g) == '*') {
+            g++;
+        }
+        return g == glob.length();
+    }
+
+    private static final class Node {
+
+        private final String[] names;
+        private final Node[] literals;
+        private final String[] globs;
+        private final Node[] wildcards;
+        private final boolean catchAll;
+        private final boolean terminal;
+
+        Node(String[] names, Node[] literals, String[] globs, Node[] wildcards, boolean catchAll, boolean terminal) {
+            this.names = names;
+            this.literals = literals;
+            this.globs = globs;
+            this.wildcards = wildcards;
+            this.catchAll = catchAll;
+            this.terminal = terminal;
+        }
+
+        Node literal(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(start, name, 0, length)) {
+                    return literals[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final class Builder {
+
+        private final MutableNode root = new MutableNode();
+        private int patterns;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a path pattern in {@code PathPattern} or {@code AntPathMatcher} syntax; a
+         * missing leading slash is assumed.
+         */
+        public Builder add(String pattern) {
+            MutableNode node = root;
+            for (String segment : segments(pattern)) {
+                if (segment.equals("**") || segment.startsWith("{*")) {
+                    node.catchAll = true;
+                    patterns++;
+                    return this;
+                }
+                Map<String, MutableNode> children = wildcard(segment) ? node.wildcards : node.literals;
+                node = children.computeIfAbsent(wildcard(segment) ? glob(segment) : segment,
+                        key -> new MutableNode());
+            }
+            node.terminal = true;
+            patterns++;
+            return this;
+        }
+
+        public RouteTrie build() {
+            return new RouteTrie(root.freeze(), patterns);
+        }
+
+        private static boolean wildcard(String segment) {
+            return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+        }
+
+        /**
+         * Replaces every variable with {@code *}, keeping the literal parts and wildcards.
+         */
+        static String glob(String segment) {
+            StringBuilder glob = new StringBuilder(segment.length());
+            int depth = 0;
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    if (depth++ == 0) {
+                        glob.append('*');
+                    }
+                } else if (c == '}') {
+                    depth = Math.max(0, depth - 1);
+                } else if (depth == 0) {
+                    glob.append(c);
+                }
+            }
+            return glob.toString();
+        }
+
+        /**
+         * Splits on slashes outside of braces, so regular expressions in variables stay whole.
+         */
+        static List<String> segments(String pattern) {
+            List<String> segments = new ArrayList<>();
+            int start = pattern.startsWith("/") ? 1 : 0;
+            int depth = 0;
+            for (int i = start; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth = Math.max(0, depth - 1);
+                } else if (c == '/' && depth == 0) {
+                    segments.add(pattern.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            segments.add(pattern.substring(start));
+            return segments;
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<String, MutableNode> literals = new TreeMap<>();
+        private final Map<String, MutableNode> wildcards = new TreeMap<>();
+        private boolean catchAll;
+        private boolean terminal;
+
+        Node freeze() {
+            String[] names = literals.keySet().toArray(String[]::new);
+            String[] globs = wildcards.keySet().toArray(String[]::new);
+            return new Node(names, freeze(literals, names), globs, freeze(wildcards, globs), catchAll, terminal);
+        }
+
+        private static Node[] freeze(Map<String, MutableNode> children, String[] keys) {
+            Node[] frozen = new Node[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                frozen[i] = children.get(keys[i]).freeze();
+            }
+            return frozen;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.testingapp.infrastructure.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the filter that rejects unregistered paths before Spring MVC.
+ */
+@Configuration
+@EnableConfigurationProperties(UnknownRouteProperties.class)
+@ConditionalOnProperty(prefix = "app.unknown-routes", name = "enabled", matchIfMissing = true)
+public class UnknownRouteConfig {
+
+    /**
+     * A bean of its own so it receives the context refresh that builds the route trie.
+     */
+    @Bean
+    public UnknownRouteFilter unknownRouteFilter(ApplicationContext context, UnknownRouteProperties properties,
+                                                 MeterRegistry registry) {
+        return new UnknownRouteFilter(context, properties, registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<UnknownRouteFilter> unknownRouteFilterRegistration(UnknownRouteFilter filter) {
+        FilterRegistrationBean<UnknownRouteFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // Right behind the observation filter, so rejected requests still show up in http.server.requests
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.testingapp.infrastructure.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Answers requests for paths that match no registered route with the same empty 404
+ * {@code GlobalExceptionHandler} returns for {@code NoResourceFoundException}, without
+ * running the dispatcher, handler lookup, resource resolution and exception resolvers.
+ *
+ * <p>The {@link RouteTrie} is built from the handler mappings once the context is
+ * refreshed; until then, and when the mappings cannot be enumerated, every request is
+ * passed on. Paths the trie cannot judge without decoding or normalizing them (percent
+ * escapes, path parameters, empty or dot segments) are passed on as well, so the filter
+ * only ever rejects what Spring MVC would reject.</p>
+ */
+public class UnknownRouteFilter extends OncePerRequestFilter implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnknownRouteFilter.class);
+
+    private final ApplicationContext context;
+    private final List<String> passthrough;
+    private final Counter rejected;
+
+    private volatile RouteTrie routes;
+
+    public UnknownRouteFilter(ApplicationContext context, UnknownRouteProperties properties, MeterRegistry registry) {
+        this.context = context;
+        this.passthrough = List.copyOf(properties.getPassthrough());
+        this.rejected = Counter.builder("http.server.requests.unrouted")
+                .description("Requests answered 404 by the route trie before reaching Spring MVC")
+                .register(registry);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+        RouteTrie collected = RegisteredRoutes.collect(context, passthrough);
+        if (collected != null) {
+            logger.info("Unknown routes are rejected before Spring MVC, {} route patterns registered",
+                    collected.patternCount());
+        }
+        routes = collected;
+    }
+
+    /**
+     * Pre-flights are left to the CORS filter, which answers them for any path.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return CorsUtils.isPreFlightRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RouteTrie current = routes;
+        String path = pathWithinApplication(request);
+        if (current == null || path == null || current.matches(path)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        rejected.increment();
+        response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        response.setContentLength(0);
+    }
+
+    /**
+     * @return the raw path after the context path, or null when it needs decoding or
+     * normalization before it can be compared with route patterns
+     */
+    static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int start = request.getContextPath().length();
+        if (uri.length() <= start || uri.charAt(start) != '/') {
+            return null;
+        }
+        for (int i = start; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == '%' || c == ';') {
+                return null;
+            }
+            if (c == '/' && i + 1 < uri.length() && (uri.charAt(i + 1) == '/' || dotSegment(uri, i + 1))) {
+                return null;
+            }
+        }
+        return uri.substring(start);
+    }
+
+    private static boolean dotSegment(String uri, int start) {
+        int end = uri.indexOf('/', start);
+        int length = (end < 0 ? uri.length() : end) - start;
+        return (length == 1 && uri.charAt(start) == '.') || (length == 2 && uri.startsWith("..", start));
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.testingapp.infrastructure.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for answering requests to unregistered paths before Spring MVC.
+ * Bound from the {@code app.unknown-routes} prefix.
+ */
+@ConfigurationProperties(prefix = "app.unknown-routes")
+public class UnknownRouteProperties {
+
+    /**
+     * Whether paths matching no registered route get a 404 from the route trie filter.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path patterns (relative to the context path) always passed on to Spring MVC, for
+     * routes served by something the handler mappings do not list.
+     */
+    private List<String> passthrough = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPassthrough() {
+        return passthrough;
+    }
+
+    public void setPassthrough(List<String> passthrough) {
+        this.passthrough = passthrough;
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.testingapp.infrastructure.serialization;
+
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.dto.HealthResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link HealthResponse} limited to some of its properties, selected by a mask of
+ * {@code HealthRecordJsonWriter.FIELD_*} bits. {@link HealthJsonHttpMessageConverter} writes
+ * it with the generated writer, which skips unselected properties while encoding; no full
+ * document is built and then filtered.
+ */
+public record HealthFieldset(HealthResponse response, int fields) {
+
+    /**
+     * What {@code Prefer: return=minimal} sends: the status alone.
+     */
+    public static final int MINIMAL = HealthRecordJsonWriter.FIELD_STATUS;
+
+    /**
+     * Bound on the parsed {@code fields} values kept, since they come from clients.
+     */
+    private static final int MAX_CACHED_MASKS = 256;
+    private static final Map<String, Integer> MASKS = new ConcurrentHashMap<>();
+
+    /**
+     * Parses a comma-separated list of property names, as sent in the {@code fields} query
+     * parameter, into a field mask. Callers send the same few lists over and over, so the
+     * masks are cached by their text.
+     *
+     * @throws IllegalArgumentException if a name is not a {@link HealthResponse} property,
+     *                                  or the list names none
+     */
+    public static int parse(String fields) {
+        Integer cached = MASKS.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int field = HealthRecordJsonWriter.fieldMask(trimmed);
+            if (field == 0) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "' in fields");
+            }
+            mask |= field;
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("fields must name at least one property");
+        }
+        if (MASKS.size() < MAX_CACHED_MASKS) {
+            MASKS.putIfAbsent(fields, mask);
+        }
+        return mask;
+    }
+
+    /**
+     * Whether a {@code Prefer} header (RFC 7240) asks for {@code return=minimal}.
+     */
+    public static boolean prefersMinimal(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            int parameters = preference.indexOf(';');
+            String token = (parameters >= 0 ? preference.substring(0, parameters) : preference).trim();
+            if (token.equalsIgnoreCase("return=minimal")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.testingapp.infrastructure.serialization;
+
+import com.company.testingapp.domain.dto.HealthRecord;
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link HealthResponse} and {@link HealthRecord} bodies with the compile-time
+ * generated {@link HealthRecordJsonWriter} instead of Jackson. The output is byte-identical
+ * to the application's Jackson configuration; reading is left to Jackson.
+ * {@link HealthFieldset} bodies are written with only their selected properties.
+ */
+public class HealthJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final Tracer tracer;
+
+    public HealthJsonHttpMessageConverter(Tracer tracer) {
+        super(MediaType.APPLICATION_JSON);
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return HealthResponse.class == clazz || HealthRecord.class == clazz || HealthFieldset.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Health payloads are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        try (Tracer.SpanScope ignored = tracer.span("serialization")) {
+            switch (body) {
+                case HealthResponse response -> HealthRecordJsonWriter.writeTo(HealthRecord.from(response),
+                        outputMessage.getBody());
+                case HealthFieldset fieldset -> HealthRecordJsonWriter.writeTo(HealthRecord.from(fieldset.response()),
+                        fieldset.fields(), outputMessage.getBody());
+                default -> HealthRecordJsonWriter.writeTo((HealthRecord) body, outputMessage.getBody());
+            }
+        }
+    }
+}
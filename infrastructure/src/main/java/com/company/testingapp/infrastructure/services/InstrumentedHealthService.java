@@ -0,0 +1,129 @@
+package com.company.testingapp.infrastructure.services;
+
+import com.company.testingapp.domain.concurrent.SingleFlight;
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.domain.service.HealthService;
+import com.company.testingapp.infrastructure.history.HealthCheck;
+import com.company.testingapp.infrastructure.history.HealthHistoryStore;
+import com.company.testingapp.infrastructure.history.HealthState;
+import com.company.testingapp.infrastructure.lifecycle.DrainCoordinator;
+import com.company.testingapp.infrastructure.profiling.HealthCheckEvent;
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Decorator around {@link HealthServiceImpl} that adds cross-cutting instrumentation.
+ * Marked {@link Primary} so controllers receive the decorated service. The delegate is
+ * injected by name and interface so it can itself be wrapped, e.g. by fault injection.
+ * Reports not-ready once the application has started draining. Concurrent detailed
+ * checks are coalesced into one computation, e.g. when a burst of probes arrives right
+ * after a restart. Every outcome and its latency is appended to the health history
+ * when it is enabled.
+ */
+@Service
+@Primary
+public class InstrumentedHealthService implements HealthService, MeterBinder {
+
+    private static final String DETAILED = "getDetailedHealthStatus";
+
+    private final HealthService delegate;
+    private final Tracer tracer;
+    private final DrainCoordinator drainCoordinator;
+    private final HealthHistoryStore history;
+    private final SingleFlight<String, HealthResponse> detailedChecks = new SingleFlight<>();
+
+    public InstrumentedHealthService(@Qualifier("healthServiceImpl") HealthService delegate, Tracer tracer,
+                                     DrainCoordinator drainCoordinator, ObjectProvider<HealthHistoryStore> history) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+        this.drainCoordinator = drainCoordinator;
+        this.history = history.getIfAvailable();
+    }
+
+    @Override
+    public HealthResponse getHealthStatus() {
+        HealthCheckEvent event = new HealthCheckEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try (Tracer.SpanScope ignored = tracer.span("HealthService.getHealthStatus")) {
+            HealthResponse response = delegate.getHealthStatus();
+            commit(event, "getHealthStatus", response.getStatus());
+            record(HealthCheck.BASIC, HealthState.of(response.getStatus()), start);
+            return response;
+        } catch (RuntimeException e) {
+            record(HealthCheck.BASIC, HealthState.ERROR, start);
+            throw e;
+        }
+    }
+
+    @Override
+    public HealthResponse getDetailedHealthStatus() {
+        HealthCheckEvent event = new HealthCheckEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try (Tracer.SpanScope ignored = tracer.span("HealthService.getDetailedHealthStatus")) {
+            HealthResponse response = detailedChecks.execute(DETAILED, delegate::getDetailedHealthStatus);
+            commit(event, DETAILED, response.getStatus());
+            record(HealthCheck.DETAILED, HealthState.of(response.getStatus()), start);
+            return response;
+        } catch (RuntimeException e) {
+            record(HealthCheck.DETAILED, HealthState.ERROR, start);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isApplicationReady() {
+        HealthCheckEvent event = new HealthCheckEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean ready = !drainCoordinator.isDraining() && delegate.isApplicationReady();
+        commit(event, "isApplicationReady", Boolean.toString(ready));
+        record(HealthCheck.READINESS, HealthState.of(ready), start);
+        return ready;
+    }
+
+    @Override
+    public boolean isApplicationAlive() {
+        HealthCheckEvent event = new HealthCheckEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean alive = delegate.isApplicationAlive();
+        commit(event, "isApplicationAlive", Boolean.toString(alive));
+        record(HealthCheck.LIVENESS, HealthState.of(alive), start);
+        return alive;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("health.checks.executed", detailedChecks, SingleFlight::executionCount)
+                .description("Health computations actually run")
+                .tag("check", DETAILED)
+                .register(registry);
+        FunctionCounter.builder("health.checks.coalesced", detailedChecks, SingleFlight::coalescedCount)
+                .description("Health checks answered by joining a computation already in flight")
+                .tag("check", DETAILED)
+                .register(registry);
+    }
+
+    private void record(HealthCheck check, HealthState state, long startNanos) {
+        if (history != null) {
+            history.record(check, state, System.currentTimeMillis(), System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void commit(HealthCheckEvent event, String check, String result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.check = check;
+            event.result = result;
+            event.commit();
+        }
+    }
+}
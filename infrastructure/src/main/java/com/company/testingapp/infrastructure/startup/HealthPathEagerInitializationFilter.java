@@ -0,0 +1,40 @@
+package com.company.testingapp.infrastructure.startup;
+
+import com.company.testingapp.domain.service.HealthService;
+import com.company.testingapp.infrastructure.controller.HealthController;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the beans serving the health path eager when lazy initialization is on, so
+ * the first probe after startup does not pay for creating them. Additional beans can
+ * be listed by name or fully qualified type in {@code app.startup.eager-beans}.
+ */
+public class HealthPathEagerInitializationFilter implements LazyInitializationExcludeFilter {
+
+    private static final List<Class<?>> HEALTH_PATH = List.of(HealthController.class, HealthService.class);
+
+    private final Set<String> eagerBeans;
+
+    public HealthPathEagerInitializationFilter(Set<String> eagerBeans) {
+        this.eagerBeans = Set.copyOf(eagerBeans);
+    }
+
+    @Override
+    public boolean isExcluded(String beanName, BeanDefinition beanDefinition, Class<?> beanType) {
+        if (eagerBeans.contains(beanName) || (beanType != null && eagerBeans.contains(beanType.getName()))) {
+            return true;
+        }
+        if (beanType != null) {
+            for (Class<?> type : HEALTH_PATH) {
+                if (type.isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.testingapp.infrastructure.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.HashSet;
+
+/**
+ * Wires the startup report and the eager allowlist used with lazy initialization.
+ */
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    /**
+     * Static because lazy-initialization exclusions are read by a bean factory
+     * post-processor, before configuration properties can be bound to beans.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter healthPathEagerInitializationFilter(Environment environment) {
+        return new HealthPathEagerInitializationFilter(Binder.get(environment)
+                .bind("app.startup.eager-beans", Bindable.setOf(String.class))
+                .orElseGet(HashSet::new));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.startup", name = "report-enabled", matchIfMissing = true)
+    public StartupReportListener startupReportListener(StartupProperties properties) {
+        return new StartupReportListener(properties);
+    }
+}
@@ -0,0 +1,54 @@
+package com.company.testingapp.infrastructure.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the startup report and lazy-initialization allowlist.
+ * Bound from the {@code app.startup} prefix.
+ */
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    /**
+     * Whether the slowest startup steps are logged once the application is ready.
+     */
+    private boolean reportEnabled = true;
+
+    /**
+     * Number of entries listed per section of the report.
+     */
+    private int reportLimit = 10;
+
+    /**
+     * Bean names or fully qualified types created eagerly even when
+     * {@code spring.main.lazy-initialization} is on. The health path is always eager.
+     */
+    private List<String> eagerBeans = new ArrayList<>();
+
+    public boolean isReportEnabled() {
+        return reportEnabled;
+    }
+
+    public void setReportEnabled(boolean reportEnabled) {
+        this.reportEnabled = reportEnabled;
+    }
+
+    public int getReportLimit() {
+        return reportLimit;
+    }
+
+    public void setReportLimit(int reportLimit) {
+        this.reportLimit = reportLimit;
+    }
+
+    public List<String> getEagerBeans() {
+        return eagerBeans;
+    }
+
+    public void setEagerBeans(List<String> eagerBeans) {
+        this.eagerBeans = eagerBeans;
+    }
+}
@@ -0,0 +1,119 @@
+package com.company.testingapp.infrastructure.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of the slowest beans and auto-configurations recorded by a
+ * {@code BufferingApplicationStartup}.
+ *
+ * <p>Bean instantiation steps nest, so each bean is charged its self time: its own
+ * duration minus the durations of the steps started inside it. Auto-configurations
+ * are charged the self time of every bean they declare.</p>
+ *
+ * @param total              time from the start of the timeline to its last recorded step
+ * @param beans              slowest beans by self time
+ * @param autoConfigurations slowest auto-configurations by the self time of their beans
+ */
+public record StartupReport(Duration total, List<Entry> beans, List<Entry> autoConfigurations) {
+
+    static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+
+    public record Entry(String name, Duration duration) {
+    }
+
+    public static StartupReport of(StartupTimeline timeline, ConfigurableListableBeanFactory beanFactory, int limit) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Duration> childTime = new HashMap<>();
+        Duration total = Duration.ZERO;
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+            Duration sinceStart = Duration.between(timeline.getStartTime(), event.getEndTime());
+            if (sinceStart.compareTo(total) > 0) {
+                total = sinceStart;
+            }
+        }
+
+        Map<String, Duration> beans = new HashMap<>();
+        Map<String, Duration> autoConfigurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            String beanName = BEAN_INSTANTIATION_STEP.equals(step.getName()) ? tag(step, "beanName") : null;
+            if (beanName == null) {
+                continue;
+            }
+            Duration self = event.getDuration().minus(childTime.getOrDefault(step.getId(), Duration.ZERO));
+            beans.merge(beanName, self, Duration::plus);
+            String declaredBy = autoConfiguration(beanName, beanFactory);
+            if (declaredBy != null) {
+                autoConfigurations.merge(declaredBy, self, Duration::plus);
+            }
+        }
+        return new StartupReport(total, slowest(beans, limit), slowest(autoConfigurations, limit));
+    }
+
+    /**
+     * Renders the report as a multi-line log message.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder("Startup took ").append(total.toMillis()).append(" ms");
+        section(out, "Slowest beans", beans);
+        section(out, "Slowest auto-configurations", autoConfigurations);
+        return out.toString();
+    }
+
+    private static void section(StringBuilder out, String title, List<Entry> entries) {
+        out.append(System.lineSeparator()).append(title).append(':');
+        for (Entry entry : entries) {
+            out.append(System.lineSeparator())
+                    .append(String.format("%8d ms  %s", entry.duration().toMillis(), entry.name()));
+        }
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The auto-configuration class that declares {@code beanName}, the bean itself when
+     * it is an auto-configuration, or null.
+     */
+    private static String autoConfiguration(String beanName, ConfigurableListableBeanFactory beanFactory) {
+        String declaredBy = beanName;
+        if (beanFactory != null && beanFactory.containsBeanDefinition(beanName)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.getFactoryBeanName() != null) {
+                declaredBy = definition.getFactoryBeanName();
+            }
+        }
+        if (!declaredBy.contains("AutoConfiguration")) {
+            return null;
+        }
+        int nested = declaredBy.indexOf('$');
+        return nested < 0 ? declaredBy : declaredBy.substring(0, nested);
+    }
+
+    private static List<Entry> slowest(Map<String, Duration> durations, int limit) {
+        List<Entry> entries = new ArrayList<>(durations.size());
+        durations.forEach((name, duration) -> entries.add(new Entry(name, duration)));
+        entries.sort(Comparator.comparing(Entry::duration).reversed().thenComparing(Entry::name));
+        return List.copyOf(entries.subList(0, Math.min(limit, entries.size())));
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.testingapp.infrastructure.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Logs the slowest startup steps once the application is ready.
+ * Only active when the application was started with a {@link BufferingApplicationStartup}.
+ */
+public class StartupReportListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReportListener.class);
+
+    private final StartupProperties properties;
+
+    public StartupReportListener(StartupProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        if (!(context.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupReport report = StartupReport.of(
+                startup.getBufferedTimeline(), context.getBeanFactory(), properties.getReportLimit());
+        logger.info(report.format());
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sampled request: the root span plus its nested child spans.
+ * Mutated only by the thread the request runs on, which may change at an async dispatch,
+ * until {@link Tracer#endTrace(int)} hands it to the buffer.
+ */
+public class Trace {
+
+    /**
+     * A finished child span. Offsets are relative to the start of the trace.
+     *
+     * @param name       what was measured, e.g. {@code HealthService.getHealthStatus}
+     * @param depth      nesting level, 1 for direct children of the request
+     * @param offsetNanos start of the span relative to the trace start
+     * @param durationNanos span duration
+     */
+    public record Span(String name, int depth, long offsetNanos, long durationNanos) {
+    }
+
+    private final String traceId;
+    private final String method;
+    private final String route;
+    private final long startEpochMillis;
+    private final long startNanos;
+    private final List<Span> spans = new ArrayList<>(4);
+    private int depth;
+    private int status;
+    private long durationNanos;
+
+    Trace(String traceId, String method, String route) {
+        this.traceId = traceId;
+        this.method = method;
+        this.route = route;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    int enter() {
+        return ++depth;
+    }
+
+    void exit(String name, int spanDepth, long spanStartNanos) {
+        long now = System.nanoTime();
+        spans.add(new Span(name, spanDepth, spanStartNanos - startNanos, now - spanStartNanos));
+        depth = spanDepth - 1;
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of finished traces. Writers overwrite the oldest slot
+ * without locking; readers take a point-in-time copy.
+ */
+public class TraceBuffer {
+
+    private final AtomicReferenceArray<Trace> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public TraceBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Trace buffer capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(Trace trace) {
+        int index = (int) (cursor.getAndIncrement() % slots.length());
+        slots.set(index, trace);
+    }
+
+    /**
+     * @return up to {@code limit} buffered traces, slowest first
+     */
+    public List<Trace> slowest(int limit) {
+        List<Trace> traces = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Trace trace = slots.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        traces.sort(Comparator.comparingLong(Trace::getDurationNanos).reversed());
+        return traces.size() > limit ? traces.subList(0, limit) : traces;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,113 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lightweight in-process request tracer.
+ *
+ * <p>A trace is started by the request interceptor for a sampled fraction of requests and
+ * bound to the current thread. Code on the request path opens child spans with
+ * {@link #span(String)}; when the request is not sampled that call is a single null check
+ * returning a shared no-op scope.</p>
+ */
+public class Tracer {
+
+    private static final SpanScope NOOP = () -> { };
+
+    private final ThreadLocal<Trace> current = new ThreadLocal<>();
+    private final TraceBuffer buffer;
+    private volatile long sampleThreshold;
+
+    public Tracer(TracingProperties properties) {
+        this.buffer = new TraceBuffer(properties.getBufferSize());
+        setSampleRate(properties.isEnabled() ? properties.getSampleRate() : 0.0);
+    }
+
+    /**
+     * Changes the fraction of requests traced from now on, clamped to [0, 1].
+     */
+    public void setSampleRate(double sampleRate) {
+        double rate = Math.max(0.0, Math.min(1.0, sampleRate));
+        this.sampleThreshold = (long) (rate * (1L << 53));
+    }
+
+    /**
+     * Starts a trace for the current request if it is sampled. Any trace still bound to
+     * the thread is dropped either way, so an unsampled request never records into a
+     * trace an earlier request on the same thread left open.
+     *
+     * @return true if the request is being traced
+     */
+    public boolean startTrace(String traceId, String method, String route) {
+        long threshold = sampleThreshold;
+        if (threshold == 0 || (ThreadLocalRandom.current().nextLong() >>> 11) >= threshold) {
+            current.remove();
+            return false;
+        }
+        current.set(new Trace(traceId, method, route));
+        return true;
+    }
+
+    /**
+     * Unbinds the current trace from this thread, for a request that continues
+     * asynchronously on another thread.
+     *
+     * @return the trace to {@link #resume(Trace)}, or null when not tracing
+     */
+    public Trace suspend() {
+        Trace trace = current.get();
+        current.remove();
+        return trace;
+    }
+
+    /**
+     * Binds a trace returned by {@link #suspend()} to this thread; null unbinds.
+     */
+    public void resume(Trace trace) {
+        if (trace == null) {
+            current.remove();
+        } else {
+            current.set(trace);
+        }
+    }
+
+    /**
+     * Finishes the current trace, if any, and publishes it to the buffer.
+     */
+    public void endTrace(int status) {
+        Trace trace = current.get();
+        if (trace == null) {
+            return;
+        }
+        current.remove();
+        trace.finish(status);
+        buffer.add(trace);
+    }
+
+    /**
+     * Opens a child span of the current trace.
+     * Use with try-with-resources; returns a shared no-op scope when not tracing.
+     */
+    public SpanScope span(String name) {
+        Trace trace = current.get();
+        if (trace == null) {
+            return NOOP;
+        }
+        int depth = trace.enter();
+        long start = System.nanoTime();
+        return () -> trace.exit(name, depth, start);
+    }
+
+    public TraceBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Scope of an open span; closing it records the span.
+     */
+    @FunctionalInterface
+    public interface SpanScope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the slowest buffered traces at {@code /actuator/traces}.
+ */
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final Tracer tracer;
+
+    public TracesEndpoint(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * @param limit maximum number of traces to return, defaults to 10
+     */
+    @ReadOperation
+    public List<Trace> slowest(@Nullable Integer limit) {
+        return tracer.getBuffer().slowest(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the in-process tracer and its actuator endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public Tracer tracer(TracingProperties properties) {
+        return new Tracer(properties);
+    }
+
+    @Bean
+    public TracesEndpoint tracesEndpoint(Tracer tracer) {
+        return new TracesEndpoint(tracer);
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the in-process request tracer.
+ * Bound from the {@code app.tracing} prefix.
+ */
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingProperties {
+
+    /**
+     * Whether requests are traced at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fraction of requests to trace, between 0.0 and 1.0.
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Number of finished traces kept in the ring buffer.
+     */
+    private int bufferSize = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
@@ -0,0 +1,133 @@
+package com.company.testingapp.infrastructure.validation;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The validator Spring MVC uses for request bodies.
+ *
+ * <p>Whether a class has any constraints at all is looked up once and cached per class, so
+ * bodies without constraints skip Bean Validation entirely. When the context is refreshed,
+ * the constraint metadata of every {@code @RequestBody} type of the handler mappings is
+ * built up front, rather than by the first request that posts it.</p>
+ *
+ * <p>Bodies annotated with {@link FailFast} are validated by a fail-fast Hibernate
+ * Validator that shares the factory, and with it the cached metadata and message
+ * interpolation, of the regular one. Everything else, including the
+ * {@code jakarta.validation.Validator} that method validation unwraps, is delegated
+ * unchanged.</p>
+ */
+public class CachedValidator implements SmartValidator, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedValidator.class);
+
+    private final ApplicationContext context;
+    private final jakarta.validation.Validator beanValidator;
+    private final SpringValidatorAdapter validator;
+    private final SpringValidatorAdapter failFastValidator;
+    private final ClassValue<Boolean> constrained = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return beanValidator.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
+
+    public CachedValidator(ApplicationContext context, ValidatorFactory validatorFactory) {
+        this.context = context;
+        this.beanValidator = validatorFactory.getValidator();
+        this.validator = new SpringValidatorAdapter(beanValidator);
+        this.failFastValidator = new SpringValidatorAdapter(failFast(validatorFactory, beanValidator));
+    }
+
+    private static jakarta.validation.Validator failFast(ValidatorFactory validatorFactory,
+                                                         jakarta.validation.Validator fallback) {
+        try {
+            return validatorFactory.unwrap(HibernateValidatorFactory.class).usingContext().failFast(true).getValidator();
+        } catch (ValidationException ex) {
+            logger.warn("Bean Validation provider is not Hibernate Validator, @FailFast reports every violation");
+            return fallback;
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+        Set<Class<?>> bodyTypes = new HashSet<>();
+        for (RequestMappingHandlerMapping mapping : BeanFactoryUtils.beansOfTypeIncludingAncestors(
+                context, RequestMappingHandlerMapping.class, true, false).values()) {
+            for (HandlerMethod method : mapping.getHandlerMethods().values()) {
+                for (MethodParameter parameter : method.getMethodParameters()) {
+                    if (parameter.hasParameterAnnotation(RequestBody.class)) {
+                        bodyTypes.add(parameter.getParameterType());
+                    }
+                }
+            }
+        }
+        long constrainedTypes = bodyTypes.stream().filter(this::isConstrained).count();
+        logger.info("Validation metadata cached for {} request body types, {} with constraints",
+                bodyTypes.size(), constrainedTypes);
+    }
+
+    /**
+     * Whether instances of {@code type} have anything to validate; computed once per class.
+     */
+    public boolean isConstrained(Class<?> type) {
+        return constrained.get(type);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (isConstrained(target.getClass())) {
+            validator.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (!isConstrained(target.getClass())) {
+            return;
+        }
+        for (Object hint : validationHints) {
+            if (hint == FailFast.Group.class) {
+                failFastValidator.validate(target, errors, validationHints);
+                return;
+            }
+        }
+        validator.validate(target, errors, validationHints);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        validator.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return validator.unwrap(type);
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.testingapp.infrastructure.validation;
+
+import jakarta.validation.groups.Default;
+import org.springframework.validation.annotation.Validated;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates a request body like {@code @Valid}, but stops at the first constraint
+ * violation: the 400 response lists one field error, and the remaining constraints are
+ * not evaluated. Meant for endpoints where rejecting bad input cheaply matters more than
+ * reporting every problem at once.
+ *
+ * <p>Spring MVC passes {@link Group} to {@link CachedValidator} as a validation hint.
+ * The group extends {@code Default}, so the constraints of the {@code Default} group are
+ * checked, by any validator: without the {@code CachedValidator} the body is validated as
+ * with {@code @Valid}.</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Validated(FailFast.Group.class)
+public @interface FailFast {
+
+    /**
+     * Validation group that marks fail-fast validation.
+     */
+    interface Group extends Default {
+    }
+}
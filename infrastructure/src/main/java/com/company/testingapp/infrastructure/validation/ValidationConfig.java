@@ -0,0 +1,39 @@
+package com.company.testingapp.infrastructure.validation;
+
+import jakarta.validation.ValidatorFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Makes {@link CachedValidator}, built on Boot's validator factory, the validator of
+ * Spring MVC. Disable with {@code app.validation.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(ValidationProperties.class)
+@ConditionalOnProperty(prefix = "app.validation", name = "enabled", matchIfMissing = true)
+public class ValidationConfig implements WebMvcConfigurer {
+
+    private final CachedValidator validator;
+
+    public ValidationConfig(ApplicationContext context, ValidatorFactory validatorFactory) {
+        this.validator = new CachedValidator(context, validatorFactory);
+    }
+
+    /**
+     * A bean of its own so it receives the context refresh that caches the metadata.
+     */
+    @Bean
+    public CachedValidator cachedValidator() {
+        return validator;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return validator;
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.testingapp.infrastructure.validation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for request body validation.
+ * Bound from the {@code app.validation} prefix.
+ */
+@ConfigurationProperties(prefix = "app.validation")
+public class ValidationProperties {
+
+    /**
+     * Whether Spring MVC validates through the {@link CachedValidator}, which caches
+     * constraint metadata per class and honors {@link FailFast}. When disabled, Boot's
+     * validator is used and {@code @FailFast} validates like {@code @Valid}.
+     */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
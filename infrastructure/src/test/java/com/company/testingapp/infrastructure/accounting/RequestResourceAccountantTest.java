@@ -0,0 +1,116 @@
+package com.company.testingapp.infrastructure.accounting;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestResourceAccountantTest {
+
+    private static volatile byte[] sink;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRecordAllocationAndCpuPerRoute() {
+        // Given
+        RequestResourceAccountant accountant = new RequestResourceAccountant(properties(1.0), registry);
+        MockHttpServletRequest request = request("/v1/users/{id}");
+
+        // When
+        accountant.begin(request);
+        sink = new byte[1024 * 1024];
+        accountant.end(request, new MockHttpServletResponse());
+
+        // Then
+        DistributionSummary allocated = registry.get(RequestResourceAccountant.ALLOCATED)
+                .tag("uri", "/v1/users/{id}").tag("method", "GET").tag("status", "200").summary();
+        Timer cpu = registry.get(RequestResourceAccountant.CPU).tag("uri", "/v1/users/{id}").timer();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= 1024 * 1024, "allocated " + allocated.totalAmount());
+        assertEquals(1, cpu.count());
+        assertTrue(cpu.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void shouldAddUpTheThreadsThatDispatchAnAsyncRequest() throws InterruptedException {
+        // Given
+        RequestResourceAccountant accountant = new RequestResourceAccountant(properties(1.0), registry);
+        MockHttpServletRequest request = request("/v1/reports");
+        accountant.begin(request);
+        sink = new byte[256 * 1024];
+        accountant.suspend(request);
+
+        // When
+        Thread dispatcher = new Thread(() -> {
+            request.setDispatcherType(DispatcherType.ASYNC);
+            accountant.begin(request);
+            sink = new byte[512 * 1024];
+            accountant.end(request, new MockHttpServletResponse());
+        });
+        dispatcher.start();
+        dispatcher.join();
+
+        // Then
+        DistributionSummary allocated = registry.get(RequestResourceAccountant.ALLOCATED).summary();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= 768 * 1024, "allocated " + allocated.totalAmount());
+    }
+
+    @Test
+    void shouldCountRequestsOnVirtualThreadsAsUnmeasured() throws InterruptedException {
+        // Given
+        RequestResourceAccountant accountant = new RequestResourceAccountant(properties(1.0), registry);
+        MockHttpServletRequest request = request("/v1/healthcheck");
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            accountant.begin(request);
+            accountant.end(request, new MockHttpServletResponse());
+        }).join();
+
+        // Then
+        assertEquals(1, registry.get(RequestResourceAccountant.UNMEASURED).tag("reason", "virtual_thread")
+                .counter().count());
+        assertNull(registry.find(RequestResourceAccountant.ALLOCATED).summary());
+    }
+
+    @Test
+    void shouldLeaveUnsampledRequestsAlone() {
+        // Given
+        RequestResourceAccountant accountant = new RequestResourceAccountant(properties(0.0), registry);
+        MockHttpServletRequest request = request("/v1/healthcheck");
+
+        // When
+        accountant.begin(request);
+        boolean sampled = request.getAttribute(RequestResourceAccountant.class.getName() + ".segment") != null;
+        accountant.end(request, new MockHttpServletResponse());
+
+        // Then
+        assertFalse(sampled);
+        assertNull(registry.find(RequestResourceAccountant.ALLOCATED).summary());
+        assertThrows(IllegalArgumentException.class,
+                () -> new RequestResourceAccountant(properties(1.5), registry));
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api" + pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static ResourceAccountingProperties properties(double sampleRate) {
+        ResourceAccountingProperties properties = new ResourceAccountingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setPublishHistogram(false);
+        return properties;
+    }
+}
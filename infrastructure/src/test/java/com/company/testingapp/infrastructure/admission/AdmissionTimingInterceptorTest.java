@@ -0,0 +1,120 @@
+package com.company.testingapp.infrastructure.admission;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.apache.catalina.LifecycleException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionTimingInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueueTimingExecutor executor = new QueueTimingExecutor(registry.timer("tomcat.threads.queue.wait"));
+    private final AdmissionTimingInterceptor interceptor = new AdmissionTimingInterceptor(registry, false);
+
+    @BeforeEach
+    void setUp() throws LifecycleException {
+        executor.setMaxThreads(1);
+        executor.setMinSpareThreads(1);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws LifecycleException {
+        executor.stop();
+    }
+
+    @Test
+    void shouldSplitQueueWaitFromServiceTime() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        // When
+        CompletableFuture<Void> handled = new CompletableFuture<>();
+        executor.execute(() -> {
+            interceptor.preHandle(request, response, null);
+            sleepQuietly(20);
+            interceptor.afterCompletion(request, response, null, null);
+            handled.complete(null);
+        });
+        Thread.sleep(200);
+        release.countDown();
+        handled.get(5, TimeUnit.SECONDS);
+
+        // Then
+        Timer queue = registry.get(AdmissionTimingInterceptor.QUEUE_WAIT).tag("uri", "/v1/history").timer();
+        Timer service = registry.get(AdmissionTimingInterceptor.SERVICE_TIME).tag("uri", "/v1/history").timer();
+        assertEquals(1, queue.count());
+        assertEquals(1, service.count());
+        assertTrue(queue.totalTime(TimeUnit.MILLISECONDS) >= 200, "Queue wait covers the time behind the busy worker");
+        assertTrue(service.totalTime(TimeUnit.MILLISECONDS) >= 20, "Service time covers the handler");
+        assertTrue(service.totalTime(TimeUnit.MILLISECONDS) < 200, "Service time excludes the queue wait");
+    }
+
+    @Test
+    void shouldRecordAsyncRequestOnceFromFirstDispatch() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: the first dispatch starts async processing, so afterCompletion does not run on it
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        executor.execute(() -> {
+            interceptor.preHandle(request, response, null);
+            started.complete(null);
+        });
+        started.get(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        executor.execute(() -> {
+            request.setDispatcherType(DispatcherType.ASYNC);
+            interceptor.preHandle(request, response, null);
+            interceptor.afterCompletion(request, response, null, null);
+            completed.complete(null);
+        });
+        completed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        Timer queue = registry.get(AdmissionTimingInterceptor.QUEUE_WAIT).tag("uri", "/v1/history").timer();
+        Timer service = registry.get(AdmissionTimingInterceptor.SERVICE_TIME).tag("uri", "/v1/history").timer();
+        assertEquals(1, queue.count(), "Only the first dispatch waited for admission");
+        assertEquals(1, service.count(), "The async dispatch completes the same request");
+        assertTrue(service.totalTime(TimeUnit.MILLISECONDS) >= 50, "Service time starts at the first dispatch");
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/history");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/history");
+        return request;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
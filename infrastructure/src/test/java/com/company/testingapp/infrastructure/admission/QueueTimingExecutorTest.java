@@ -0,0 +1,83 @@
+package com.company.testingapp.infrastructure.admission;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.LifecycleException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueTimingExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Timer poolWait = registry.timer("tomcat.threads.queue.wait");
+    private final QueueTimingExecutor executor = new QueueTimingExecutor(poolWait);
+
+    @AfterEach
+    void tearDown() throws LifecycleException {
+        executor.stop();
+    }
+
+    @Test
+    void shouldMeasureTimeWaitingForAWorkerThread() throws Exception {
+        // Given
+        executor.setMaxThreads(1);
+        executor.setMinSpareThreads(1);
+        executor.start();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        // When
+        CompletableFuture<long[]> queued = new CompletableFuture<>();
+        executor.execute(() -> queued.complete(new long[]{
+                QueueTimingExecutor.claimCurrent(), QueueTimingExecutor.claimCurrent()}));
+        Thread.sleep(100);
+        release.countDown();
+        long[] claims = queued.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(claims[0] >= TimeUnit.MILLISECONDS.toNanos(100), "Second task should wait for the only worker");
+        assertEquals(-1, claims[1], "The wait is claimed by the first request of a task only");
+        assertEquals(2, poolWait.count());
+        assertEquals(-1, QueueTimingExecutor.claimCurrent(), "Threads outside the pool have no wait");
+    }
+
+    @Test
+    void shouldRecordServiceTimePerRouteAndGroupUnmatchedRequests() {
+        // Given
+        AdmissionTimingInterceptor interceptor = new AdmissionTimingInterceptor(registry, false);
+        MockHttpServletRequest matched = new MockHttpServletRequest("GET", "/v1/healthcheck");
+        matched.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/healthcheck");
+        MockHttpServletRequest unmatched = new MockHttpServletRequest("GET", "/v1/missing/123");
+        MockHttpServletResponse notFound = new MockHttpServletResponse();
+        notFound.setStatus(404);
+
+        // When
+        interceptor.preHandle(matched, new MockHttpServletResponse(), null);
+        interceptor.afterCompletion(matched, new MockHttpServletResponse(), null, null);
+        interceptor.preHandle(unmatched, notFound, null);
+        interceptor.afterCompletion(unmatched, notFound, null, null);
+
+        // Then
+        assertEquals(1, registry.get(AdmissionTimingInterceptor.SERVICE_TIME).tag("uri", "/v1/healthcheck").timer().count());
+        assertEquals(1, registry.get(AdmissionTimingInterceptor.SERVICE_TIME).tag("uri", "NOT_FOUND").timer().count());
+        assertEquals(0, registry.get(AdmissionTimingInterceptor.QUEUE_WAIT).tag("uri", "/v1/healthcheck").timer().count(),
+                "No queue wait outside the worker pool");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.company.testingapp.infrastructure.chaos;
+
+import com.company.testingapp.domain.service.HealthService;
+import com.company.testingapp.infrastructure.services.HealthServiceImpl;
+import com.company.testingapp.infrastructure.services.InstrumentedHealthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class FaultInjectorTest {
+
+    private final FaultInjector injector = new FaultInjector(new ChaosProperties());
+    private final FaultInjectingHealthService service = new FaultInjectingHealthService(new HealthServiceImpl(), injector);
+
+    @Test
+    void shouldDelayCallsByInjectedLatency() {
+        // Given
+        injector.inject("getHealthStatus", new FaultProfile(FaultProfile.LatencyDistribution.FIXED,
+                Duration.ofMillis(50), 0, 0));
+
+        // When
+        long start = System.nanoTime();
+        String status = service.getHealthStatus().getStatus();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals("UP", status);
+        assertTrue(elapsedMillis >= 50, "Call should be delayed by the injected latency");
+    }
+
+    @Test
+    void shouldFailResponsesAndProbesAtFullErrorRate() {
+        // Given
+        FaultProfile failing = new FaultProfile(null, null, 1, 0);
+        injector.inject("getDetailedHealthStatus", failing);
+        injector.inject("isApplicationReady", failing);
+
+        // Then
+        assertThrows(InjectedFaultException.class, service::getDetailedHealthStatus);
+        assertFalse(service.isApplicationReady());
+        assertTrue(service.isApplicationAlive());
+
+        // When
+        injector.clearAll();
+
+        // Then
+        assertEquals("UP", service.getDetailedHealthStatus().getStatus());
+        assertTrue(service.isApplicationReady());
+    }
+
+    @Test
+    void shouldFailHangsAfterHangDuration() {
+        // Given
+        ChaosProperties properties = new ChaosProperties();
+        properties.setHangDuration(Duration.ofMillis(20));
+        ChaosProperties.Fault hang = new ChaosProperties.Fault();
+        hang.setHangRate(1);
+        properties.getChecks().put("getHealthStatus", hang);
+        FaultInjector configured = new FaultInjector(properties);
+
+        // Then
+        assertTrue(configured.faults().containsKey("getHealthStatus"));
+        assertThrows(InjectedFaultException.class, () -> configured.apply("getHealthStatus"));
+    }
+
+    @Test
+    void shouldSampleLatencyAroundTheMean() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+        long mean = Duration.ofMillis(100).toNanos();
+
+        // Then
+        for (FaultProfile.LatencyDistribution distribution : FaultProfile.LatencyDistribution.values()) {
+            FaultProfile fault = new FaultProfile(distribution, Duration.ofNanos(mean), 0, 0);
+            double total = 0;
+            for (int i = 0; i < 100_000; i++) {
+                total += fault.sampleLatencyNanos(random);
+            }
+            assertEquals(mean, total / 100_000, mean * 0.02, distribution.name());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new FaultProfile(null, null, 1.5, 0));
+    }
+
+    @Test
+    void shouldWrapImplementationsButNotTheInstrumentedDecorator() {
+        // Given
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("faultInjector", injector);
+        ObjectProvider<FaultInjector> provider = beans.getBeanProvider(FaultInjector.class);
+        BeanPostProcessor postProcessor = ChaosConfig.faultInjectingHealthServicePostProcessor(provider);
+        InstrumentedHealthService instrumented = mock(InstrumentedHealthService.class);
+
+        // When
+        Object wrapped = postProcessor.postProcessAfterInitialization(new HealthServiceImpl(), "healthServiceImpl");
+
+        // Then
+        assertInstanceOf(FaultInjectingHealthService.class, wrapped);
+        assertInstanceOf(HealthService.class, wrapped);
+        assertSame(instrumented, postProcessor.postProcessAfterInitialization(instrumented, "instrumentedHealthService"));
+        assertSame(injector, postProcessor.postProcessAfterInitialization(injector, "faultInjector"));
+    }
+}
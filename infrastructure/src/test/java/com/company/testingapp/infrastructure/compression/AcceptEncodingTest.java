@@ -0,0 +1,53 @@
+package com.company.testingapp.infrastructure.compression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcceptEncodingTest {
+
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "gzip                    | true",
+            "GZIP                    | true",
+            "gzip, deflate, br       | true",
+            "br;q=1.0, gzip;q=0.5    | true",
+            "gzip; q=0.001           | true",
+            "x-gzip                  | true",
+            "*                       | true",
+            "gzip;q=0                | false",
+            "gzip; q=0               | false",
+            "gzip;q=0.0              | false",
+            "gzip;Q=0.000            | false",
+            "*;q=0                   | false",
+            "*;q=0, gzip             | true",
+            "gzip;q=0, *             | false",
+            "deflate, br             | false",
+            "identity                | false",
+            "gzip;q=abc              | false",
+            "gzipped                 | false"
+    })
+    void shouldHonourQualityValues(String header, boolean expected) {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", header);
+
+        // When & Then
+        assertEquals(expected, AcceptEncoding.accepts(request, "gzip"));
+    }
+
+    @Test
+    void shouldNotAcceptWithoutHeaderAndShouldCombineRepeatedHeaders() {
+        // Given
+        MockHttpServletRequest repeated = new MockHttpServletRequest();
+        repeated.addHeader("Accept-Encoding", "br");
+        repeated.addHeader("Accept-Encoding", "gzip;q=0.8");
+
+        // When & Then
+        assertFalse(AcceptEncoding.accepts(new MockHttpServletRequest(), "gzip"));
+        assertTrue(AcceptEncoding.accepts(repeated, "gzip"));
+    }
+}
@@ -0,0 +1,212 @@
+package com.company.testingapp.infrastructure.compression;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompressedResponseFilterTest {
+
+    private static final String BODY = "{\"openapi\":\"3.0.1\",\"paths\":{}}".repeat(100);
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private PrecompressedResponseFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PrecompressedResponseFilter(new CompressionProperties());
+    }
+
+    @Test
+    void shouldRenderOnceAndServeGzipFromCache() throws Exception {
+        // When
+        MockHttpServletResponse first = perform(request("gzip, deflate"));
+        MockHttpServletResponse second = perform(request("gzip"));
+
+        // Then
+        assertEquals(1, renders.get(), "The payload should be rendered only on first access");
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{first, second}) {
+            assertEquals(200, response.getStatus());
+            assertEquals("gzip", response.getHeader("Content-Encoding"));
+            assertEquals("application/json", response.getContentType());
+            assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+            assertTrue(response.getContentAsByteArray().length < BODY.length());
+        }
+        assertEquals(first.getHeader("ETag"), second.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldServeIdentityWhenGzipIsNotAccepted() throws Exception {
+        // When
+        perform(request("gzip"));
+        MockHttpServletResponse response = perform(request(null));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForMatchingEtag() throws Exception {
+        // Given
+        String etag = perform(request("gzip")).getHeader("ETag");
+        MockHttpServletRequest conditional = request("gzip");
+        conditional.addHeader("If-None-Match", etag);
+
+        // When
+        MockHttpServletResponse response = perform(conditional);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForWeakListedOrWildcardEtags() throws Exception {
+        // Given
+        String etag = perform(request("gzip")).getHeader("ETag");
+
+        // When & Then
+        for (String ifNoneMatch : new String[]{"\"other\", " + etag, "W/" + etag, "*"}) {
+            MockHttpServletRequest conditional = request("gzip");
+            conditional.addHeader("If-None-Match", ifNoneMatch);
+            assertEquals(304, perform(conditional).getStatus(), ifNoneMatch);
+        }
+        MockHttpServletRequest stale = request("gzip");
+        stale.addHeader("If-None-Match", "\"other\", W/\"stale\"");
+        assertEquals(200, perform(stale).getStatus());
+    }
+
+    @Test
+    void shouldReplayPayloadHeadersButNotPerRequestOnes() throws Exception {
+        // Given
+        MockHttpServletResponse first = perform(request("gzip"));
+
+        // When
+        MockHttpServletResponse second = perform(request("gzip"));
+
+        // Then
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{first, second}) {
+            assertEquals("max-age=3600, public", response.getHeader("Cache-Control"));
+            assertEquals("Thu, 01 Jan 2026 00:00:00 GMT", response.getHeader("Last-Modified"));
+        }
+        assertEquals("REQ-1", first.getHeader("X-Request-ID"));
+        assertNull(second.getHeader("X-Request-ID"));
+    }
+
+    @Test
+    void shouldIgnorePathsOutsideConfiguredPatterns() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("gzip");
+        request.setRequestURI("/api/v1/healthcheck");
+
+        // When
+        perform(request);
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertEquals(2, renders.get());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldPassQueryStringsThroughWithoutCaching() throws Exception {
+        // Given
+        for (int i = 0; i < 300; i++) {
+            MockHttpServletRequest request = request("gzip");
+            request.setQueryString("n=" + i);
+            assertNull(perform(request).getHeader("ETag"));
+        }
+
+        // When
+        perform(request("gzip"));
+        MockHttpServletResponse response = perform(request("gzip"));
+
+        // Then - the plain path is still cached after the query flood
+        assertEquals(301, renders.get());
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPayloadWhenFull() throws Exception {
+        // Given
+        CompressionProperties properties = new CompressionProperties();
+        properties.setMaxEntries(2);
+        filter = new PrecompressedResponseFilter(properties);
+        perform(request("gzip", "/api/swagger-ui/a.css"));
+        perform(request("gzip", "/api/swagger-ui/b.css"));
+        perform(request("gzip", "/api/swagger-ui/a.css"));
+
+        // When
+        perform(request("gzip", "/api/swagger-ui/c.css"));
+        perform(request("gzip", "/api/swagger-ui/a.css"));
+        perform(request("gzip", "/api/swagger-ui/c.css"));
+        perform(request("gzip", "/api/swagger-ui/b.css"));
+
+        // Then - a, b, c rendered once; b evicted by c and rendered again
+        assertEquals(4, renders.get());
+    }
+
+    @Test
+    void shouldNotCacheSpringdocDocumentByDefault() throws Exception {
+        // Given - springdoc fills the servers entry from the request host
+        MockHttpServletRequest request = request("gzip", "/api/docs/api/");
+
+        // When
+        perform(request);
+        perform(request);
+
+        // Then
+        assertEquals(2, renders.get());
+    }
+
+    private MockHttpServletRequest request(String acceptEncoding, String uri) {
+        MockHttpServletRequest request = request(acceptEncoding);
+        request.setRequestURI(uri);
+        return request;
+    }
+
+    private MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/swagger-ui/swagger-ui.css");
+        request.setContextPath("/api");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setHeader("X-Request-ID", "REQ-" + renders.incrementAndGet());
+                resp.setHeader("Cache-Control", "max-age=3600, public");
+                resp.setHeader("Last-Modified", "Thu, 01 Jan 2026 00:00:00 GMT");
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.testingapp.infrastructure.config;
+
+import com.company.testingapp.infrastructure.accounting.RequestResourceAccountant;
+import com.company.testingapp.infrastructure.history.HealthCheck;
+import com.company.testingapp.infrastructure.history.HealthHistoryController;
+import com.company.testingapp.infrastructure.history.HealthHistoryProperties;
+import com.company.testingapp.infrastructure.history.HealthHistoryStore;
+import com.company.testingapp.infrastructure.history.HealthState;
+import com.company.testingapp.infrastructure.lifecycle.DrainCoordinator;
+import com.company.testingapp.infrastructure.lifecycle.DrainProperties;
+import com.company.testingapp.infrastructure.tracing.Trace;
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import com.company.testingapp.infrastructure.tracing.TracingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestLoggingInterceptorTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Tracer tracer;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        HealthHistoryProperties properties = new HealthHistoryProperties();
+        properties.setDirectory(directory);
+        properties.setRawCapacity(1024);
+        properties.setMinuteCapacity(256);
+        properties.setHourCapacity(16);
+        HealthHistoryStore store = new HealthHistoryStore(properties);
+        store.record(HealthCheck.DETAILED, HealthState.UP, System.currentTimeMillis(), 2_000_000);
+
+        TracingProperties tracing = new TracingProperties();
+        tracing.setSampleRate(1.0);
+        tracer = new Tracer(tracing);
+        DrainCoordinator drainCoordinator = new DrainCoordinator(events -> { }, new DrainProperties());
+        drainCoordinator.bindTo(registry);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new HealthHistoryController(store, properties))
+                .addInterceptors(new WebConfig.RequestLoggingInterceptor(tracer, drainCoordinator,
+                        RequestResourceAccountant.disabled()))
+                .build();
+    }
+
+    @Test
+    void shouldCountAndTraceStreamedHistoryOnce() throws Exception {
+        // When: the first dispatch starts streaming on another thread
+        MvcResult started = mockMvc.perform(get("/v1/health/history"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: nothing of the request is left bound to the dispatching thread
+        assertEquals(1, inFlight());
+        assertNull(MDC.get(WebConfig.RequestLoggingInterceptor.MDC_REQUEST_ID));
+        assertSame(tracer.span("a"), tracer.span("b"), "Trace should be unbound from the first thread");
+
+        // When: the async dispatch completes the request
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        // Then
+        assertEquals(0, inFlight());
+        List<Trace> traces = tracer.getBuffer().slowest(10);
+        assertEquals(1, traces.size());
+        assertEquals("/v1/health/history", traces.get(0).getRoute());
+        assertEquals(200, traces.get(0).getStatus());
+        assertNull(MDC.get(WebConfig.RequestLoggingInterceptor.MDC_REQUEST_ID));
+    }
+
+    private double inFlight() {
+        return registry.get("http.server.requests.in.flight").gauge().value();
+    }
+}
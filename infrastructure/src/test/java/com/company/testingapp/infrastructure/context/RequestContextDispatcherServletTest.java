@@ -0,0 +1,200 @@
+package com.company.testingapp.infrastructure.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestContextDispatcherServletTest {
+
+    private AnnotationConfigWebApplicationContext context;
+    private RequestContextDispatcherServlet servlet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockServletContext servletContext = new MockServletContext();
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext);
+        context.register(WebConfig.class);
+        context.refresh();
+        RequestContextProperties properties = new RequestContextProperties();
+        properties.setTimeout(Duration.ofSeconds(1));
+        servlet = new RequestContextDispatcherServlet(properties);
+        servlet.setApplicationContext(context);
+        servlet.init(new MockServletConfig(servletContext));
+    }
+
+    @AfterEach
+    void tearDown() {
+        servlet.destroy();
+        context.close();
+    }
+
+    @Test
+    void shouldBindTheContextForHandlersAndExceptionHandlers() throws Exception {
+        // When
+        MockHttpServletResponse item = get("/items/7", null);
+        MockHttpServletResponse failure = get("/fail", null);
+
+        // Then
+        assertTrue(item.getContentAsString().matches("REQ-\\d+-\\d+ /items/\\{id} 7"), item.getContentAsString());
+        assertTrue(failure.getContentAsString().matches("REQ-\\d+-\\d+ /fail"), failure.getContentAsString());
+        assertEquals(500, failure.getStatus());
+        assertTrue(RequestContext.current().isEmpty());
+    }
+
+    @Test
+    void shouldLetClientsShortenButNotExtendTheDeadline() throws Exception {
+        // When
+        long shortened = Long.parseLong(get("/remaining", "100").getContentAsString());
+        long capped = Long.parseLong(get("/remaining", "60000").getContentAsString());
+        long unparsable = Long.parseLong(get("/remaining", "soon").getContentAsString());
+
+        // Then
+        assertTrue(shortened <= 100, "remaining " + shortened);
+        assertTrue(capped > 100 && capped <= 1000, "remaining " + capped);
+        assertTrue(unparsable > 100 && unparsable <= 1000, "remaining " + unparsable);
+    }
+
+    @Test
+    void shouldBindOnVirtualThreadsAndLookUpTheHandlerOnce() throws Exception {
+        // Given
+        CountingHandlerMapping mapping = context.getBean(CountingHandlerMapping.class);
+        mapping.lookups.set(0);
+        AtomicReference<String> body = new AtomicReference<>();
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            try {
+                body.set(get("/items/9", null).getContentAsString());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+
+        // Then
+        assertTrue(body.get().endsWith(" /items/{id} 9"), body.get());
+        assertEquals(1, mapping.lookups.get());
+    }
+
+    @Test
+    void shouldKeepTheContextOfARequestAcrossDispatches() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/3");
+        servlet.service(request, new MockHttpServletResponse());
+        RequestContext first = (RequestContext) request.getAttribute(RequestContext.ATTRIBUTE);
+
+        // When
+        request.setRequestURI("/fail");
+        request.removeAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        MockHttpServletResponse error = new MockHttpServletResponse();
+        servlet.service(request, error);
+
+        // Then
+        assertEquals(first.requestId() + " /fail", error.getContentAsString());
+        assertEquals("/items/{id}", RequestContext.of(request).route());
+        assertThrows(IllegalArgumentException.class,
+                () -> new RequestContextDispatcherServlet(properties(Duration.ZERO)));
+    }
+
+    private MockHttpServletResponse get(String path, String timeout) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (timeout != null) {
+            request.addHeader("X-Request-Timeout", timeout);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response;
+    }
+
+    private static RequestContextProperties properties(Duration timeout) {
+        RequestContextProperties properties = new RequestContextProperties();
+        properties.setTimeout(timeout);
+        return properties;
+    }
+
+    /**
+     * Registered explicitly rather than annotated {@code @Configuration}, so that component
+     * scans of the infrastructure package in other tests do not pick it up.
+     */
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        ContextController contextController() {
+            return new ContextController();
+        }
+
+        @Bean
+        CountingHandlerMapping countingHandlerMapping() {
+            return new CountingHandlerMapping();
+        }
+    }
+
+    @RestController
+    static class ContextController {
+
+        @GetMapping("/items/{id}")
+        String item(@PathVariable String id) {
+            RequestContext context = RequestContext.current().orElseThrow();
+            return context.requestId() + " " + context.route() + " " + id;
+        }
+
+        @GetMapping("/remaining")
+        String remaining() {
+            return Long.toString(RequestContext.current().orElseThrow().remaining().toMillis());
+        }
+
+        @GetMapping("/fail")
+        String fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        @ExceptionHandler(IllegalStateException.class)
+        ResponseEntity<String> handle() {
+            RequestContext context = RequestContext.current().orElseThrow();
+            return ResponseEntity.internalServerError()
+                    .body(context.requestId() + " " + context.route());
+        }
+    }
+
+    /**
+     * Consulted first and never matches, so it sees every handler lookup.
+     */
+    static class CountingHandlerMapping implements HandlerMapping, Ordered {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public HandlerExecutionChain getHandler(HttpServletRequest request) {
+            lookups.incrementAndGet();
+            return null;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.testingapp.infrastructure.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void handleValidationExceptions_ShouldBuildReadOnlyBodyWithFieldErrors() throws Exception {
+        // Given
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(new Object(), "request");
+        result.addError(new FieldError("request", "name", "must not be blank"));
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerTest.class.getDeclaredMethod("handle", Object.class), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/echo");
+
+        // When
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleValidationExceptions(new MethodArgumentNotValidException(parameter, result), request);
+
+        // Then
+        Map<String, Object> body = response.getBody();
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals(List.of("timestamp", "status", "error", "message", "path", "fieldErrors"),
+                List.copyOf(body.keySet()));
+        assertEquals(Map.of("name", "must not be blank"), body.get("fieldErrors"));
+        assertThrows(UnsupportedOperationException.class, () -> body.put("extra", "value"));
+    }
+
+    @Test
+    void handleIllegalArgument_ShouldOmitFieldErrors() {
+        // When
+        ResponseEntity<Map<String, Object>> response = handler.handleIllegalArgument(
+                new IllegalArgumentException("bad input"), new MockHttpServletRequest("GET", "/v1/echo"));
+
+        // Then
+        Map<String, Object> body = response.getBody();
+        assertEquals("bad input", body.get("message"));
+        assertFalse(body.containsKey("fieldErrors"));
+    }
+
+    @SuppressWarnings("unused")
+    private void handle(Object request) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.testingapp.infrastructure.history;
+
+import com.company.testingapp.infrastructure.history.HealthHistoryStore.Resolution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthHistoryStoreTest {
+
+    private static final long T0 = 1_760_000_400_000L; // on an hour boundary
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    Path directory;
+
+    private HealthHistoryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HealthHistoryProperties();
+        properties.setDirectory(directory);
+        properties.setRawCapacity(1024);
+        properties.setMinuteCapacity(256);
+        properties.setHourCapacity(16);
+    }
+
+    @Test
+    void shouldReturnRawSamplesWithinTheRequestedWindow() throws IOException {
+        // Given
+        HealthHistoryStore store = new HealthHistoryStore(properties);
+        for (int i = 0; i < 10; i++) {
+            store.record(HealthCheck.DETAILED, i == 4 ? HealthState.DOWN : HealthState.UP, T0 + i * 1000, 2_000_000);
+            store.record(HealthCheck.LIVENESS, HealthState.UP, T0 + i * 1000, 10_000);
+        }
+
+        // When
+        List<String> samples = scan(store, Resolution.RAW, T0 + 3000, T0 + 6000, HealthCheck.DETAILED, 100);
+
+        // Then
+        assertEquals(List.of("raw " + (T0 + 3000) + " DETAILED UP 2000",
+                "raw " + (T0 + 4000) + " DETAILED DOWN 2000",
+                "raw " + (T0 + 5000) + " DETAILED UP 2000"), samples);
+        assertEquals(2, scan(store, Resolution.RAW, T0, T0 + HOUR, null, 2).size());
+    }
+
+    @Test
+    void shouldRollUpCompletedMinutesAndHours() throws IOException {
+        // Given: one detailed check every 10 seconds for two hours, one of them DOWN
+        HealthHistoryStore store = new HealthHistoryStore(properties);
+        for (long at = T0; at < T0 + 2 * HOUR; at += 10_000) {
+            HealthState state = at == T0 + 90_000 ? HealthState.DOWN : HealthState.UP;
+            long latencyNanos = at == T0 + 30_000 ? 9_000_000 : 1_000_000;
+            store.record(HealthCheck.DETAILED, state, at, latencyNanos);
+        }
+
+        // When: the rollup runs inside the second hour, then again after it
+        store.rollup(T0 + HOUR + 30 * MINUTE + 10_000);
+        List<String> minutes = scan(store, Resolution.MINUTE, T0, T0 + 2 * MINUTE, null, 100);
+        int hoursBefore = scan(store, Resolution.HOUR, T0, T0 + 2 * HOUR, null, 100).size();
+        store.rollup(T0 + 3 * HOUR);
+        List<String> hours = scan(store, Resolution.HOUR, T0, T0 + 2 * HOUR, null, 100);
+
+        // Then
+        assertEquals(List.of("1m " + T0 + " DETAILED UP 6/0 2333/9000",
+                "1m " + (T0 + MINUTE) + " DETAILED DOWN 6/1 1000/1000"), minutes);
+        assertEquals(1, hoursBefore);
+        assertEquals(List.of("1h " + T0 + " DETAILED DOWN 360/1 1022/9000",
+                "1h " + (T0 + HOUR) + " DETAILED UP 360/0 1000/1000"), hours);
+    }
+
+    @Test
+    void shouldKeepRecordsAndResumeAcrossRestarts() throws IOException {
+        // Given
+        HealthHistoryStore first = new HealthHistoryStore(properties);
+        for (int i = 0; i < 1500; i++) {
+            first.record(HealthCheck.BASIC, HealthState.UP, T0 + i * 1000L, 1_000);
+        }
+        first.rollup(T0 + 10 * MINUTE);
+
+        // When
+        HealthHistoryStore second = new HealthHistoryStore(properties);
+        second.record(HealthCheck.BASIC, HealthState.ERROR, T0 + 1500 * 1000L, 1_000);
+        second.rollup(T0 + HOUR);
+
+        // Then: the ring wrapped, kept the newest 1024 samples, and minutes were not rolled up twice
+        assertEquals(T0 + 477 * 1000L, second.oldest(Resolution.RAW));
+        List<String> newest = scan(second, Resolution.RAW, T0 + 1499 * 1000L, T0 + HOUR, null, 10);
+        assertEquals(List.of("raw " + (T0 + 1499 * 1000L) + " BASIC UP 1",
+                "raw " + (T0 + 1500 * 1000L) + " BASIC ERROR 1"), newest);
+        List<String> minutes = scan(second, Resolution.MINUTE, T0, T0 + HOUR, null, 100);
+        // Minute 7 was partly overwritten before the first rollup, minutes 0 to 6 entirely
+        assertEquals(19, minutes.size());
+        assertEquals("1m " + (T0 + 7 * MINUTE) + " BASIC UP 4/0 1/1", minutes.get(0));
+        assertEquals("1m " + (T0 + 9 * MINUTE) + " BASIC UP 60/0 1/1", minutes.get(2));
+        assertEquals("1m " + (T0 + 25 * MINUTE) + " BASIC ERROR 1/1 1/1", minutes.get(minutes.size() - 1));
+    }
+
+    @Test
+    void shouldDiscardRingsWrittenWithADifferentLayout() throws IOException {
+        // Given
+        new HealthHistoryStore(properties).record(HealthCheck.BASIC, HealthState.UP, T0, 1_000);
+
+        // When
+        properties.setRawCapacity(2048);
+        HealthHistoryStore resized = new HealthHistoryStore(properties);
+
+        // Then
+        assertEquals(-1, resized.oldest(Resolution.RAW));
+    }
+
+    private static List<String> scan(HealthHistoryStore store, Resolution resolution, long from, long to,
+                                     HealthCheck check, int limit) throws IOException {
+        List<String> records = new ArrayList<>();
+        int visited = store.scan(resolution, from, to, check, limit, new HealthHistoryStore.Visitor() {
+            @Override
+            public void sample(long epochMillis, HealthCheck check, HealthState state, int latencyMicros) {
+                records.add("raw " + epochMillis + " " + check + " " + state + " " + latencyMicros);
+            }
+
+            @Override
+            public void rollup(long bucketMillis, HealthCheck check, HealthState worst, int count, int unhealthy,
+                               long meanLatencyMicros, int maxLatencyMicros) {
+                records.add(resolution.label() + " " + bucketMillis + " " + check + " " + worst + " "
+                        + count + "/" + unhealthy + " " + meanLatencyMicros + "/" + maxLatencyMicros);
+            }
+        });
+        assertEquals(records.size(), visited);
+        return records;
+    }
+}
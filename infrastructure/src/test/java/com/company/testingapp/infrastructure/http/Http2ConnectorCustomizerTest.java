@@ -0,0 +1,34 @@
+package com.company.testingapp.infrastructure.http;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Http2ConnectorCustomizerTest {
+
+    @Test
+    void shouldApplyPropertiesToHttp2UpgradeProtocol() {
+        // Given
+        Connector connector = new Connector("org.apache.coyote.http11.Http11NioProtocol");
+        Http2Protocol http2 = new Http2Protocol();
+        connector.addUpgradeProtocol(http2);
+        Http2Properties properties = new Http2Properties();
+        properties.setMaxConcurrentStreams(256);
+        properties.setMaxConcurrentStreamExecution(16);
+        properties.setKeepAliveTimeout(Duration.ofSeconds(120));
+        properties.setInitialWindowSize(1 << 20);
+
+        // When
+        new Http2ConnectorCustomizer(properties).customize(connector);
+
+        // Then
+        assertEquals(256, http2.getMaxConcurrentStreams());
+        assertEquals(16, http2.getMaxConcurrentStreamExecution());
+        assertEquals(120_000, http2.getKeepAliveTimeout());
+        assertEquals(1 << 20, http2.getInitialWindowSize());
+    }
+}
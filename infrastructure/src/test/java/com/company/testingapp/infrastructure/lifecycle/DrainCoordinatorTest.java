@@ -0,0 +1,151 @@
+package com.company.testingapp.infrastructure.lifecycle;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.boot.web.server.WebServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrainCoordinatorTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private DrainCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        DrainProperties properties = new DrainProperties();
+        properties.setPropagationDelay(Duration.ofMillis(50));
+        coordinator = new DrainCoordinator(events::add, properties);
+        coordinator.start();
+    }
+
+    private void serveTraffic(DrainCoordinator coordinator) {
+        WebServer webServer = new WebServer() {
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void stop() {
+            }
+
+            @Override
+            public int getPort() {
+                return 8080;
+            }
+        };
+        coordinator.onApplicationEvent(new ServletWebServerInitializedEvent(webServer, new ServletWebServerApplicationContext()));
+        coordinator.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+    }
+
+    @Test
+    void shouldTrackInFlightRequests() {
+        // When
+        coordinator.requestStarted();
+        coordinator.requestStarted();
+        coordinator.requestCompleted();
+
+        // Then
+        assertEquals(1, coordinator.inFlight());
+        assertFalse(coordinator.isDraining());
+    }
+
+    @Test
+    void shouldFlipReadinessBeforeWaitingForPropagation() {
+        // Given
+        serveTraffic(coordinator);
+
+        // When
+        long start = System.nanoTime();
+        coordinator.stop();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(coordinator.isDraining());
+        assertFalse(coordinator.isRunning());
+        assertEquals(1, events.size());
+        AvailabilityChangeEvent<?> event = (AvailabilityChangeEvent<?>) events.get(0);
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getState());
+        assertTrue(elapsedMillis >= 50, "Stop should wait for the propagation delay");
+    }
+
+    @Test
+    void shouldSkipPropagationDelayWhenNoTrafficWasRouted() {
+        // Given
+        coordinator.onApplicationEvent(new AvailabilityChangeEvent<>(this, LivenessState.CORRECT));
+
+        // When
+        long start = System.nanoTime();
+        coordinator.stop();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(coordinator.isDraining());
+        assertEquals(1, events.size());
+        assertTrue(elapsedMillis < 50, "Stop should not wait without a web server or readiness, took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void shouldLeaveInFlightRequestsToTheWebServersGracefulShutdown() {
+        // Given
+        serveTraffic(coordinator);
+        coordinator.requestStarted();
+
+        // When
+        long start = System.nanoTime();
+        coordinator.stop();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then - only the propagation delay, Tomcat waits for the request in its own phase
+        assertTrue(elapsedMillis < 1_000, "Stop should not wait for in-flight requests, took " + elapsedMillis + " ms");
+        assertEquals(1, coordinator.inFlight());
+        assertFalse(coordinator.isRunning());
+    }
+
+    @Test
+    void shouldLogAbandonedRequestsOnDestroy() {
+        // Given
+        Logger logger = (Logger) LoggerFactory.getLogger(DrainCoordinator.class);
+        ListAppender<ILoggingEvent> logged = new ListAppender<>();
+        logged.start();
+        logger.addAppender(logged);
+        serveTraffic(coordinator);
+        coordinator.requestStarted();
+        coordinator.requestStarted();
+        coordinator.requestCompleted();
+        coordinator.stop();
+
+        // When
+        try {
+            coordinator.destroy();
+        } finally {
+            logger.detachAppender(logged);
+        }
+
+        // Then
+        ILoggingEvent finished = logged.list.get(logged.list.size() - 1);
+        assertEquals(Level.WARN, finished.getLevel());
+        Object[] arguments = finished.getArgumentArray();
+        assertTrue((Long) arguments[0] >= 50, "Drain duration should cover the propagation delay");
+        assertEquals(1L, arguments[1]);
+    }
+
+    @Test
+    void shouldStopBeforeOtherLifecycleBeans() {
+        assertEquals(Integer.MAX_VALUE, coordinator.getPhase());
+    }
+}
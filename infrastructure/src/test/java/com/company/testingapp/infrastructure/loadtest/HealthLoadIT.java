@@ -0,0 +1,137 @@
+package com.company.testingapp.infrastructure.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test with SLO assertions, run by failsafe during {@code mvn verify}.
+ *
+ * <p>Starts the web layer on a random port and drives open-model load (see
+ * {@link OpenModelLoad}) against the health check, two error paths and the actuator
+ * health endpoint. All targets are warmed up first, so JIT compilation and connection
+ * setup do not land in the first measured run; the build fails when a target's corrected
+ * p99 or p99.9 latency, or its error rate, breaches the SLO.</p>
+ *
+ * <p>Tunable with {@code -Dloadtest.rate} (requests per second, per target),
+ * {@code -Dloadtest.duration-seconds}, {@code -Dloadtest.warmup-seconds},
+ * {@code -Dloadtest.slo.p99-ms}, {@code -Dloadtest.slo.p999-ms} and
+ * {@code -Dloadtest.slo.max-error-rate}.</p>
+ */
+@SpringBootTest(classes = HealthLoadIT.LoadTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.servlet.context-path=/api",
+                "spring.jackson.property-naming-strategy=SNAKE_CASE",
+                "spring.jackson.default-property-inclusion=NON_NULL",
+                "spring.jackson.serialization.write-dates-as-timestamps=false",
+                "management.endpoints.web.exposure.include=health",
+                "app.profiling.enabled=false",
+                "app.runtime-config.enabled=false",
+                "app.health-history.directory=target/health-history",
+                "spring.main.banner-mode=off",
+                // Per-request INFO and 404 WARN lines on the console would dominate the measurement
+                "logging.level.com.company.testingapp=ERROR"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HealthLoadIT {
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 5));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 2));
+    private static final double SLO_P99_MILLIS = Double.parseDouble(System.getProperty("loadtest.slo.p99-ms", "50"));
+    private static final double SLO_P999_MILLIS = Double.parseDouble(System.getProperty("loadtest.slo.p999-ms", "200"));
+    private static final double SLO_MAX_ERROR_RATE =
+            Double.parseDouble(System.getProperty("loadtest.slo.max-error-rate", "0.001"));
+
+    @LocalServerPort
+    private int port;
+
+    private HttpClient client;
+    private OpenModelLoad load;
+
+    @BeforeAll
+    void setUp() {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        load = new OpenModelLoad(client, Duration.ofSeconds(5));
+        for (Target target : Target.values()) {
+            load.run(target.request(port), target.expectedStatus, RATE, WARMUP);
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        client.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Target.class)
+    void targetShouldMeetSlo(Target target) {
+        // When
+        OpenModelLoad.Result result = load.run(target.request(port), target.expectedStatus, RATE, DURATION);
+        System.out.printf("%-22s %6d req %8.1f req/s  p50 %6.2f  p99 %6.2f  p99.9 %6.2f  max %7.2f ms"
+                        + "  (service p99 %6.2f ms)  errors %d  generator lag %.2f ms%n",
+                target, result.requests(), result.achievedRate(),
+                result.correctedMillis(0.50), result.correctedMillis(0.99), result.correctedMillis(0.999),
+                result.correctedMillis(1.0), result.serviceMillis(0.99), result.errors(), result.maxSendLag() / 1e6);
+
+        // Then
+        assertTrue(result.errorRate() <= SLO_MAX_ERROR_RATE,
+                target + " error rate " + result.errorRate() + " breaches SLO " + SLO_MAX_ERROR_RATE);
+        assertTrue(result.correctedMillis(0.99) <= SLO_P99_MILLIS,
+                target + " p99 " + result.correctedMillis(0.99) + " ms breaches SLO " + SLO_P99_MILLIS + " ms");
+        assertTrue(result.correctedMillis(0.999) <= SLO_P999_MILLIS,
+                target + " p99.9 " + result.correctedMillis(0.999) + " ms breaches SLO " + SLO_P999_MILLIS + " ms");
+    }
+
+    enum Target {
+        HEALTHCHECK("GET", "/api/v1/healthcheck", 200),
+        NOT_FOUND("GET", "/api/v1/nonexistent", 404),
+        METHOD_NOT_ALLOWED("DELETE", "/api/v1/healthcheck", 405),
+        ACTUATOR_HEALTH("GET", "/api/actuator/health", 200);
+
+        private final String method;
+        private final String path;
+        private final int expectedStatus;
+
+        Target(String method, String path, int expectedStatus) {
+            this.method = method;
+            this.path = path;
+            this.expectedStatus = expectedStatus;
+        }
+
+        HttpRequest.Builder request(int port) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .method(method, HttpRequest.BodyPublishers.noBody());
+        }
+    }
+
+    /**
+     * The infrastructure module has no application class of its own. Controllers and
+     * configuration nested in unit tests share its packages and are left out.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = "com.company.testingapp.infrastructure",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*Test\\$.*"))
+    static class LoadTestApplication {
+    }
+}
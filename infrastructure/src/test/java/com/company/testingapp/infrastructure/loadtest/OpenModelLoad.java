@@ -0,0 +1,116 @@
+package com.company.testingapp.infrastructure.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued at a fixed arrival rate whether or not
+ * earlier ones have completed, each on its own virtual thread.
+ *
+ * <p>Every request has an intended start time on the arrival schedule. Latency is
+ * measured from that intended time rather than from when the request was actually sent,
+ * so a stall in the server (or in the generator) is charged to every request that should
+ * have been sent during it. This is the coordinated-omission correction; the uncorrected
+ * service time is reported alongside for comparison.</p>
+ */
+final class OpenModelLoad {
+
+    private final HttpClient client;
+    private final Duration timeout;
+
+    OpenModelLoad(HttpClient client, Duration timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    Result run(HttpRequest.Builder request, int expectedStatus, int ratePerSecond, Duration duration) {
+        HttpRequest prepared = request.timeout(timeout).build();
+        int total = (int) (ratePerSecond * duration.toNanos() / 1_000_000_000L);
+        long interval = 1_000_000_000L / ratePerSecond;
+        AtomicLongArray corrected = new AtomicLongArray(total);
+        AtomicLongArray service = new AtomicLongArray(total);
+        LongAdder errors = new LongAdder();
+        long maxSendLag = 0;
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long intended = start + i * interval;
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                maxSendLag = Math.max(maxSendLag, now - intended);
+                int index = i;
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(prepared, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != expectedStatus) {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                    long done = System.nanoTime();
+                    corrected.set(index, done - intended);
+                    service.set(index, done - sent);
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(sorted(corrected), sorted(service), errors.sum(), elapsed, maxSendLag);
+    }
+
+    private static long[] sorted(AtomicLongArray values) {
+        long[] copy = new long[values.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = values.get(i);
+        }
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    /**
+     * @param corrected   latencies from intended start, sorted
+     * @param service     latencies from actual send, sorted
+     * @param maxSendLag  how far the generator itself fell behind the schedule
+     */
+    record Result(long[] corrected, long[] service, long errors, long elapsedNanos, long maxSendLag) {
+
+        int requests() {
+            return corrected.length;
+        }
+
+        double errorRate() {
+            return corrected.length == 0 ? 0 : (double) errors / corrected.length;
+        }
+
+        double achievedRate() {
+            return corrected.length / (elapsedNanos / 1e9);
+        }
+
+        double correctedMillis(double quantile) {
+            return percentile(corrected, quantile) / 1e6;
+        }
+
+        double serviceMillis(double quantile) {
+            return percentile(service, quantile) / 1e6;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+        }
+    }
+}
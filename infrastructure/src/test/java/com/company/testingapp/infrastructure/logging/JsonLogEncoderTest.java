@@ -0,0 +1,128 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JsonLogEncoder encoder;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("com.company.testingapp.Test");
+        encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+    }
+
+    @Test
+    void encode_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        LoggingEvent event = event("Request handled in {}ms", 12);
+        event.setTimeStamp(1_700_000_000_123L);
+
+        // When
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(line.endsWith("}\n"));
+        JsonNode json = objectMapper.readTree(line);
+        assertEquals("2023-11-14T22:13:20.123Z", json.get("@timestamp").asText());
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("com.company.testingapp.Test", json.get("logger").asText());
+        assertEquals("Request handled in 12ms", json.get("message").asText());
+    }
+
+    @Test
+    void encode_ShouldWriteMdcEntriesAsFields() throws Exception {
+        // Given
+        LoggingEvent event = event("done");
+        event.setMDCPropertyMap(Map.of("request_id", "REQ-1", "route", "/v1/healthcheck", "latency_ms", "3"));
+
+        // When
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        // Then
+        assertEquals("REQ-1", json.get("request_id").asText());
+        assertEquals("/v1/healthcheck", json.get("route").asText());
+        assertEquals("3", json.get("latency_ms").asText());
+    }
+
+    @Test
+    void encode_ShouldEscapeControlCharactersAndUnicode() throws Exception {
+        // Given
+        String message = "quote \" backslash \\ tab \t newline \n bell \u0007 accent é emoji 😀";
+        LoggingEvent event = event(message);
+
+        // When
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        // Then
+        assertEquals(message, json.get("message").asText());
+    }
+
+    @Test
+    void encode_ShouldIncludeExceptionChain() throws Exception {
+        // Given
+        LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.ERROR, "failed",
+                new IllegalStateException("outer", new IllegalArgumentException("inner")), null);
+
+        // When
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        // Then
+        String exception = json.get("exception").asText();
+        assertTrue(exception.startsWith("java.lang.IllegalStateException: outer"));
+        assertTrue(exception.contains("Caused by: java.lang.IllegalArgumentException: inner"));
+        assertTrue(exception.contains("\tat "));
+    }
+
+    @Test
+    void encodeTo_ShouldNotAllocateOnceWarm() throws Exception {
+        // Given
+        LoggingEvent event = event("steady state {}", 42);
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put("request_id", "REQ-1");
+        mdc.put("route", "/v1/healthcheck");
+        event.setMDCPropertyMap(mdc);
+        OutputStream sink = OutputStream.nullOutputStream();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 20_000; i++) {
+            encoder.encodeTo(event, sink);
+        }
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            encoder.encodeTo(event, sink);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then - allow for a few incidental allocations, but nothing per event
+        assertTrue(allocated < 10_000, "Expected no per-event allocation, got " + allocated + " bytes");
+    }
+
+    private LoggingEvent event(String message, Object... args) {
+        return new LoggingEvent(Logger.FQCN, logger, Level.INFO, message, null, args);
+    }
+}
@@ -0,0 +1,128 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonRollingFileAppenderTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoggerContext context;
+    private Logger logger;
+    private JsonRollingFileAppender appender;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("com.company.testingapp.Test");
+        file = directory.resolve("app.log");
+
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        appender = new JsonRollingFileAppender();
+        appender.setContext(context);
+        appender.setName("FILE");
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        TimeBasedRollingPolicy<?> policy = new TimeBasedRollingPolicy<>();
+        policy.setContext(context);
+        policy.setParent(appender);
+        policy.setFileNamePattern(directory.resolve("app.%d{yyyy-MM-dd}.log").toString());
+        policy.start();
+        appender.setRollingPolicy(policy);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void append_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        LoggingEvent event = event("Request handled in {}ms", 3);
+        event.setMDCPropertyMap(Map.of("request_id", "REQ-1"));
+
+        // When
+        appender.doAppend(event);
+        appender.doAppend(event("second"));
+        appender.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("Request handled in 3ms", first.get("message").asText());
+        assertEquals("REQ-1", first.get("request_id").asText());
+        assertEquals("second", objectMapper.readTree(lines.get(1)).get("message").asText());
+    }
+
+    @Test
+    void flush_ShouldWriteBufferedEventsWithoutImmediateFlush() throws Exception {
+        // Given
+        appender.setImmediateFlush(false);
+        appender.doAppend(event("buffered"));
+        assertEquals(0, Files.size(file));
+
+        // When
+        appender.flush();
+
+        // Then
+        assertEquals("buffered", objectMapper.readTree(Files.readAllLines(file).get(0)).get("message").asText());
+    }
+
+    @Test
+    void append_ShouldNotCopyEventsOnceWarm() {
+        // Given
+        appender.setImmediateFlush(false);
+        LoggingEvent event = event("steady state {}", 42);
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put("request_id", "REQ-1");
+        mdc.put("route", "/v1/healthcheck");
+        event.setMDCPropertyMap(mdc);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 50_000; i++) {
+            appender.doAppend(event);
+        }
+
+        // When
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            appender.doAppend(event);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Then - encode() would copy at least one array per event
+        assertTrue(allocated < 10_000, "Expected no per-event allocation, got " + allocated + " bytes");
+    }
+
+    private LoggingEvent event(String message, Object... args) {
+        return new LoggingEvent(Logger.FQCN, logger, Level.INFO, message, null, args);
+    }
+}
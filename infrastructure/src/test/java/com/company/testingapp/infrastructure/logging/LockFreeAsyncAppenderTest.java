@@ -0,0 +1,192 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Flushable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockFreeAsyncAppenderTest {
+
+    private LoggerContext context;
+    private Logger logger;
+    private LockFreeAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("test");
+        appender = new LockFreeAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_TEST");
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void append_ShouldDeliverAllEventsFromConcurrentProducers() throws Exception {
+        // Given
+        CollectingAppender target = new CollectingAppender(null);
+        appender.addAppender(target);
+        appender.setQueueSize(1024);
+        appender.start();
+        int producers = 4;
+        int perProducer = 200;
+        Thread[] threads = new Thread[producers];
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    appender.doAppend(event("message " + i));
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.stop();
+
+        // Then
+        assertEquals(producers * perProducer, target.events.size());
+        assertEquals(producers * perProducer, appender.getEnqueuedCount());
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    void append_ShouldDropAndCountInsteadOfBlockingWhenFull() throws Exception {
+        // Given - the downstream appender is stuck, so the queue cannot drain
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingAppender target = new CollectingAppender(release);
+        appender.addAppender(target);
+        appender.setQueueSize(8);
+        appender.start();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event("message " + i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then
+        assertTrue(appender.getDroppedCount() > 0);
+        assertEquals(100, appender.getEnqueuedCount() + appender.getDroppedCount());
+        assertTrue(elapsedMillis < 1000, "Producers must not block, took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void append_ShouldWakeIdleWorkerOnPublish() throws Exception {
+        // Given - the worker has drained everything and parked
+        CollectingAppender target = new CollectingAppender(null);
+        appender.addAppender(target);
+        appender.start();
+        appender.doAppend(event("first"));
+        awaitEvents(target, 1);
+        Thread.sleep(50);
+
+        // When
+        long start = System.nanoTime();
+        appender.doAppend(event("second"));
+        awaitEvents(target, 2);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(elapsedMillis < 50, "Worker should be unparked on publish, took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void append_ShouldFlushFlushableAppendersOncePerBatch() throws Exception {
+        // Given - the worker has taken the first event and is held by the downstream appender
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingAppender target = new CollectingAppender(release);
+        appender.addAppender(target);
+        appender.setQueueSize(1024);
+        appender.start();
+        appender.doAppend(event("first"));
+        while (appender.getQueueDepth() > 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        for (int i = 0; i < 300; i++) {
+            appender.doAppend(event("message " + i));
+        }
+        release.countDown();
+        appender.stop();
+
+        // Then - one flush for the first event, then batches of 256 and 44
+        assertEquals(301, target.events.size());
+        assertEquals(3, target.flushes.get());
+    }
+
+    @Test
+    void start_ShouldFailWithoutAttachedAppender() {
+        // When
+        appender.start();
+
+        // Then
+        assertFalse(appender.isStarted());
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(Logger.FQCN, logger, Level.INFO, message, null, null);
+    }
+
+    private static void awaitEvents(CollectingAppender target, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.events.size() < count && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, target.events.size());
+    }
+
+    private static class CollectingAppender extends AppenderBase<ILoggingEvent> implements Flushable {
+
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger flushes = new AtomicInteger();
+        private final CountDownLatch release;
+
+        CollectingAppender(CountDownLatch release) {
+            this.release = release;
+            start();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.company.testingapp.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRollingFileAppenderTest {
+
+    @TempDir
+    Path logDir;
+
+    private LoggerContext context;
+    private Logger logger;
+    private MappedRollingFileAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("test");
+        appender = newAppender(FileSize.valueOf("4KB"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void stop_ShouldTrimZeroPaddingFromActiveSegment() throws Exception {
+        // Given
+        appender.start();
+
+        // When
+        appender.doAppend(event("first"));
+        appender.doAppend(event("second"));
+        appender.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(activeFile());
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"message\":\"first\""));
+        assertTrue(lines.get(1).contains("\"message\":\"second\""));
+        assertFalse(Files.readString(activeFile()).contains("\0"));
+    }
+
+    @Test
+    void append_ShouldRollAndCompressWhenSegmentIsFull() throws Exception {
+        // Given
+        appender.start();
+
+        // When - roughly 200 bytes per event against a 4KB segment
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event("event number " + i));
+        }
+        appender.stop();
+
+        // Then
+        List<Path> compressed = rolledFiles(".gz");
+        assertFalse(compressed.isEmpty(), "Expected at least one compressed segment");
+        assertTrue(rolledFiles(".log").isEmpty(), "Rolled segments should be replaced by their .gz");
+        long total = Files.readAllLines(activeFile()).size();
+        for (Path gz : compressed) {
+            String content = gunzip(gz);
+            assertFalse(content.contains("\0"));
+            total += content.lines().count();
+        }
+        assertEquals(100, total, "No event may be lost or duplicated across segments");
+    }
+
+    @Test
+    void append_ShouldKeepAtMostMaxSegmentsRolledFiles() throws Exception {
+        // Given
+        appender.setCompress(false);
+        appender.setMaxSegments(2);
+        appender.start();
+
+        // When - enough events for several 4KB segments
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event("event number " + i));
+        }
+        appender.stop();
+
+        // Then
+        assertEquals(2, rolledFiles(".log").size());
+    }
+
+    @Test
+    void append_ShouldDeleteOldestSegmentsBeyondTotalSizeCap() throws Exception {
+        // Given
+        appender.setCompress(false);
+        appender.setTotalSizeCap(FileSize.valueOf("6KB"));
+        appender.start();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event("event number " + i));
+        }
+        appender.stop();
+
+        // Then
+        List<Path> rolled = rolledFiles(".log");
+        assertFalse(rolled.isEmpty());
+        long total = 0;
+        for (Path segment : rolled) {
+            total += Files.size(segment);
+        }
+        assertTrue(total <= 6 * 1024, "Rolled segments should fit the cap, got " + total + " bytes");
+    }
+
+    @Test
+    void start_ShouldResumeAfterLastCompleteLineOfCrashedSegment() throws Exception {
+        // Given - a segment left mapped by a crashed process: two lines, a torn record, zero padding
+        byte[] torn = "{\"message\":\"one\"}\n{\"message\":\"two\"}\n{\"message\":\"thr".getBytes(StandardCharsets.UTF_8);
+        byte[] segment = new byte[4096];
+        System.arraycopy(torn, 0, segment, 0, torn.length);
+        Files.write(activeFile(), segment);
+
+        // When
+        appender.start();
+        appender.doAppend(event("after restart"));
+        appender.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(activeFile());
+        assertEquals(3, lines.size());
+        assertEquals("{\"message\":\"one\"}", lines.get(0));
+        assertEquals("{\"message\":\"two\"}", lines.get(1));
+        assertTrue(lines.get(2).contains("\"message\":\"after restart\""));
+    }
+
+    @Test
+    void start_ShouldKeepEverythingWrittenBeforeAbruptTermination() throws Exception {
+        // Given - the first appender is never stopped, as if the process died
+        appender.start();
+        appender.doAppend(event("before crash 1"));
+        appender.doAppend(event("before crash 2"));
+
+        // When
+        MappedRollingFileAppender restarted = newAppender(FileSize.valueOf("4KB"));
+        restarted.start();
+        restarted.doAppend(event("after crash"));
+        restarted.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(activeFile());
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("before crash 1"));
+        assertTrue(lines.get(1).contains("before crash 2"));
+        assertTrue(lines.get(2).contains("after crash"));
+    }
+
+    @Test
+    void recoverTail_ShouldReturnZeroForSegmentWithoutCompleteLine() throws Exception {
+        // Given
+        Files.write(activeFile(), new byte[]{'p', 'a', 'r', 't', 0, 0, 0});
+
+        // When & Then
+        try (var channel = java.nio.channels.FileChannel.open(activeFile())) {
+            assertEquals(0, MappedRollingFileAppender.recoverTail(channel));
+        }
+    }
+
+    private MappedRollingFileAppender newAppender(FileSize maxFileSize) {
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        MappedRollingFileAppender created = new MappedRollingFileAppender();
+        created.setContext(context);
+        created.setName("MAPPED_TEST");
+        created.setEncoder(encoder);
+        created.setFile(activeFile().toString());
+        created.setFileNamePattern(logDir.resolve("app.%d{yyyy-MM-dd}.%i.log").toString());
+        created.setMaxFileSize(maxFileSize);
+        return created;
+    }
+
+    private Path activeFile() {
+        return logDir.resolve("app.log");
+    }
+
+    private List<Path> rolledFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(logDir)) {
+            return files.filter(p -> !p.equals(activeFile()))
+                    .filter(p -> p.getFileName().toString().endsWith(suffix))
+                    .toList();
+        }
+    }
+
+    private String gunzip(Path gz) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gz))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private LoggingEvent event(String message) {
+        return new LoggingEvent(Logger.FQCN, logger, Level.INFO, message, null, null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardinalityLimitingMeterFilterTest {
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        CardinalityProperties properties = new CardinalityProperties();
+        properties.setMaxValues(5);
+        CardinalityLimitingMeterFilter filter = new CardinalityLimitingMeterFilter(properties);
+        registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(filter);
+        filter.bindTo(registry);
+    }
+
+    @Test
+    void shouldNormalizeRawPathsToRouteTemplates() {
+        assertEquals("/v1/users/{id}/orders/{id}",
+                CardinalityLimitingMeterFilter.normalize("/v1/users/42/orders/9f8b2c1e-0a4d-4e4b-9c3a-1b2c3d4e5f60"));
+        assertEquals("/v1/blobs/{id}", CardinalityLimitingMeterFilter.normalize("/v1/blobs/0123456789abcdef01?x=1"));
+        assertEquals("/v1/healthcheck", CardinalityLimitingMeterFilter.normalize("/v1/healthcheck"));
+        assertEquals("/v1/deadbeefcafebabe", CardinalityLimitingMeterFilter.normalize("/v1/deadbeefcafebabe"));
+        assertEquals("/v1/users/{userId}", CardinalityLimitingMeterFilter.normalize("/v1/users/{userId}"));
+        assertEquals("NOT_FOUND", CardinalityLimitingMeterFilter.normalize("NOT_FOUND"));
+    }
+
+    @Test
+    void shouldFoldValuesBeyondTheCapIntoOther() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            record("/v1/route" + i);
+        }
+        record("/v1/items/1");
+        record("/v1/items/2");
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            record("/wp-admin/probe-" + i + ".php");
+        }
+        record("/v1/route0");
+
+        // Then
+        assertEquals(6, registry.find("http.server.requests").timers().size());
+        assertEquals(200, registry.get("http.server.requests").tag("uri", "OTHER").timer().count());
+        assertEquals(2, registry.get("http.server.requests").tag("uri", "/v1/items/{id}").timer().count());
+        assertEquals(2, registry.get("http.server.requests").tag("uri", "/v1/route0").timer().count());
+        assertEquals(200, registry.get(CardinalityLimitingMeterFilter.FOLDED)
+                .tag("meter", "http.server.requests").tag("tag", "uri").functionCounter().count());
+        double estimate = registry.get(CardinalityLimitingMeterFilter.ESTIMATE)
+                .tag("meter", "http.server.requests").gauge().value();
+        assertEquals(205, estimate, 205 * 0.1, "distinct values offered, admitted and folded");
+    }
+
+    @Test
+    void shouldEstimateLargeCardinalitiesWithinTheSketchError() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer("/scan/" + i);
+            sketch.offer("/scan/" + (i % 1000));
+        }
+
+        // Then: 1.04 / sqrt(1024) is about 3%; allow three standard errors
+        assertEquals(100_000, sketch.estimate(), 100_000 * 0.1);
+    }
+
+    private void record(String uri) {
+        Timer.builder("http.server.requests").tag("uri", uri).tag("method", "GET")
+                .register(registry).record(1, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,158 @@
+package com.company.testingapp.infrastructure.metrics;
+
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache.Format;
+import com.company.testingapp.infrastructure.metrics.PrometheusScrapeCache.Scrape;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusScrapeCacheTest {
+
+    private PrometheusMeterRegistry prometheus;
+    private SimpleMeterRegistry stats;
+    private PrometheusScrapeCache cache;
+    // Gauges hold their state weakly; a GC between scrapes would otherwise turn it into NaN
+    private final double[] temperature = {21.5};
+
+    @BeforeEach
+    void setUp() {
+        prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        for (int i = 0; i < 20; i++) {
+            prometheus.counter("requests", "route", "/r" + i, "quote", "say \"hi\"\n").increment(i);
+            prometheus.timer("latency", "route", "/r" + i).record(Duration.ofMillis(i));
+        }
+        prometheus.gauge("temperature", Tags.empty(), temperature, t -> t[0]);
+        ScrapeCacheProperties properties = new ScrapeCacheProperties();
+        properties.setWindow(Duration.ZERO);
+        cache = new PrometheusScrapeCache(prometheus.getPrometheusRegistry(), properties);
+        stats = new SimpleMeterRegistry();
+        cache.bindTo(stats);
+    }
+
+    @Test
+    void shouldEncodeExactlyLikeTheExpositionFormatWriter() throws IOException {
+        for (Format format : Format.values()) {
+            // When
+            Scrape first = cache.scrape(format, null);
+            prometheus.counter("requests", "route", "/r3", "quote", "say \"hi\"\n").increment();
+            Scrape second = cache.scrape(format, null);
+
+            // Then
+            assertEquals(expected(format), new String(second.identity(), StandardCharsets.UTF_8), format.name());
+            assertNotEquals(new String(first.identity(), StandardCharsets.UTF_8),
+                    new String(second.identity(), StandardCharsets.UTF_8));
+            assertArrayEquals(second.identity(), gunzip(second.gzip()), format.name());
+        }
+    }
+
+    @Test
+    void shouldReencodeOnlyChangedFamilies() {
+        // Given
+        cache.scrape(Format.TEXT_004, null);
+        double encodedBefore = families("encoded");
+
+        // When
+        prometheus.counter("requests", "route", "/r7", "quote", "say \"hi\"\n").increment();
+        cache.scrape(Format.TEXT_004, null);
+
+        // Then: only the requests counter family changed
+        assertEquals(1, families("encoded") - encodedBefore);
+        assertTrue(families("reused") >= 3, "latency, latency_max and temperature families were reused");
+    }
+
+    @Test
+    void shouldShareAnEncodingWithinTheWindow() {
+        // Given
+        ScrapeCacheProperties properties = new ScrapeCacheProperties();
+        properties.setWindow(Duration.ofMinutes(1));
+        PrometheusScrapeCache windowed = new PrometheusScrapeCache(prometheus.getPrometheusRegistry(), properties);
+
+        // When
+        Scrape first = windowed.scrape(Format.TEXT_004, null);
+        prometheus.gauge("temperature", 30.0);
+        Scrape second = windowed.scrape(Format.TEXT_004, null);
+        Scrape restricted = windowed.scrape(Format.TEXT_004, Set.of("temperature"));
+
+        // Then
+        assertSame(first, second);
+        assertTrue(new String(restricted.identity(), StandardCharsets.UTF_8).startsWith("# HELP temperature"));
+        assertFalse(new String(restricted.identity(), StandardCharsets.UTF_8).contains("requests"));
+    }
+
+    @Test
+    void shouldNegotiateTheFormatLikePrometheusAsksForIt() {
+        assertEquals(Format.OPENMETRICS_100, PrometheusScrapeFilter.negotiate(
+                "application/openmetrics-text;version=1.0.0,application/openmetrics-text;version=0.0.1;q=0.75,"
+                        + "text/plain;version=0.0.4;q=0.5,*/*;q=0.1"));
+        assertEquals(Format.TEXT_004, PrometheusScrapeFilter.negotiate("text/plain;version=0.0.4;q=0.9,*/*;q=0.1"));
+        assertEquals(Format.TEXT_004, PrometheusScrapeFilter.negotiate(
+                "text/plain, application/openmetrics-text;q=0.5"));
+        assertEquals(Format.TEXT_004, PrometheusScrapeFilter.negotiate(null));
+        assertEquals(Format.TEXT_004, PrometheusScrapeFilter.negotiate("not a media type"));
+    }
+
+    @Test
+    void shouldServeGzipOnlyWhenTheClientAcceptsIt() throws Exception {
+        // Given
+        PrometheusScrapeFilter filter = new PrometheusScrapeFilter(cache);
+
+        // When
+        MockHttpServletResponse gzip = scrape(filter, "gzip");
+        MockHttpServletResponse refused = scrape(filter, "gzip;q=0.0, identity");
+        MockHttpServletResponse spaced = scrape(filter, "br, gzip; q=0");
+        MockHttpServletResponse none = scrape(filter, null);
+
+        // Then
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        assertEquals(expected(Format.TEXT_004), new String(gunzip(gzip.getContentAsByteArray()), StandardCharsets.UTF_8));
+        assertNull(refused.getHeader("Content-Encoding"));
+        assertNull(spaced.getHeader("Content-Encoding"));
+        assertNull(none.getHeader("Content-Encoding"));
+        assertEquals(expected(Format.TEXT_004), none.getContentAsString());
+    }
+
+    private static MockHttpServletResponse scrape(PrometheusScrapeFilter filter, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String expected(Format format) throws IOException {
+        StringWriter writer = new StringWriter();
+        TextFormat.writeFormat(format.contentType(), writer, prometheus.getPrometheusRegistry().metricFamilySamples());
+        return writer.toString();
+    }
+
+    private double families(String result) {
+        return stats.get("prometheus.scrape.families").tag("result", result).functionCounter().count();
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.company.testingapp.infrastructure.openapi;
+
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Derives the API surface from every {@code @RestController} in the application and fails
+ * the build when {@code docs/api/openapi.yml} no longer describes it. Controllers nested in
+ * test classes and {@link PrecomputedOpenApiController}, which serves the document itself,
+ * are not part of the API.
+ */
+class OpenApiDriftTest {
+
+    private static final String CONTEXT_PATH = "/api";
+    private static final String BASE_PACKAGE = "com.company.testingapp";
+
+    private static JsonNode spec;
+
+    @BeforeAll
+    static void loadSpec() throws IOException {
+        try (InputStream in = new ClassPathResource("openapi/openapi.yml").getInputStream()) {
+            spec = new ObjectMapper(new YAMLFactory()).readTree(in);
+        }
+    }
+
+    @Test
+    void documentedOperationsShouldMatchControllerMappings() throws Exception {
+        // Given
+        Set<String> documented = new TreeSet<>();
+        Iterator<String> paths = spec.path("paths").fieldNames();
+        while (paths.hasNext()) {
+            String path = paths.next();
+            spec.path("paths").path(path).fieldNames()
+                    .forEachRemaining(method -> documented.add(method.toUpperCase(Locale.ROOT) + " " + path));
+        }
+
+        // When
+        Set<String> mapped = controllerOperations();
+
+        // Then
+        assertEquals(mapped, documented, "docs/api/openapi.yml is out of sync with the controllers");
+    }
+
+    @Test
+    void healthResponseSchemaShouldMatchSerializedProperties() {
+        // Given
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        JavaType type = mapper.constructType(HealthResponse.class);
+        Set<String> serialized = new TreeSet<>();
+        for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(type).findProperties()) {
+            serialized.add(property.getName());
+        }
+
+        // When
+        Set<String> documented = new TreeSet<>();
+        spec.path("components").path("schemas").path("HealthResponse").path("properties")
+                .fieldNames().forEachRemaining(documented::add);
+
+        // Then
+        assertEquals(serialized, documented, "HealthResponse schema is out of sync with the DTO");
+    }
+
+    private static Set<String> controllerOperations() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+        scanner.addExcludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*Test\\$.*")));
+        scanner.addExcludeFilter(new AssignableTypeFilter(PrecomputedOpenApiController.class));
+        Set<String> operations = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> controller = Class.forName(candidate.getBeanClassName());
+            RequestMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+            String[] prefixes = typeMapping == null || typeMapping.path().length == 0
+                    ? new String[]{""} : typeMapping.path();
+            for (Method method : controller.getDeclaredMethods()) {
+                RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+                if (mapping == null) {
+                    continue;
+                }
+                String[] suffixes = mapping.path().length == 0 ? new String[]{""} : mapping.path();
+                for (RequestMethod verb : mapping.method()) {
+                    for (String prefix : prefixes) {
+                        for (String suffix : suffixes) {
+                            operations.add(verb.name() + " " + CONTEXT_PATH + prefix + suffix);
+                        }
+                    }
+                }
+            }
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.testingapp.infrastructure.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecomputedOpenApiControllerTest {
+
+    private static final String DOCUMENT = """
+            openapi: 3.0.3
+            info:
+              title: Testing App API
+              version: 1.0.0
+            paths: {}
+            """;
+
+    private final PrecomputedOpenApiController controller = new PrecomputedOpenApiController(
+            new ByteArrayResource(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+
+    PrecomputedOpenApiControllerTest() throws Exception {
+    }
+
+    @Test
+    void shouldServeYamlDocumentAsJson() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        controller.json(new MockHttpServletRequest("GET", "/docs/api/"), response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertEquals("Testing App API", body.path("info").path("title").asText());
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldServeOriginalYamlAndHonourEtag() throws Exception {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.yaml(new MockHttpServletRequest("GET", "/docs/api/.yaml"), first);
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/docs/api/.yaml");
+        conditional.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // When
+        controller.yaml(conditional, second);
+
+        // Then
+        assertEquals(DOCUMENT, first.getContentAsString());
+        assertEquals(304, second.getStatus());
+        assertEquals(0, second.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,201 @@
+package com.company.testingapp.infrastructure.probe;
+
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.infrastructure.services.HealthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnixSocketProbeServerTest {
+
+    @TempDir
+    Path directory;
+
+    private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+    private final StaticApplicationContext context = new StaticApplicationContext();
+    private UnixSocketProbeServer server;
+
+    @BeforeEach
+    void startServer() {
+        UnixSocketProbeProperties properties = new UnixSocketProbeProperties();
+        properties.setPath(directory.resolve("probe.sock"));
+        properties.setCacheTtl(Duration.ofMinutes(1));
+        server = new UnixSocketProbeServer(new HealthServiceImpl(), availability, properties, "/api", "/actuator");
+        publish(LivenessState.CORRECT);
+        publish(ReadinessState.ACCEPTING_TRAFFIC);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void shouldAnswerProbesOnOneKeptAliveConnection() throws IOException {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        server.bindTo(registry);
+
+        try (SocketChannel channel = connect()) {
+            // When
+            String health = exchange(channel, "GET /api/v1/healthcheck HTTP/1.1\r\nHost: localhost\r\n\r\n");
+            String ready = exchange(channel, "GET /api/actuator/health/readiness HTTP/1.1\r\n\r\n");
+            String alive = exchange(channel, "GET /api/actuator/health/liveness HTTP/1.1\r\n\r\n");
+            String missing = exchange(channel, "GET /api/.env HTTP/1.1\r\n\r\n");
+            String post = exchange(channel, "POST /api/v1/healthcheck HTTP/1.1\r\nContent-Length: 0\r\n\r\n");
+
+            // Then
+            assertTrue(health.startsWith("HTTP/1.1 200 OK\r\n"), health);
+            assertTrue(health.contains("\"status\":\"UP\""), health);
+            assertTrue(health.contains("\"service\":\"Testing App\""), health);
+            assertTrue(ready.startsWith("HTTP/1.1 200 OK\r\n") && ready.endsWith("{\"status\":\"UP\"}"), ready);
+            assertTrue(alive.startsWith("HTTP/1.1 200 OK\r\n"), alive);
+            assertTrue(missing.startsWith("HTTP/1.1 404 Not Found\r\n"), missing);
+            assertTrue(post.startsWith("HTTP/1.1 405 Method Not Allowed\r\n"), post);
+        }
+        assertEquals(2, registry.get("probe.uds.requests").tag("probe", "health").functionCounter().count());
+        assertEquals(1, registry.get("probe.uds.requests").tag("probe", "other").functionCounter().count());
+    }
+
+    @Test
+    void shouldReportRefusingTrafficAsSoonAsTheDrainStarts() throws IOException {
+        try (SocketChannel channel = connect()) {
+            // Given
+            exchange(channel, "GET /api/actuator/health/readiness HTTP/1.1\r\n\r\n");
+
+            // When
+            publish(ReadinessState.REFUSING_TRAFFIC);
+            String ready = exchange(channel, "HEAD /api/actuator/health/readiness HTTP/1.1\r\n\r\n");
+
+            // Then
+            assertTrue(ready.startsWith("HTTP/1.1 503 Service Unavailable\r\n"), ready);
+            assertTrue(ready.endsWith("\r\n\r\n"), "HEAD must not send a body: " + ready);
+        }
+    }
+
+    @Test
+    void shouldAnswerPipelinedRequestsAndCloseWhenAsked() throws IOException {
+        try (SocketChannel channel = connect()) {
+            // When
+            channel.write(ascii("GET /api/v1/healthcheck HTTP/1.1\r\n\r\n"
+                    + "GET /api/actuator/health/liveness?verbose HTTP/1.1\r\nConnection: close\r\n\r\n"));
+            String responses = readToEnd(channel);
+
+            // Then
+            assertEquals(2, responses.split("HTTP/1.1 200 OK").length - 1, responses);
+        }
+    }
+
+    @Test
+    void shouldAnswerFromTheLastResultsWhileAHealthCheckIsSlow() throws Exception {
+        // Given: every health check after the first one blocks until released
+        server.stop();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger checks = new AtomicInteger();
+        HealthServiceImpl slow = new HealthServiceImpl() {
+            @Override
+            public HealthResponse getHealthStatus() {
+                if (checks.incrementAndGet() > 1) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getHealthStatus();
+            }
+        };
+        UnixSocketProbeProperties properties = new UnixSocketProbeProperties();
+        properties.setPath(directory.resolve("slow.sock"));
+        properties.setCacheTtl(Duration.ofMillis(10));
+        server = new UnixSocketProbeServer(slow, availability, properties, "/api", "/actuator");
+        server.start();
+
+        try (SocketChannel channel = connect()) {
+            // When
+            Thread.sleep(100);
+            long start = System.nanoTime();
+            String health = exchange(channel, "GET /api/v1/healthcheck HTTP/1.1\r\n\r\n");
+            String ready = exchange(channel, "GET /api/actuator/health/readiness HTTP/1.1\r\n\r\n");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertEquals(2, checks.get(), "The refresher should be stuck in the second check");
+            assertTrue(health.startsWith("HTTP/1.1 200 OK\r\n"), health);
+            assertTrue(ready.startsWith("HTTP/1.1 200 OK\r\n"), ready);
+            assertTrue(elapsedMillis < 1_000, "Probes waited for the health check: " + elapsedMillis + " ms");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRemoveTheSocketFileOnStop() {
+        // Given
+        Path socket = server.path();
+        assertTrue(Files.exists(socket));
+
+        // When
+        server.stop();
+
+        // Then
+        assertFalse(server.isRunning());
+        assertFalse(Files.exists(socket));
+    }
+
+    private void publish(AvailabilityState state) {
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(context, state));
+    }
+
+    private SocketChannel connect() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(server.path()));
+        return channel;
+    }
+
+    /**
+     * Reads one response, relying on every response fitting a single read.
+     */
+    private static String exchange(SocketChannel channel, String request) throws IOException {
+        channel.write(ascii(request));
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        channel.read(buffer);
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    private static String readToEnd(SocketChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (channel.read(buffer) >= 0) {
+            assertTrue(buffer.hasRemaining(), "the server did not close the connection");
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer ascii(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
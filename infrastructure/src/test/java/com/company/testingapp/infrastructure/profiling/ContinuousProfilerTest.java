@@ -0,0 +1,110 @@
+package com.company.testingapp.infrastructure.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuousProfilerTest {
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private ProfilingProperties properties;
+    private ContinuousProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProfilingProperties();
+        properties.setSnapshotDirectory(snapshotDirectory);
+        profiler = new ContinuousProfiler(properties);
+        profiler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.stop();
+    }
+
+    @Test
+    void snapshot_ShouldContainCustomRequestEvents() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            RequestEvent event = new RequestEvent();
+            event.method = "GET";
+            event.route = "/v1/healthcheck";
+            event.status = 200;
+            event.requestDuration = 1_000_000;
+            event.commit();
+        }
+
+        // When
+        Path snapshot = profiler.snapshot();
+        ContinuousProfiler.Summary summary = profiler.summarize(snapshot);
+
+        // Then
+        assertTrue(profiler.isRunning());
+        assertTrue(Files.size(snapshot) > 0);
+        assertEquals(3L, summary.requestsByRoute().get("/v1/healthcheck"));
+        assertEquals(snapshot.getFileName().toString(), summary.snapshot());
+    }
+
+    @Test
+    void listSnapshots_ShouldReturnNewestFirst() throws Exception {
+        // Given
+        Path first = profiler.snapshot();
+        Thread.sleep(5);
+        Path second = profiler.snapshot();
+
+        // When & Then
+        assertEquals(
+                List.of(second.getFileName().toString(), first.getFileName().toString()),
+                profiler.listSnapshots());
+    }
+
+    @Test
+    void snapshot_ShouldNotContainEnvironmentOrSystemProperties() throws Exception {
+        // When
+        Path snapshot = profiler.snapshot();
+
+        // Then
+        Set<String> leaking = Set.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+        for (RecordedEvent event : RecordingFile.readAllEvents(snapshot)) {
+            assertFalse(leaking.contains(event.getEventType().getName()), event.getEventType().getName());
+        }
+    }
+
+    @Test
+    void snapshot_ShouldDeleteTheOldestBeyondMaxSnapshots() throws Exception {
+        // Given
+        properties.setMaxSnapshots(2);
+        Path first = profiler.snapshot();
+        Thread.sleep(5);
+        Path second = profiler.snapshot();
+        Thread.sleep(5);
+
+        // When
+        Path third = profiler.snapshot();
+
+        // Then
+        assertEquals(List.of(third.getFileName().toString(), second.getFileName().toString()),
+                profiler.listSnapshots());
+        assertFalse(Files.exists(first));
+    }
+
+    @Test
+    void resolveSnapshot_ShouldRejectPathTraversal() {
+        assertThrows(IllegalArgumentException.class, () -> profiler.resolveSnapshot("../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> profiler.resolveSnapshot("snapshot-1.jfr/../x"));
+        assertNull(profiler.resolveSnapshot("snapshot-20990101-000000-000.jfr"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.company.testingapp.infrastructure.reload;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuntimeConfigWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private RuntimeConfigStore store;
+    private RuntimeConfigWatcher watcher;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("runtime.yml");
+        RuntimeConfigProperties properties = new RuntimeConfigProperties();
+        properties.setFile(file);
+        properties.setDebounce(Duration.ofMillis(20));
+        properties.setHistorySize(3);
+        store = new RuntimeConfigStore(properties.getHistorySize());
+        watcher = new RuntimeConfigWatcher(store, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void shouldParseAndValidateDocuments() throws IOException {
+        // When
+        RuntimeConfig config = parse("""
+                log-levels:
+                  com.company.testingapp: debug
+                cors:
+                  allowed-origins: [https://console.example.com, "https://*.example.org:8443"]
+                tracing:
+                  sample-rate: 0.25
+                """);
+
+        // Then
+        assertEquals(LogLevel.DEBUG, config.logLevels().get("com.company.testingapp"));
+        assertEquals(List.of("https://console.example.com", "https://*.example.org:8443"), config.corsAllowedOrigins());
+        assertEquals(0.25, config.tracingSampleRate());
+        assertSame(RuntimeConfig.EMPTY, parse(""));
+        assertThrows(IllegalArgumentException.class, () -> parse("log-levels: {root: LOUD}"));
+        assertThrows(IllegalArgumentException.class, () -> parse("cors: {allowed-origins: [example.com/path]}"));
+        assertThrows(IllegalArgumentException.class, () -> parse("tracing: {sample-rate: 2}"));
+        assertThrows(IllegalArgumentException.class, () -> parse("rate-limits: {rps: 10}"));
+    }
+
+    @Test
+    void shouldPublishVersionedSnapshotsAndKeepHistory() {
+        // Given
+        RuntimeConfig debug = new RuntimeConfig(java.util.Map.of("a", LogLevel.DEBUG), List.of(), null);
+        RuntimeCorsConfigurationSource cors = new RuntimeCorsConfigurationSource(store, new CorsConfiguration());
+
+        // When
+        store.apply(debug, "first");
+        store.apply(debug, "unchanged");
+        store.reject("broken", "bad value");
+        RuntimeConfigSnapshot second = store.apply(
+                new RuntimeConfig(java.util.Map.of(), List.of("https://a.example"), 0.5), "second");
+
+        // Then
+        assertEquals(2, second.version());
+        assertSame(second, store.current());
+        List<RuntimeConfigStore.Change> history = store.history();
+        assertEquals(3, history.size());
+        assertEquals(List.of("log-levels.a: DEBUG -> (default)",
+                "cors.allowed-origins: [] -> [https://a.example]",
+                "tracing.sample-rate: (default) -> 0.5"), history.get(0).changes());
+        assertFalse(history.get(1).applied());
+        assertEquals(1, history.get(1).version());
+        assertEquals(List.of("https://a.example"),
+                cors.getCorsConfiguration(new MockHttpServletRequest()).getAllowedOriginPatterns());
+    }
+
+    @Test
+    void shouldReloadWhenTheFileChanges() throws Exception {
+        // Given
+        Files.writeString(file, "tracing:\n  sample-rate: 0.1\n");
+        watcher.start();
+        assertEquals(0.1, store.current().config().tracingSampleRate());
+
+        // When
+        Files.writeString(file, "tracing:\n  sample-rate: 0.9\n");
+        awaitVersion(2);
+        Files.writeString(file, "tracing:\n  sample-rate: nope\n");
+        awaitHistory(3);
+        Files.delete(file);
+        awaitVersion(3);
+
+        // Then
+        assertTrue(watcher.isRunning());
+        assertSame(RuntimeConfig.EMPTY, store.current().config());
+        assertFalse(store.history().get(1).applied(), "The invalid document should be rejected");
+    }
+
+    private void awaitVersion(long version) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (store.current().version() < version && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(version, store.current().version());
+    }
+
+    private void awaitHistory(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (store.history().size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(size, store.history().size());
+    }
+
+    private static RuntimeConfig parse(String yaml) throws IOException {
+        return RuntimeConfig.parse(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+    }
+}
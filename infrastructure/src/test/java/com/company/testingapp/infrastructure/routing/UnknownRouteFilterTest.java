@@ -0,0 +1,169 @@
+package com.company.testingapp.infrastructure.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnknownRouteFilterTest {
+
+    @Test
+    void shouldMatchLiteralGlobAndCatchAllSegments() {
+        // Given
+        RouteTrie routes = RouteTrie.builder()
+                .add("/v1/healthcheck")
+                .add("/v1/users/{id:\\d{1,9}}/orders")
+                .add("/docs/{name}.json")
+                .add("/swagger-ui*/**")
+                .add("/webjars/{*path}")
+                .add("/")
+                .build();
+
+        // Then
+        assertTrue(routes.matches("/v1/healthcheck"));
+        assertTrue(routes.matches("/v1/users/42/orders"));
+        assertTrue(routes.matches("/docs/api.json"));
+        assertTrue(routes.matches("/swagger-ui/index.html"));
+        assertTrue(routes.matches("/swagger-ui"));
+        assertTrue(routes.matches("/webjars/swagger-ui/5.2.0/index.css"));
+        assertTrue(routes.matches("/"));
+        assertFalse(routes.matches("/v1/healthcheck/"));
+        assertFalse(routes.matches("/v1/users/42"));
+        assertFalse(routes.matches("/docs/api.yaml"));
+        assertFalse(routes.matches("/swagger"));
+        assertFalse(routes.matches("/.env"));
+        assertFalse(routes.matches("/wp-login.php"));
+        assertEquals(6, routes.patternCount());
+    }
+
+    @Test
+    void shouldRejectOnlyPathsNoRegisteredRouteCanMatch() throws Exception {
+        // Given
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(WebConfig.class);
+        context.refresh();
+        UnknownRouteFilter filter = context.getBean(UnknownRouteFilter.class);
+
+        // Then
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/v1/items/7").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/assets/app.css").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/internal/anything").getStatus());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, filter(filter, "/v1/items").getStatus());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, filter(filter, "/wp-admin/setup-config.php").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/v1/%69tems/7").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/v1/./x").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "//wp-admin").getStatus());
+        assertEquals(2, context.getBean(SimpleMeterRegistry.class)
+                .get("http.server.requests.unrouted").counter().count());
+        context.close();
+    }
+
+    @Test
+    void shouldPassFilesOfTheCatchAllResourceHandlerAndPassthroughPaths() throws Exception {
+        // Given
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(StaticResourcesWebConfig.class);
+        context.refresh();
+        UnknownRouteFilter filter = context.getBean(UnknownRouteFilter.class);
+
+        // Then: the /** handler is listed file by file instead of matching every path
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/index.html").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/css/site.css").getStatus());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, filter(filter, "/css/missing.css").getStatus());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, filter(filter, "/wp-login.php").getStatus());
+        // and the configured passthrough patterns are let through
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/internal/anything/deeper").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/legacy/report.xml").getStatus());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, filter(filter, "/legacy/report.json").getStatus());
+        assertEquals(HttpServletResponse.SC_OK, filter(filter, "/v1/items/7").getStatus());
+        context.close();
+    }
+
+    @Test
+    void shouldPassEverythingOnUntilTheRoutesAreBuilt() throws Exception {
+        // Given
+        UnknownRouteFilter filter = new UnknownRouteFilter(new AnnotationConfigWebApplicationContext(),
+                new UnknownRouteProperties(), new SimpleMeterRegistry());
+
+        // When
+        MockHttpServletResponse response = filter(filter, "/wp-login.php");
+
+        // Then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+    }
+
+    private static MockHttpServletResponse filter(UnknownRouteFilter filter, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api" + path);
+        request.setContextPath("/api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * Registered explicitly rather than annotated {@code @Configuration}, so that component
+     * scans of the infrastructure package in other tests do not pick it up.
+     */
+    @EnableWebMvc
+    static class WebConfig implements WebMvcConfigurer {
+
+        @Bean
+        ItemController itemController() {
+            return new ItemController();
+        }
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        UnknownRouteFilter unknownRouteFilter(ApplicationContext context, SimpleMeterRegistry registry) {
+            UnknownRouteProperties properties = new UnknownRouteProperties();
+            properties.setPassthrough(List.of("/internal/**", "/legacy/{name}.xml"));
+            return new UnknownRouteFilter(context, properties, registry);
+        }
+
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/assets/**").addResourceLocations("classpath:/assets/");
+        }
+    }
+
+    /**
+     * Spring Boot's default static resource mapping, {@code /**} onto a class path directory.
+     */
+    static class StaticResourcesWebConfig extends WebConfig {
+
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/**").addResourceLocations("classpath:/routing/static/");
+        }
+    }
+
+    @RestController
+    static class ItemController {
+
+        @GetMapping("/v1/items/{id}")
+        String item() {
+            return "item";
+        }
+    }
+}
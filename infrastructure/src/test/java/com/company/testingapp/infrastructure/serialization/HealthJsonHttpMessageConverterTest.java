@@ -0,0 +1,109 @@
+package com.company.testingapp.infrastructure.serialization;
+
+import com.company.testingapp.domain.dto.HealthRecord;
+import com.company.testingapp.domain.dto.HealthRecordJsonWriter;
+import com.company.testingapp.domain.dto.HealthResponse;
+import com.company.testingapp.infrastructure.tracing.Tracer;
+import com.company.testingapp.infrastructure.tracing.TracingProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the generated writer stays byte-identical to the application's Jackson
+ * configuration (spring.jackson.* in application.yml).
+ */
+class HealthJsonHttpMessageConverterTest {
+
+    private final ObjectMapper jackson = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final HealthJsonHttpMessageConverter converter =
+            new HealthJsonHttpMessageConverter(new Tracer(new TracingProperties()));
+
+    @Test
+    void shouldWriteSameBytesAsJackson() throws Exception {
+        for (HealthResponse response : samples()) {
+            // When
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            converter.write(response, MediaType.APPLICATION_JSON, message);
+
+            // Then
+            assertArrayEquals(jackson.writeValueAsBytes(response), message.getBodyAsBytes(), response.toString());
+            assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        }
+    }
+
+    @Test
+    void shouldWriteRecordsAndLeaveReadingToJackson() throws Exception {
+        // Given
+        HealthResponse response = samples().get(0);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        // When
+        converter.write(HealthRecord.from(response), MediaType.APPLICATION_JSON, message);
+
+        // Then
+        assertArrayEquals(jackson.writeValueAsBytes(response), message.getBodyAsBytes());
+        assertFalse(converter.canRead(HealthResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void shouldWriteOnlySelectedFieldsLikeJacksonWithTheOthersNull() throws Exception {
+        for (HealthResponse response : samples()) {
+            // Given
+            HealthResponse sparse = new HealthResponse();
+            sparse.setTimestamp(null);
+            sparse.setStatus(response.getStatus());
+            sparse.setVersion(response.getVersion());
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+            // When
+            converter.write(new HealthFieldset(response, HealthFieldset.parse(" version,status,")),
+                    MediaType.APPLICATION_JSON, message);
+
+            // Then
+            assertArrayEquals(jackson.writeValueAsBytes(sparse), message.getBodyAsBytes(), response.toString());
+        }
+    }
+
+    @Test
+    void shouldParseFieldListsAndMinimalPreference() {
+        // Then
+        assertEquals(HealthFieldset.MINIMAL, HealthFieldset.parse("status"));
+        assertEquals(HealthRecordJsonWriter.FIELD_UPTIME | HealthRecordJsonWriter.FIELD_TIMESTAMP,
+                HealthFieldset.parse("uptime,timestamp"));
+        assertThrows(IllegalArgumentException.class, () -> HealthFieldset.parse("status,secrets"));
+        assertThrows(IllegalArgumentException.class, () -> HealthFieldset.parse(" , "));
+        assertTrue(HealthFieldset.prefersMinimal("return=minimal"));
+        assertTrue(HealthFieldset.prefersMinimal("respond-async, RETURN=minimal; foo=bar"));
+        assertFalse(HealthFieldset.prefersMinimal("return=representation"));
+        assertFalse(HealthFieldset.prefersMinimal(null));
+    }
+
+    private static List<HealthResponse> samples() {
+        HealthResponse detailed = new HealthResponse("UP", "Testing App", "1.0.0",
+                "development", "2h 30m 45s", "All systems operational");
+        HealthResponse basic = new HealthResponse("UP", "Testing App", "1.0.0");
+        HealthResponse empty = new HealthResponse();
+        empty.setTimestamp(null);
+        HealthResponse escaped = new HealthResponse("DOWN", "svc \"quoted\" \\ /path",
+                "1.0.0\u0000\u001f\u007f", "é ü 中文 😀", "\b\f\n\r\t", "line sep");
+        escaped.setTimestamp(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_999));
+        return List.of(detailed, basic, empty, escaped);
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.testingapp.infrastructure.startup;
+
+import com.company.testingapp.infrastructure.controller.HealthController;
+import com.company.testingapp.infrastructure.services.HealthServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupReportTest {
+
+    @Test
+    void shouldChargeBeansTheirSelfTimeAndGroupByAutoConfiguration() throws Exception {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        RootBeanDefinition declared = new RootBeanDefinition();
+        declared.setFactoryBeanName("org.example.WidgetAutoConfiguration$Nested");
+        beanFactory.registerBeanDefinition("widget", declared);
+        beanFactory.registerBeanDefinition("plain", new RootBeanDefinition());
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        startup.startRecording();
+
+        StartupStep outer = bean(startup, "plain");
+        StartupStep inner = bean(startup, "widget");
+        Thread.sleep(60);
+        inner.end();
+        Thread.sleep(5);
+        outer.end();
+
+        // When
+        StartupReport report = StartupReport.of(startup.getBufferedTimeline(), beanFactory, 10);
+
+        // Then
+        assertEquals("widget", report.beans().get(0).name(), "Nested time must not be charged to the outer bean");
+        assertTrue(report.beans().get(1).duration().toMillis() < 60);
+        assertEquals(1, report.autoConfigurations().size());
+        assertEquals("org.example.WidgetAutoConfiguration", report.autoConfigurations().get(0).name());
+        assertTrue(report.format().contains("Slowest auto-configurations:"));
+    }
+
+    @Test
+    void shouldLimitEntries() {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        for (int i = 0; i < 5; i++) {
+            bean(startup, "bean" + i).end();
+        }
+
+        // When
+        StartupReport report = StartupReport.of(startup.getBufferedTimeline(), null, 3);
+
+        // Then
+        assertEquals(3, report.beans().size());
+    }
+
+    @Test
+    void shouldKeepHealthPathAndAllowlistedBeansEager() {
+        // Given
+        HealthPathEagerInitializationFilter filter = new HealthPathEagerInitializationFilter(
+                Set.of("tracer", "java.lang.StringBuilder"));
+
+        // Then
+        assertTrue(filter.isExcluded("healthController", null, HealthController.class));
+        assertTrue(filter.isExcluded("healthServiceImpl", null, HealthServiceImpl.class));
+        assertTrue(filter.isExcluded("tracer", null, Object.class));
+        assertTrue(filter.isExcluded("builder", null, StringBuilder.class));
+        assertFalse(filter.isExcluded("formContentFilter", null, Object.class));
+    }
+
+    private static StartupStep bean(BufferingApplicationStartup startup, String name) {
+        return startup.start(StartupReport.BEAN_INSTANTIATION_STEP).tag("beanName", name);
+    }
+}
@@ -0,0 +1,134 @@
+package com.company.testingapp.infrastructure.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracerTest {
+
+    @Test
+    void startTrace_ShouldNotSampleWhenRateIsZero() {
+        // Given
+        Tracer tracer = new Tracer(properties(0.0, 8));
+
+        // When
+        boolean sampled = tracer.startTrace("REQ-1", "GET", "/v1/healthcheck");
+        try (Tracer.SpanScope span = tracer.span("service")) {
+            // nothing to record
+        }
+        tracer.endTrace(200);
+
+        // Then
+        assertFalse(sampled);
+        assertTrue(tracer.getBuffer().slowest(10).isEmpty());
+    }
+
+    @Test
+    void startTrace_ShouldUnbindATraceLeftOpenWhenNotSampled() {
+        // Given
+        Tracer tracer = new Tracer(properties(1.0, 8));
+        tracer.startTrace("REQ-1", "GET", "/v1/health/history");
+
+        // When
+        tracer.setSampleRate(0.0);
+        boolean sampled = tracer.startTrace("REQ-2", "GET", "/v1/healthcheck");
+        tracer.endTrace(200);
+
+        // Then
+        assertFalse(sampled);
+        assertSame(tracer.span("a"), tracer.span("b"));
+        assertTrue(tracer.getBuffer().slowest(10).isEmpty());
+    }
+
+    @Test
+    void suspend_ShouldMoveTheTraceToAnotherThread() throws Exception {
+        // Given
+        Tracer tracer = new Tracer(properties(1.0, 8));
+        tracer.startTrace("REQ-1", "GET", "/v1/health/history");
+
+        // When
+        Trace suspended = tracer.suspend();
+        Thread resumed = new Thread(() -> {
+            tracer.resume(suspended);
+            tracer.endTrace(200);
+        });
+        resumed.start();
+        resumed.join();
+
+        // Then
+        assertNull(tracer.suspend(), "Nothing should stay bound to the suspending thread");
+        assertEquals(List.of(suspended), tracer.getBuffer().slowest(10));
+    }
+
+    @Test
+    void span_ShouldRecordNestedChildSpans() {
+        // Given
+        Tracer tracer = new Tracer(properties(1.0, 8));
+
+        // When
+        assertTrue(tracer.startTrace("REQ-1", "GET", "/v1/healthcheck"));
+        try (Tracer.SpanScope service = tracer.span("service")) {
+            try (Tracer.SpanScope inner = tracer.span("inner")) {
+                // nested work
+            }
+        }
+        try (Tracer.SpanScope serialization = tracer.span("serialization")) {
+            // sibling work
+        }
+        tracer.endTrace(200);
+
+        // Then
+        List<Trace> traces = tracer.getBuffer().slowest(10);
+        assertEquals(1, traces.size());
+        Trace trace = traces.get(0);
+        assertEquals("REQ-1", trace.getTraceId());
+        assertEquals("/v1/healthcheck", trace.getRoute());
+        assertEquals(200, trace.getStatus());
+        assertEquals(List.of("inner", "service", "serialization"),
+                trace.getSpans().stream().map(Trace.Span::name).toList());
+        assertEquals(List.of(2, 1, 1), trace.getSpans().stream().map(Trace.Span::depth).toList());
+        assertTrue(trace.getDurationNanos() >= trace.getSpans().get(1).durationNanos());
+    }
+
+    @Test
+    void span_ShouldBeNoOpOutsideOfTrace() {
+        // Given
+        Tracer tracer = new Tracer(properties(1.0, 8));
+
+        // When
+        Tracer.SpanScope first = tracer.span("a");
+        Tracer.SpanScope second = tracer.span("b");
+
+        // Then
+        assertSame(first, second, "Unsampled spans should share one no-op scope");
+    }
+
+    @Test
+    void buffer_ShouldKeepOnlyTheMostRecentTracesAndSortBySlowest() throws Exception {
+        // Given
+        Tracer tracer = new Tracer(properties(1.0, 2));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            tracer.startTrace("REQ-" + i, "GET", "/v1/healthcheck");
+            Thread.sleep(i * 5L);
+            tracer.endTrace(200);
+        }
+
+        // Then
+        List<Trace> traces = tracer.getBuffer().slowest(10);
+        assertEquals(2, traces.size());
+        assertEquals("REQ-2", traces.get(0).getTraceId());
+        assertEquals("REQ-1", traces.get(1).getTraceId());
+        assertEquals(1, tracer.getBuffer().slowest(1).size());
+    }
+
+    private TracingProperties properties(double sampleRate, int bufferSize) {
+        TracingProperties properties = new TracingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setBufferSize(bufferSize);
+        return properties;
+    }
+}
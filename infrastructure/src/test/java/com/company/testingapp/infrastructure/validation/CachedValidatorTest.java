@@ -0,0 +1,154 @@
+package com.company.testingapp.infrastructure.validation;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedValidatorTest {
+
+    private static final String INVALID = "{\"name\":\"\",\"code\":\"x\",\"quantity\":0}";
+
+    private final LocalValidatorFactoryBean factory = new LocalValidatorFactoryBean();
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldStopAtTheFirstViolationWhenFailFastIsHinted() {
+        // Given
+        factory.afterPropertiesSet();
+        CachedValidator validator = new CachedValidator(new StaticApplicationContext(), factory);
+        Order order = new Order("", "x", 0);
+
+        // When
+        Errors all = validate(validator, order);
+        Errors first = validate(validator, order, FailFast.Group.class);
+
+        // Then
+        assertEquals(3, all.getFieldErrorCount());
+        assertEquals(1, first.getFieldErrorCount());
+        assertFalse(validate(validator, new Order("a", "abc", 1), FailFast.Group.class).hasErrors());
+    }
+
+    @Test
+    void shouldSkipClassesWithoutConstraints() {
+        // Given
+        factory.afterPropertiesSet();
+        CachedValidator validator = new CachedValidator(new StaticApplicationContext(), factory);
+
+        // Then
+        assertTrue(validator.isConstrained(Order.class));
+        assertFalse(validator.isConstrained(Note.class));
+        assertFalse(validate(validator, new Note(null)).hasErrors());
+        assertNotNull(validator.unwrap(jakarta.validation.Validator.class));
+    }
+
+    @Test
+    void shouldValidateRequestBodiesFailFastPerEndpoint() throws Exception {
+        // Given
+        MockServletContext servletContext = new MockServletContext();
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext);
+        context.register(WebConfig.class);
+        context.refresh();
+        DispatcherServlet servlet = new DispatcherServlet(context);
+        servlet.init(new MockServletConfig(servletContext));
+
+        // When
+        MockHttpServletResponse lenient = post(servlet, "/orders", INVALID);
+        MockHttpServletResponse strict = post(servlet, "/orders/strict", INVALID);
+        MockHttpServletResponse valid = post(servlet, "/orders/strict", "{\"name\":\"a\",\"code\":\"abc\",\"quantity\":2}");
+
+        // Then
+        assertEquals("3", lenient.getContentAsString());
+        assertEquals("1", strict.getContentAsString());
+        assertEquals("accepted", valid.getContentAsString());
+        assertInstanceOf(CachedValidator.class, context.getBean("mvcValidator"));
+        servlet.destroy();
+        context.close();
+    }
+
+    private static Errors validate(CachedValidator validator, Object target, Object... hints) {
+        Errors errors = new BeanPropertyBindingResult(target, "target");
+        validator.validate(target, errors, hints);
+        return errors;
+    }
+
+    private static MockHttpServletResponse post(DispatcherServlet servlet, String path, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response;
+    }
+
+    record Order(@NotBlank String name, @Size(min = 3) String code, @Min(1) int quantity) {
+    }
+
+    record Note(String text) {
+    }
+
+    /**
+     * Registered explicitly rather than annotated {@code @Configuration}, so that component
+     * scans of the infrastructure package in other tests do not pick it up.
+     */
+    @EnableWebMvc
+    @Import(ValidationConfig.class)
+    static class WebConfig {
+
+        @Bean
+        LocalValidatorFactoryBean validatorFactory() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        OrderController orderController() {
+            return new OrderController();
+        }
+    }
+
+    @RestController
+    static class OrderController {
+
+        @PostMapping("/orders")
+        String create(@Valid @RequestBody Order order) {
+            return "accepted";
+        }
+
+        @PostMapping("/orders/strict")
+        String createStrict(@FailFast @RequestBody Order order) {
+            return "accepted";
+        }
+
+        @ExceptionHandler(MethodArgumentNotValidException.class)
+        String invalid(MethodArgumentNotValidException ex) {
+            return Integer.toString(ex.getBindingResult().getFieldErrorCount());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.testingapp.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@code <RecordName>JsonWriter} next to the annotated record at compile time.
+ *
+ * <p>The writer emits the same bytes as the application's Jackson configuration
+ * (SNAKE_CASE names, null fields omitted, dates formatted with {@code @JsonFormat} patterns)
+ * straight into a reusable byte buffer, without reflection or intermediate maps.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonWriter {
+}
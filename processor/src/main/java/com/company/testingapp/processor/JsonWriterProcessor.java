@@ -0,0 +1,211 @@
+package com.company.testingapp.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates allocation-light JSON writers for records annotated with {@link GenerateJsonWriter}.
+ *
+ * <p>Property names follow Jackson: an explicit {@code @JsonProperty} value is used as is,
+ * other names are translated with Jackson's SNAKE_CASE rules. Reference-typed components
+ * that are null are omitted (NON_NULL). Strings are escaped exactly like Jackson's UTF-8
+ * generator, which also writes characters outside the BMP as escaped surrogate pairs.
+ * Supported component types are strings, primitives and their wrappers, enums, and
+ * {@code LocalDate}/{@code LocalTime}/{@code LocalDateTime} (ISO format, or the
+ * {@code @JsonFormat} pattern when one is given).</p>
+ *
+ * <p>Each component gets a {@code FIELD_*} bit, and the writer can be asked to write only
+ * the components selected by a mask of those bits, for sparse fieldsets.</p>
+ */
+@SupportedAnnotationTypes("com.company.testingapp.processor.GenerateJsonWriter")
+public class JsonWriterProcessor extends AbstractProcessor {
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_FORMAT = "com.fasterxml.jackson.annotation.JsonFormat";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@GenerateJsonWriter can only be applied to records");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            Property property = property(component);
+            if (property == null) {
+                return;
+            }
+            properties.add(property);
+        }
+        if (properties.size() > Integer.SIZE) {
+            error(record, "A generated JSON writer selects fields with an int mask and supports at most "
+                    + Integer.SIZE + " components");
+            return;
+        }
+
+        String packageName = ((PackageElement) record.getEnclosingElement()).getQualifiedName().toString();
+        String recordName = record.getSimpleName().toString();
+        String writerName = recordName + "JsonWriter";
+        String source = new WriterSource(packageName, recordName, writerName, properties).render();
+
+        Filer filer = processingEnv.getFiler();
+        try {
+            JavaFileObject file = filer.createSourceFile(packageName + "." + writerName, record);
+            try (Writer out = file.openWriter()) {
+                out.write(source);
+            }
+        } catch (IOException e) {
+            error(record, "Failed to write " + writerName + ": " + e.getMessage());
+        }
+    }
+
+    private Property property(RecordComponentElement component) {
+        ExecutableElement accessor = component.getAccessor();
+        String accessorName = accessor.getSimpleName().toString();
+        String explicitName = annotationValue(accessor, JSON_PROPERTY, "value");
+        String jsonName = explicitName != null && !explicitName.isEmpty()
+                ? explicitName : snakeCase(component.getSimpleName().toString());
+        String pattern = annotationValue(accessor, JSON_FORMAT, "pattern");
+        if (!jsonName.chars().allMatch(c -> c >= 0x20 && c < 0x7F && c != '"' && c != '\\')) {
+            error(component, "Property name must be printable ASCII without quotes or backslashes: " + jsonName);
+            return null;
+        }
+
+        TypeMirror type = component.asType();
+        Kind kind = kind(type);
+        if (kind == null) {
+            error(component, "Unsupported component type for a generated JSON writer: " + type);
+            return null;
+        }
+        if (pattern != null && pattern.isEmpty()) {
+            pattern = null;
+        }
+        return new Property(jsonName, accessorName, kind, pattern);
+    }
+
+    private Kind kind(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case BYTE, SHORT, INT, LONG:
+                return Kind.INTEGER;
+            case FLOAT, DOUBLE:
+                return Kind.DECIMAL;
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getKind() == ElementKind.ENUM) {
+            return Kind.ENUM;
+        }
+        return switch (element.getQualifiedName().toString()) {
+            case "java.lang.String" -> Kind.STRING;
+            case "java.lang.Boolean" -> Kind.BOXED_BOOLEAN;
+            case "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long" -> Kind.BOXED_INTEGER;
+            case "java.lang.Float", "java.lang.Double" -> Kind.BOXED_DECIMAL;
+            case "java.time.LocalDate" -> Kind.LOCAL_DATE;
+            case "java.time.LocalTime" -> Kind.LOCAL_TIME;
+            case "java.time.LocalDateTime" -> Kind.LOCAL_DATE_TIME;
+            default -> null;
+        };
+    }
+
+    private static String annotationValue(Element element, String annotationType, String attribute) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!type.getQualifiedName().contentEquals(annotationType)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Same translation as Jackson's {@code PropertyNamingStrategies.SnakeCaseStrategy}.
+     */
+    static String snakeCase(String name) {
+        StringBuilder result = new StringBuilder(name.length() * 2);
+        boolean wasPrevTranslated = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 || c != '_') {
+                if (Character.isUpperCase(c)) {
+                    if (!wasPrevTranslated && result.length() > 0 && result.charAt(result.length() - 1) != '_') {
+                        result.append('_');
+                    }
+                    c = Character.toLowerCase(c);
+                    wasPrevTranslated = true;
+                } else {
+                    wasPrevTranslated = false;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    enum Kind {
+        STRING, BOOLEAN, BOXED_BOOLEAN, INTEGER, BOXED_INTEGER, DECIMAL, BOXED_DECIMAL,
+        ENUM, LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME;
+
+        boolean nullable() {
+            return this != BOOLEAN && this != INTEGER && this != DECIMAL;
+        }
+
+        boolean temporal() {
+            return this == LOCAL_DATE || this == LOCAL_TIME || this == LOCAL_DATE_TIME;
+        }
+    }
+
+    record Property(String jsonName, String accessor, Kind kind, String pattern) {
+    }
+}
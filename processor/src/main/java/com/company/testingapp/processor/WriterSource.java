@@ -0,0 +1,316 @@
+package com.company.testingapp.processor;
+
+import com.company.testingapp.processor.JsonWriterProcessor.Kind;
+import com.company.testingapp.processor.JsonWriterProcessor.Property;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders the Java source of a generated JSON writer.
+ */
+final class WriterSource {
+
+    private final String packageName;
+    private final String recordName;
+    private final String writerName;
+    private final List<Property> properties;
+    private final StringBuilder out = new StringBuilder(8 * 1024);
+
+    WriterSource(String packageName, String recordName, String writerName, List<Property> properties) {
+        this.packageName = packageName;
+        this.recordName = recordName;
+        this.writerName = writerName;
+        this.properties = properties;
+    }
+
+    String render() {
+        line("package " + packageName + ";");
+        line("");
+        line("import java.io.IOException;");
+        line("import java.io.OutputStream;");
+        line("import java.nio.charset.StandardCharsets;");
+        line("import java.time.format.DateTimeFormatter;");
+        line("import java.util.Arrays;");
+        line("");
+        line("/**");
+        line(" * JSON writer for {@link " + recordName + "}, generated at compile time. Do not edit.");
+        line(" */");
+        line("@javax.annotation.processing.Generated(\"" + JsonWriterProcessor.class.getName() + "\")");
+        line("public final class " + writerName + " {");
+        line("");
+        for (int i = 0; i < properties.size(); i++) {
+            line("    public static final int " + fieldConstant(properties.get(i)) + " = 1 << " + i + ";");
+        }
+        line("    public static final int ALL_FIELDS = " + allFields() + ";");
+        line("");
+        line("    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            line("    private static final byte[] NAME_" + i + " = \"\\\"" + javaEscape(property.jsonName())
+                    + "\\\":\".getBytes(StandardCharsets.UTF_8);");
+            if (property.kind().temporal()) {
+                line("    private static final DateTimeFormatter FORMAT_" + i + " = " + formatter(property) + ";");
+            }
+        }
+        line("");
+        line("    private " + writerName + "() {");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * @return the {@code FIELD_*} bit of the property written as {@code name}, 0 if there is none");
+        line("     */");
+        line("    public static int fieldMask(String name) {");
+        line("        return switch (name) {");
+        for (Property property : properties) {
+            line("            case \"" + javaEscape(property.jsonName()) + "\" -> " + fieldConstant(property) + ";");
+        }
+        line("            default -> 0;");
+        line("        };");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * Writes {@code value} as JSON to {@code out} from a reused per-thread buffer.");
+        line("     */");
+        line("    public static void writeTo(" + recordName + " value, OutputStream out) throws IOException {");
+        line("        writeTo(value, ALL_FIELDS, out);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * Writes only the properties of {@code value} whose {@code FIELD_*} bits are set in");
+        line("     * {@code fields}; the others are skipped as if they were null.");
+        line("     */");
+        line("    public static void writeTo(" + recordName + " value, int fields, OutputStream out) throws IOException {");
+        line("        Buffer buffer = encode(value, fields);");
+        line("        out.write(buffer.bytes, 0, buffer.length);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * @return the JSON encoding of {@code value} as UTF-8 bytes");
+        line("     */");
+        line("    public static byte[] toBytes(" + recordName + " value) {");
+        line("        return toBytes(value, ALL_FIELDS);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * @return the JSON encoding of the properties of {@code value} selected by {@code fields}");
+        line("     */");
+        line("    public static byte[] toBytes(" + recordName + " value, int fields) {");
+        line("        Buffer buffer = encode(value, fields);");
+        line("        return Arrays.copyOf(buffer.bytes, buffer.length);");
+        line("    }");
+        line("");
+        line("    private static Buffer encode(" + recordName + " value, int fields) {");
+        line("        Buffer buffer = BUFFER.get();");
+        line("        buffer.reset();");
+        line("        if (value == null) {");
+        line("            buffer.ascii(\"null\");");
+        line("            return buffer;");
+        line("        }");
+        line("        buffer.put((byte) '{');");
+        line("        boolean comma = false;");
+        for (int i = 0; i < properties.size(); i++) {
+            property(i, properties.get(i));
+        }
+        line("        buffer.put((byte) '}');");
+        line("        return buffer;");
+        line("    }");
+        line("");
+        buffer();
+        line("}");
+        return out.toString();
+    }
+
+    private void property(int index, Property property) {
+        String local = "v" + index;
+        String indent = "            ";
+        line("        if ((fields & " + fieldConstant(property) + ") != 0) {");
+        line(indent + "var " + local + " = value." + property.accessor() + "();");
+        if (property.kind().nullable()) {
+            line(indent + "if (" + local + " != null) {");
+            indent += "    ";
+        }
+        line(indent + "if (comma) {");
+        line(indent + "    buffer.put((byte) ',');");
+        line(indent + "}");
+        line(indent + "buffer.raw(NAME_" + index + ");");
+        line(indent + valueStatement(index, property.kind(), local));
+        line(indent + "comma = true;");
+        if (property.kind().nullable()) {
+            line("            }");
+        }
+        line("        }");
+    }
+
+    private static String fieldConstant(Property property) {
+        return "FIELD_" + JsonWriterProcessor.snakeCase(property.accessor()).toUpperCase(Locale.ROOT);
+    }
+
+    private String allFields() {
+        return properties.size() == Integer.SIZE ? "-1" : "0x" + Integer.toHexString((1 << properties.size()) - 1);
+    }
+
+    private static String valueStatement(int index, Kind kind, String local) {
+        return switch (kind) {
+            case STRING -> "buffer.string(" + local + ");";
+            case BOOLEAN, BOXED_BOOLEAN -> "buffer.ascii(" + local + " ? \"true\" : \"false\");";
+            case INTEGER -> "buffer.number(" + local + ");";
+            case BOXED_INTEGER -> "buffer.number(" + local + ".longValue());";
+            case DECIMAL, BOXED_DECIMAL -> "buffer.decimal(" + local + ", String.valueOf(" + local + "));";
+            case ENUM -> "buffer.string(" + local + ".name());";
+            case LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME -> "buffer.temporal(FORMAT_" + index + ", " + local + ");";
+        };
+    }
+
+    private static String formatter(Property property) {
+        if (property.pattern() != null) {
+            return "DateTimeFormatter.ofPattern(\"" + javaEscape(property.pattern()) + "\")";
+        }
+        return switch (property.kind()) {
+            case LOCAL_DATE -> "DateTimeFormatter.ISO_LOCAL_DATE";
+            case LOCAL_TIME -> "DateTimeFormatter.ISO_LOCAL_TIME";
+            default -> "DateTimeFormatter.ISO_LOCAL_DATE_TIME";
+        };
+    }
+
+    /**
+     * The growable output buffer and Jackson-compatible string escaping, emitted into
+     * every writer so generated code has no runtime dependency on this module.
+     */
+    private void buffer() {
+        line("    private static final class Buffer {");
+        line("");
+        line("        private static final byte[] HEX = \"0123456789ABCDEF\".getBytes(StandardCharsets.US_ASCII);");
+        line("        private static final int MAX_RETAINED = 64 * 1024;");
+        line("");
+        line("        private byte[] bytes = new byte[512];");
+        line("        private int length;");
+        line("        private final StringBuilder scratch = new StringBuilder(32);");
+        line("        private final byte[] digits = new byte[20];");
+        line("");
+        line("        void reset() {");
+        line("            if (bytes.length > MAX_RETAINED) {");
+        line("                bytes = new byte[512];");
+        line("            }");
+        line("            length = 0;");
+        line("        }");
+        line("");
+        line("        void put(byte b) {");
+        line("            if (length == bytes.length) {");
+        line("                bytes = Arrays.copyOf(bytes, bytes.length << 1);");
+        line("            }");
+        line("            bytes[length++] = b;");
+        line("        }");
+        line("");
+        line("        void raw(byte[] value) {");
+        line("            if (length + value.length > bytes.length) {");
+        line("                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, length + value.length));");
+        line("            }");
+        line("            System.arraycopy(value, 0, bytes, length, value.length);");
+        line("            length += value.length;");
+        line("        }");
+        line("");
+        line("        void ascii(String value) {");
+        line("            for (int i = 0, n = value.length(); i < n; i++) {");
+        line("                put((byte) value.charAt(i));");
+        line("            }");
+        line("        }");
+        line("");
+        line("        void number(long value) {");
+        line("            if (value == Long.MIN_VALUE) {");
+        line("                ascii(Long.toString(value));");
+        line("                return;");
+        line("            }");
+        line("            if (value < 0) {");
+        line("                put((byte) '-');");
+        line("                value = -value;");
+        line("            }");
+        line("            int count = 0;");
+        line("            do {");
+        line("                digits[count++] = (byte) ('0' + (int) (value % 10));");
+        line("                value /= 10;");
+        line("            } while (value != 0);");
+        line("            while (count > 0) {");
+        line("                put(digits[--count]);");
+        line("            }");
+        line("        }");
+        line("");
+        line("        void decimal(double value, String text) {");
+        line("            if (Double.isNaN(value) || Double.isInfinite(value)) {");
+        line("                string(text);");
+        line("            } else {");
+        line("                ascii(text);");
+        line("            }");
+        line("        }");
+        line("");
+        line("        void temporal(DateTimeFormatter formatter, java.time.temporal.TemporalAccessor value) {");
+        line("            scratch.setLength(0);");
+        line("            formatter.formatTo(value, scratch);");
+        line("            string(scratch);");
+        line("        }");
+        line("");
+        line("        void string(CharSequence value) {");
+        line("            put((byte) '\"');");
+        line("            for (int i = 0, n = value.length(); i < n; i++) {");
+        line("                char c = value.charAt(i);");
+        line("                if (c >= 0x20 && c < 0x80 && c != '\"' && c != '\\\\') {");
+        line("                    put((byte) c);");
+        line("                } else if (c == '\"' || c == '\\\\') {");
+        line("                    put((byte) '\\\\');");
+        line("                    put((byte) c);");
+        line("                } else if (c < 0x20) {");
+        line("                    escapeControl(c);");
+        line("                } else if (c < 0x800) {");
+        line("                    put((byte) (0xC0 | (c >> 6)));");
+        line("                    put((byte) (0x80 | (c & 0x3F)));");
+        line("                } else if (Character.isSurrogate(c)) {");
+        line("                    put((byte) '\\\\');");
+        line("                    unicodeEscape(c);");
+        line("                } else {");
+        line("                    put((byte) (0xE0 | (c >> 12)));");
+        line("                    put((byte) (0x80 | ((c >> 6) & 0x3F)));");
+        line("                    put((byte) (0x80 | (c & 0x3F)));");
+        line("                }");
+        line("            }");
+        line("            put((byte) '\"');");
+        line("        }");
+        line("");
+        line("        private void escapeControl(char c) {");
+        line("            put((byte) '\\\\');");
+        line("            switch (c) {");
+        line("                case '\\b' -> put((byte) 'b');");
+        line("                case '\\t' -> put((byte) 't');");
+        line("                case '\\n' -> put((byte) 'n');");
+        line("                case '\\f' -> put((byte) 'f');");
+        line("                case '\\r' -> put((byte) 'r');");
+        line("                default -> unicodeEscape(c);");
+        line("            }");
+        line("        }");
+        line("");
+        line("        private void unicodeEscape(char c) {");
+        line("            put((byte) 'u');");
+        line("            put(HEX[c >> 12]);");
+        line("            put(HEX[(c >> 8) & 0xF]);");
+        line("            put(HEX[(c >> 4) & 0xF]);");
+        line("            put(HEX[c & 0xF]);");
+        line("        }");
+        line("    }");
+    }
+
+    private static String javaEscape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private void line(String text) {
+        out.append(text).append('\n');
+    }
+}